@@ -0,0 +1,126 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobbridge.jobbridge_backend.util.MatchScores;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * AI 매칭 응답 처리 벤치마크 (후보 100k건에서 상위 5개)
+ * - legacy*: Map 으로 역직렬화 후 전체 정렬 (변경 전 매칭 서비스 방식)
+ * - primitive*: {@link MatchScores} 스트리밍 디코딩 + {@link TopK}
+ * 선택만 비교하는 select* 와 응답 바이트부터 재는 decodeAndSelect* 로 나눈다.
+ * 할당량 비교: ./gradlew jmh -Pjmh.profilers=gc  (gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchSelectionBenchmark {
+
+    private static final int K = 5;
+
+    @Param("100000")
+    private int candidates;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] responseJson;
+    private List<Map<String, Object>> decodedMaps;
+    private MatchScores decodedScores;
+
+    @Setup
+    public void prepare() throws IOException {
+        SplittableRandom random = new SplittableRandom(7);
+        StringBuilder json = new StringBuilder(candidates * 40).append("{\"results\":[");
+        for (int i = 0; i < candidates; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"job_id\":").append(100_000 + i)
+                    .append(",\"score\":").append(random.nextDouble()).append('}');
+        }
+        responseJson = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+        decodedMaps = legacyDecode();
+        decodedScores = streamingDecode();
+    }
+
+    @Benchmark
+    public List<Long> selectLegacySort() {
+        return legacySelect(decodedMaps);
+    }
+
+    @Benchmark
+    public long[] selectPrimitiveTopK() {
+        return primitiveSelect(decodedScores);
+    }
+
+    @Benchmark
+    public List<Long> decodeAndSelectLegacy() throws IOException {
+        return legacySelect(legacyDecode());
+    }
+
+    @Benchmark
+    public long[] decodeAndSelectPrimitive() throws IOException {
+        return primitiveSelect(streamingDecode());
+    }
+
+    // 변경 전 JobMatchService/ResumeMatchService 의 정렬 그대로
+    private static List<Long> legacySelect(List<Map<String, Object>> responses) {
+        List<Map<String, Object>> top = responses.stream()
+                .sorted((a, b) -> Double.compare(
+                        ((Number) b.get("score")).doubleValue(),
+                        ((Number) a.get("score")).doubleValue()
+                ))
+                .limit(K)
+                .collect(Collectors.toList());
+        List<Long> ids = new ArrayList<>(K);
+        for (Map<String, Object> entry : top) {
+            ids.add(((Number) entry.get("job_id")).longValue());
+        }
+        return ids;
+    }
+
+    private static long[] primitiveSelect(MatchScores scores) {
+        TopK top = new TopK(K);
+        for (int i = 0; i < scores.size(); i++) {
+            double score = scores.score(i);
+            if (score > top.threshold()) {
+                top.offer(scores.id(i), score);
+            }
+        }
+        return top.ids();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> legacyDecode() throws IOException {
+        Map<String, Object> body = objectMapper.readValue(responseJson, Map.class);
+        return (List<Map<String, Object>>) body.get("results");
+    }
+
+    private MatchScores streamingDecode() throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(responseJson)) {
+            return MatchScores.read(parser, candidates);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.jobbridge.jobbridge_backend.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상세 본문 정제 벤치마크: 기존 cleanHtml 정규식 체인 vs {@link HtmlTextConverter}
+ * 녹화된 원티드 상세 페이지(src/test/resources/wanted)에서 span/div 조각을 뽑아 페이지 단위로 변환한다.
+ * 할당량 비교: ./gradlew jmh -Pjmh.profilers=gc  (gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HtmlTextConverterBenchmark {
+
+    private static final String SPAN_OPEN = "<span class=\"wds-h4ga6o\">";
+    private static final String DIV_OPEN = "<div class=\"JobDescription_JobDescription__paragraph__87w8I\">";
+
+    private final List<List<String>> pages = new ArrayList<>();
+    private final StringBuilder reused = new StringBuilder(8192);
+
+    @Setup
+    public void loadCorpus() throws IOException {
+        for (String id : readResource("wanted/corpus.txt").split("\n")) {
+            id = id.trim();
+            if (id.isEmpty() || id.startsWith("#")) continue;
+            String html = readResource("wanted/" + id + ".html");
+            List<String> fragments = new ArrayList<>();
+            collect(html, SPAN_OPEN, "</span>", fragments);
+            collect(html, DIV_OPEN, "</div>", fragments);
+            pages.add(fragments);
+        }
+        if (pages.isEmpty()) {
+            throw new IllegalStateException("녹화된 페이지가 없습니다: wanted/corpus.txt");
+        }
+    }
+
+    @Benchmark
+    public void legacyRegexChain(Blackhole bh) {
+        for (List<String> fragments : pages) {
+            StringBuilder fullText = new StringBuilder();
+            for (String raw : fragments) {
+                fullText.append(legacyCleanHtml(raw)).append("\n\n");
+            }
+            bh.consume(fullText.toString().trim());
+        }
+    }
+
+    @Benchmark
+    public void singlePassConverter(Blackhole bh) {
+        for (List<String> fragments : pages) {
+            reused.setLength(0);
+            for (String raw : fragments) {
+                HtmlTextConverter.appendText(raw, reused);
+                reused.append("\n\n");
+            }
+            bh.consume(reused.toString().trim());
+        }
+    }
+
+    // 변경 전 JobPostingService.cleanHtml 그대로
+    private static String legacyCleanHtml(String html) {
+        return html.replaceAll("(?i)<br\\s*/?>", "\n")
+                .replaceAll("(?i)<li>", "• ")
+                .replaceAll("(?i)</li>", "\n")
+                .replaceAll("<[^>]+>", "")
+                .replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&amp;", "&")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .trim();
+    }
+
+    private static void collect(String html, String open, String close, List<String> out) {
+        int idx = 0;
+        while ((idx = html.indexOf(open, idx)) != -1) {
+            int start = idx + open.length();
+            int end = html.indexOf(close, start);
+            if (end == -1) break;
+            out.add(html.substring(start, end));
+            idx = end + close.length();
+        }
+    }
+
+    private static String readResource(String path) throws IOException {
+        try (InputStream in = HtmlTextConverterBenchmark.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IOException("리소스 없음: " + path);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
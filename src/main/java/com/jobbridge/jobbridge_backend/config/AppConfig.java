@@ -6,8 +6,22 @@ import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class AppConfig {
+
+    // AI 서버 호출용 (AiHttpClient)
+    @Bean
+    public RestTemplate aiRestTemplate(PooledHttpClients pooledHttpClients) {
+        return new RestTemplate(pooledHttpClients.requestFactory("ai"));
+    }
+
+    // AI 서버 논블로킹 호출용 (AiHttpClient 의 *Async 메서드)
+    @Bean
+    public PooledHttpClients.AsyncHttp aiAsyncHttp(PooledHttpClients pooledHttpClients) {
+        return pooledHttpClients.asyncClient("ai");
+    }
+
+    // 크롤링 대상 호출용 (CrawlerEngine)
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate crawlerRestTemplate(PooledHttpClients pooledHttpClients) {
+        return new RestTemplate(pooledHttpClients.requestFactory("crawler"));
     }
 }
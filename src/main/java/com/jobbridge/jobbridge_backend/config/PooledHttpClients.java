@@ -0,0 +1,368 @@
+package com.jobbridge.jobbridge_backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 이름별 HTTP 클라이언트 (AI 서버용 "ai", 크롤링 대상용 "crawler")
+ * 클라이언트마다 연결 풀을 따로 두어 한쪽이 느려져도 다른 쪽 연결을 빼앗지 않는다.
+ * 설정은 http.client.{이름}.* (없으면 이름별 기본값)
+ * - max-total / max-per-route: 풀 크기
+ * - connect-timeout / read-timeout: 연결 / 응답 대기(소켓) 시간
+ * - total-timeout: 요청 1건 전체 (응답 본문을 다 읽을 때까지), 넘으면 요청을 끊는다
+ * - pool-wait: 풀에서 연결을 빌리기까지 최대 대기
+ * - http2: true 면 JDK HttpClient 로 HTTP/2 사용 (이때는 풀 크기/풀 지표가 적용되지 않음)
+ * 풀 지표: httpcomponents.httpclient.pool.* (httpclient 태그), 연결 대기 시간 http.client.pool.wait
+ * 비동기 클라이언트({@link #asyncClient})는 같은 설정으로 별도 풀("{이름}-async")을 쓰며,
+ * 응답을 기다리는 동안 스레드를 점유하지 않는다 (I/O 스레드 http.client.{이름}.io-threads 개).
+ */
+@Slf4j
+@Component
+public class PooledHttpClients {
+
+    private static final Map<String, Settings> DEFAULTS = Map.of(
+            "ai", new Settings(64, 64, Duration.ofSeconds(2), Duration.ofSeconds(20),
+                    Duration.ofSeconds(60), Duration.ofSeconds(2), false),
+            // 호스트별 요청 속도는 HostRateLimiter 가 제한하므로 경로당 연결은 적게
+            "crawler", new Settings(32, 8, Duration.ofSeconds(5), Duration.ofSeconds(15),
+                    Duration.ofSeconds(30), Duration.ofSeconds(5), false));
+
+    private final Environment environment;
+    private final MeterRegistry registry;
+    private final List<Closeable> clients = new CopyOnWriteArrayList<>();
+    private final ScheduledThreadPoolExecutor deadlines;
+
+    public PooledHttpClients(Environment environment, MeterRegistry registry) {
+        this.environment = environment;
+        this.registry = registry;
+        // 전체 시간 초과 감시 (요청마다 취소 예약 1건) + 유휴 연결 정리
+        this.deadlines = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "http-deadline");
+            t.setDaemon(true);
+            return t;
+        });
+        this.deadlines.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * 이름에 해당하는 요청 팩토리 생성 (RestTemplate 빈마다 한 번)
+     */
+    public ClientHttpRequestFactory requestFactory(String name) {
+        Settings settings = settings(name);
+        if (settings.http2()) {
+            return jdkFactory(name, settings);
+        }
+
+        PoolingHttpClientConnectionManager pool = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.maxTotal())
+                .setMaxConnPerRoute(settings.maxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(settings.connectTimeout()))
+                        .setSocketTimeout(Timeout.of(settings.readTimeout()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(pool, name).bindTo(registry);
+        Timer waitTimer = Timer.builder("http.client.pool.wait")
+                .tag("client", name)
+                .description("연결 풀에서 연결을 빌리기까지 걸린 시간")
+                .register(registry);
+
+        CloseableHttpClient client = HttpClients.custom()
+                .setConnectionManager(new TimedConnectionManager(pool, waitTimer))
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(settings.poolWait()))
+                        .setResponseTimeout(Timeout.of(settings.readTimeout()))
+                        .build())
+                .build();
+        clients.add(client);
+        // 위임 관리자를 쓰므로 빌더의 유휴 연결 정리 대신 직접 정리
+        deadlines.scheduleWithFixedDelay(() -> {
+            pool.closeExpired();
+            pool.closeIdle(TimeValue.ofSeconds(30));
+        }, 10, 10, TimeUnit.SECONDS);
+        log.info("[HTTP] {} 클라이언트: 풀 {}/{} (경로당), 연결 {}ms, 응답 {}ms, 전체 {}ms",
+                name, settings.maxTotal(), settings.maxPerRoute(), settings.connectTimeout().toMillis(),
+                settings.readTimeout().toMillis(), settings.totalTimeout().toMillis());
+        return new DeadlineRequestFactory(client, settings.totalTimeout());
+    }
+
+    /**
+     * 이름에 해당하는 비동기(논블로킹) 클라이언트 생성 - http2 설정이면 HTTP/2 협상 (TLS ALPN)
+     */
+    public AsyncHttp asyncClient(String name) {
+        Settings settings = settings(name);
+        PoolingAsyncClientConnectionManager pool = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.maxTotal())
+                .setMaxConnPerRoute(settings.maxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(settings.connectTimeout()))
+                        .setSocketTimeout(Timeout.of(settings.readTimeout()))
+                        .build())
+                .setDefaultTlsConfig(TlsConfig.custom()
+                        .setVersionPolicy(settings.http2() ? HttpVersionPolicy.NEGOTIATE : HttpVersionPolicy.FORCE_HTTP_1)
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(pool, name + "-async").bindTo(registry);
+
+        CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+                .setConnectionManager(pool)
+                .setIOReactorConfig(IOReactorConfig.custom()
+                        .setIoThreadCount(environment.getProperty("http.client." + name + ".io-threads", Integer.class, 2))
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(settings.poolWait()))
+                        .setResponseTimeout(Timeout.of(settings.readTimeout()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+        client.start();
+        clients.add(client);
+        return new AsyncHttp(client, settings.totalTimeout());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deadlines.shutdownNow();
+        for (Closeable client : clients) {
+            try {
+                client.close();
+            } catch (IOException e) {
+                log.debug("[HTTP] 클라이언트 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private ClientHttpRequestFactory jdkFactory(String name, Settings settings) {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2) // 서버가 지원하지 않으면 HTTP/1.1 로 내려간다
+                .connectTimeout(settings.connectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(client);
+        // JDK 클라이언트의 요청 시간 제한은 응답 헤더까지이므로 전체 시간으로 둔다
+        factory.setReadTimeout(settings.totalTimeout());
+        log.info("[HTTP] {} 클라이언트: HTTP/2 (JDK HttpClient), 연결 {}ms, 전체 {}ms",
+                name, settings.connectTimeout().toMillis(), settings.totalTimeout().toMillis());
+        return factory;
+    }
+
+    private Settings settings(String name) {
+        Settings d = DEFAULTS.getOrDefault(name, DEFAULTS.get("ai"));
+        String prefix = "http.client." + name + ".";
+        Settings settings = new Settings(
+                environment.getProperty(prefix + "max-total", Integer.class, d.maxTotal()),
+                environment.getProperty(prefix + "max-per-route", Integer.class, d.maxPerRoute()),
+                environment.getProperty(prefix + "connect-timeout", Duration.class, d.connectTimeout()),
+                environment.getProperty(prefix + "read-timeout", Duration.class, d.readTimeout()),
+                environment.getProperty(prefix + "total-timeout", Duration.class, d.totalTimeout()),
+                environment.getProperty(prefix + "pool-wait", Duration.class, d.poolWait()),
+                environment.getProperty(prefix + "http2", Boolean.class, d.http2()));
+        if (settings.maxTotal() <= 0 || settings.maxPerRoute() <= 0) {
+            throw new IllegalArgumentException(prefix + "max-total / max-per-route 는 1 이상이어야 합니다");
+        }
+        return settings;
+    }
+
+    /**
+     * 비동기 클라이언트 + 전체 시간 제한 (응답 본문은 메모리에 모아 한 번에 전달)
+     */
+    public static final class AsyncHttp {
+
+        private final CloseableHttpAsyncClient client;
+        private final long totalTimeoutMillis;
+
+        AsyncHttp(CloseableHttpAsyncClient client, Duration totalTimeout) {
+            this.client = client;
+            this.totalTimeoutMillis = totalTimeout.toMillis();
+        }
+
+        /**
+         * 상태 코드와 관계없이 응답을 그대로 전달 (연결 실패·시간 초과는 ResourceAccessException)
+         * 반환된 future 를 취소하면 요청도 중단된다.
+         */
+        public CompletableFuture<SimpleHttpResponse> execute(SimpleHttpRequest request) {
+            CompletableFuture<SimpleHttpResponse> result = new CompletableFuture<>();
+            Future<SimpleHttpResponse> exchange = client.execute(request, new FutureCallback<>() {
+                @Override
+                public void completed(SimpleHttpResponse response) {
+                    result.complete(response);
+                }
+
+                @Override
+                public void failed(Exception ex) {
+                    result.completeExceptionally(new ResourceAccessException(
+                            "I/O error on " + request.getMethod() + " " + request.getRequestUri() + ": " + ex.getMessage(),
+                            ex instanceof IOException io ? io : new IOException(ex)));
+                }
+
+                @Override
+                public void cancelled() {
+                    result.cancel(false);
+                }
+            });
+            if (totalTimeoutMillis > 0) {
+                CompletableFuture.delayedExecutor(totalTimeoutMillis, TimeUnit.MILLISECONDS).execute(() -> {
+                    if (result.completeExceptionally(new ResourceAccessException(
+                            "Total timeout " + totalTimeoutMillis + "ms on " + request.getRequestUri()))) {
+                        exchange.cancel(true);
+                    }
+                });
+            }
+            result.whenComplete((response, error) -> {
+                if (result.isCancelled()) {
+                    exchange.cancel(true);
+                }
+            });
+            return result;
+        }
+    }
+
+    private record Settings(int maxTotal, int maxPerRoute, Duration connectTimeout, Duration readTimeout,
+                            Duration totalTimeout, Duration poolWait, boolean http2) {
+    }
+
+    /**
+     * 요청마다 전체 시간 초과 시 취소를 예약 (이미 끝난 요청의 취소는 아무 일도 하지 않는다)
+     */
+    private final class DeadlineRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+        private final long totalTimeoutMillis;
+
+        DeadlineRequestFactory(CloseableHttpClient client, Duration totalTimeout) {
+            super(client);
+            this.totalTimeoutMillis = totalTimeout.toMillis();
+        }
+
+        @Override
+        protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+            ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+            if (totalTimeoutMillis > 0 && request instanceof Cancellable) {
+                // 요청 본문을 붙잡아 두지 않도록 약한 참조만 보관
+                WeakReference<Cancellable> ref = new WeakReference<>((Cancellable) request);
+                deadlines.schedule(() -> {
+                    Cancellable cancellable = ref.get();
+                    if (cancellable != null) {
+                        cancellable.cancel();
+                    }
+                }, totalTimeoutMillis, TimeUnit.MILLISECONDS);
+            }
+            return request;
+        }
+    }
+
+    /**
+     * 풀에서 연결을 빌리는 데 걸린 시간을 재는 위임 연결 관리자
+     */
+    private static final class TimedConnectionManager implements HttpClientConnectionManager {
+
+        private final PoolingHttpClientConnectionManager delegate;
+        private final Timer waitTimer;
+
+        TimedConnectionManager(PoolingHttpClientConnectionManager delegate, Timer waitTimer) {
+            this.delegate = delegate;
+            this.waitTimer = waitTimer;
+        }
+
+        @Override
+        public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+            LeaseRequest lease = delegate.lease(id, route, requestTimeout, state);
+            return new LeaseRequest() {
+                @Override
+                public ConnectionEndpoint get(Timeout timeout)
+                        throws InterruptedException, ExecutionException, TimeoutException {
+                    long start = System.nanoTime();
+                    try {
+                        return lease.get(timeout);
+                    } finally {
+                        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                }
+
+                @Override
+                public boolean cancel() {
+                    return lease.cancel();
+                }
+            };
+        }
+
+        @Override
+        public void release(ConnectionEndpoint endpoint, Object newState, TimeValue validDuration) {
+            delegate.release(endpoint, newState, validDuration);
+        }
+
+        @Override
+        public void connect(ConnectionEndpoint endpoint, TimeValue connectTimeout, HttpContext context)
+                throws IOException {
+            delegate.connect(endpoint, connectTimeout, context);
+        }
+
+        @Override
+        public void upgrade(ConnectionEndpoint endpoint, HttpContext context) throws IOException {
+            delegate.upgrade(endpoint, context);
+        }
+
+        @Override
+        public void close(CloseMode closeMode) {
+            delegate.close(closeMode);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.jobbridge.jobbridge_backend.entity.User;
 import com.jobbridge.jobbridge_backend.repository.UserRepository;
 import com.jobbridge.jobbridge_backend.security.JwtAuthenticationFilter;
 import com.jobbridge.jobbridge_backend.security.UserDetailsImpl;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -39,6 +40,9 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(SSE 등)의 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+
                         // 인증이 필요 없는 공개 API 엔드포인트
                         .requestMatchers(
                                 "/api/user/login",
@@ -51,8 +55,8 @@ public class SecurityConfig {
                         ).permitAll()
 
                         .requestMatchers("/api/resume/**").hasAuthority("ROLE_INDIVIDUAL")
-                        .requestMatchers("/api/match/jobs").hasAuthority("ROLE_INDIVIDUAL")      // 개인: 추천 채용공고
-                        .requestMatchers("/api/match/resumes").hasAuthority("ROLE_COMPANY")      // 기업: 추천 이력서
+                        .requestMatchers("/api/match/jobs", "/api/match/jobs/async/**").hasAuthority("ROLE_INDIVIDUAL")      // 개인: 추천 채용공고
+                        .requestMatchers("/api/match/resumes", "/api/match/resumes/async/**").hasAuthority("ROLE_COMPANY")      // 기업: 추천 이력서
                         .requestMatchers("/api/match/career").hasAnyAuthority("ROLE_INDIVIDUAL", "ROLE_COMPANY")  // 둘 다
 
                         // 채용공고 접근 권한 수정 - 조회는 모두 허용, 등록/수정/삭제는 COMPANY만 허용
@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -17,23 +18,24 @@ public class CareerRecommendationController {
     private final CareerRecommendationService recommendationService;
     private final JwtTokenProvider jwtTokenProvider;
 
+    // AI 서버 응답을 기다리는 동안 요청 스레드를 반납 (Servlet 비동기 처리)
     @GetMapping("/career")
-    public ResponseEntity<List<String>> recommendCareer(
+    public CompletableFuture<ResponseEntity<List<String>>> recommendCareer(
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @RequestParam Long resumeId,
             @RequestParam Long jobPostingId) {
 
         // JWT 검증 (기존 방식 재사용)
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            return ResponseEntity.badRequest().build();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
         }
         String token = authHeader.substring(7);
         if (!jwtTokenProvider.validateToken(token)) {
-            return ResponseEntity.status(401).build();
+            return CompletableFuture.completedFuture(ResponseEntity.status(401).build());
         }
 
         // 서비스 호출
-        List<String> path = recommendationService.getRecommendationPath(resumeId, jobPostingId);
-        return ResponseEntity.ok(path);
+        return recommendationService.getRecommendationPathAsync(resumeId, jobPostingId)
+                .thenApply(ResponseEntity::ok);
     }
 }
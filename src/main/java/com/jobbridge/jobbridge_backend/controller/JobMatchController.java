@@ -2,14 +2,21 @@ package com.jobbridge.jobbridge_backend.controller;
 
 import com.jobbridge.jobbridge_backend.dto.JobDto;
 import com.jobbridge.jobbridge_backend.entity.JobPosting;
+import com.jobbridge.jobbridge_backend.dto.MatchJobDto;
 import com.jobbridge.jobbridge_backend.security.JwtTokenProvider;
 import com.jobbridge.jobbridge_backend.service.JobMatchService;
+import com.jobbridge.jobbridge_backend.service.MatchJobService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @RestController
@@ -20,26 +27,31 @@ public class JobMatchController {
 
     private final JobMatchService jobMatchService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final MatchJobService matchJobService;
 
+    // AI 서버 응답을 기다리는 동안 요청 스레드를 반납 (Servlet 비동기 처리)
     @GetMapping("/jobs")
-    public ResponseEntity<List<JobDto.Response>> matchJobs(
+    public CompletableFuture<ResponseEntity<List<JobDto.Response>>> matchJobs(
             @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
             @RequestParam Long resumeId) {
 
         // 1) JWT 토큰 검증
         if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.BAD_REQUEST).build());
         }
         String token = authorizationHeader.substring(7);
         if (!jwtTokenProvider.validateToken(token)) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
         }
 
         // 2) 매칭 서비스 호출
-        List<JobDto.Response> jobs = jobMatchService.findTopMatchingJobs(resumeId);
+        return jobMatchService.findTopMatchingJobsNonBlocking(resumeId)
+                .thenApply(jobs -> ResponseEntity.ok(toResponseList(jobs)));
+    }
 
-        // 3) (필요 시) DTO 변환 - 여기서는 서비스에서 이미 DTO로 반환하므로 그대로 반환 가능
-        List<JobDto.Response> responseList = jobs.stream().map(job -> {
+    // 3) (필요 시) DTO 변환 - 여기서는 서비스에서 이미 DTO로 반환하므로 그대로 반환 가능
+    private static List<JobDto.Response> toResponseList(List<JobDto.Response> jobs) {
+        return jobs.stream().map(job -> {
             JobDto.Response dto = new JobDto.Response();
             dto.setId(job.getId());
             dto.setTitle(job.getTitle());
@@ -49,7 +61,68 @@ public class JobMatchController {
             dto.setMatchRate(job.getMatchRate());
             return dto;
         }).collect(Collectors.toList());
+    }
 
-        return ResponseEntity.ok(responseList);
+    /**
+     * 비동기 매칭 제출: 바로 202 와 작업 id 를 돌려주고, 결과는 폴링 또는 SSE 로 받는다
+     * (같은 이력서의 동시 요청은 진행 중인 계산 하나를 공유)
+     */
+    @PostMapping("/jobs/async")
+    public ResponseEntity<MatchJobDto.Status> submitAsync(
+            @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+            @RequestParam Long resumeId) {
+        String owner = authenticatedEmail(authorizationHeader);
+        if (owner == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            MatchJobDto.Status status = matchJobService.submitJobs(resumeId, owner);
+            return ResponseEntity.accepted()
+                    .header("Location", "/api/match/jobs/async/" + status.getJobId())
+                    .body(status);
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    @GetMapping("/jobs/async/{jobId}")
+    public ResponseEntity<MatchJobDto.Status> asyncStatus(
+            @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+            @PathVariable String jobId) {
+        String owner = authenticatedEmail(authorizationHeader);
+        if (owner == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            return ResponseEntity.ok(matchJobService.status(jobId, owner));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    @GetMapping(value = "/jobs/async/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> asyncEvents(
+            @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+            @PathVariable String jobId) {
+        String owner = authenticatedEmail(authorizationHeader);
+        if (owner == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            return ResponseEntity.ok(matchJobService.subscribe(jobId, owner));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    // 유효한 Bearer 토큰이면 이메일, 아니면 null
+    private String authenticatedEmail(String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            return null;
+        }
+        String token = authorizationHeader.substring(7);
+        return jwtTokenProvider.validateToken(token) ? jwtTokenProvider.getUserEmail(token) : null;
     }
 }
@@ -2,15 +2,22 @@ package com.jobbridge.jobbridge_backend.controller;
 
 import com.jobbridge.jobbridge_backend.dto.ResumeDto;
 import com.jobbridge.jobbridge_backend.entity.Resume;
+import com.jobbridge.jobbridge_backend.dto.MatchJobDto;
 import com.jobbridge.jobbridge_backend.security.JwtTokenProvider;
 import com.jobbridge.jobbridge_backend.service.ResumeMatchService;
+import com.jobbridge.jobbridge_backend.service.MatchJobService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @RestController
@@ -21,9 +28,11 @@ public class ResumeMatchController {
 
     private final ResumeMatchService resumeMatchService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final MatchJobService matchJobService;
 
+    // AI 서버 응답을 기다리는 동안 요청 스레드를 반납 (Servlet 비동기 처리)
     @GetMapping("/resumes")
-    public ResponseEntity<List<ResumeDto.Response>> matchResumes(
+    public CompletableFuture<ResponseEntity<List<ResumeDto.Response>>> matchResumes(
             @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
             @RequestParam Long jobPostingId) {
 
@@ -31,7 +40,7 @@ public class ResumeMatchController {
 
         if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
             System.out.println("[Debug] Authorization 헤더 형식 문제");
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.BAD_REQUEST).build());
         }
 
         String token = authorizationHeader.substring(7);
@@ -39,14 +48,17 @@ public class ResumeMatchController {
 
         if (!jwtTokenProvider.validateToken(token)) {
             System.out.println("[Debug] 토큰 유효성 검사 실패");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
         }
 
         System.out.println("[Debug] 채용공고 ID: " + jobPostingId);
-        List<ResumeDto.Response> resumes = resumeMatchService.findTopMatchingResumes(jobPostingId);
+        return resumeMatchService.findTopMatchingResumesNonBlocking(jobPostingId)
+                .thenApply(resumes -> ResponseEntity.ok(toResponseList(resumes)));
+    }
 
-        // ✅ DTO 변환
-        List<ResumeDto.Response> responseList = resumes.stream().map(resume -> {
+    // ✅ DTO 변환
+    private static List<ResumeDto.Response> toResponseList(List<ResumeDto.Response> resumes) {
+        return resumes.stream().map(resume -> {
             ResumeDto.Response dto = new ResumeDto.Response();
             dto.setId(resume.getId());
             dto.setTitle(resume.getTitle());
@@ -57,7 +69,68 @@ public class ResumeMatchController {
             dto.setMatchRate(resume.getMatchRate());
             return dto;
         }).collect(Collectors.toList());
+    }
 
-        return ResponseEntity.ok(responseList);
+    /**
+     * 비동기 매칭 제출: 바로 202 와 작업 id 를 돌려주고, 결과는 폴링 또는 SSE 로 받는다
+     * (같은 공고의 동시 요청은 진행 중인 계산 하나를 공유)
+     */
+    @PostMapping("/resumes/async")
+    public ResponseEntity<MatchJobDto.Status> submitAsync(
+            @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+            @RequestParam Long jobPostingId) {
+        String owner = authenticatedEmail(authorizationHeader);
+        if (owner == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            MatchJobDto.Status status = matchJobService.submitResumes(jobPostingId, owner);
+            return ResponseEntity.accepted()
+                    .header("Location", "/api/match/resumes/async/" + status.getJobId())
+                    .body(status);
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    @GetMapping("/resumes/async/{jobId}")
+    public ResponseEntity<MatchJobDto.Status> asyncStatus(
+            @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+            @PathVariable String jobId) {
+        String owner = authenticatedEmail(authorizationHeader);
+        if (owner == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            return ResponseEntity.ok(matchJobService.status(jobId, owner));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    @GetMapping(value = "/resumes/async/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> asyncEvents(
+            @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+            @PathVariable String jobId) {
+        String owner = authenticatedEmail(authorizationHeader);
+        if (owner == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            return ResponseEntity.ok(matchJobService.subscribe(jobId, owner));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    // 유효한 Bearer 토큰이면 이메일, 아니면 null
+    private String authenticatedEmail(String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            return null;
+        }
+        String token = authorizationHeader.substring(7);
+        return jwtTokenProvider.validateToken(token) ? jwtTokenProvider.getUserEmail(token) : null;
     }
 }
@@ -0,0 +1,211 @@
+package com.jobbridge.jobbridge_backend.crawler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 크롤러 계측 (Micrometer)
+ * - crawler.stage{stage}: 단계별 소요 시간 (fetch / jsonld / description / persist)
+ * - crawler.pages{outcome}: 결과별 처리 건수
+ * - crawler.lag{job}: 마지막으로 완료된 실행 이후 경과 초 (실행이 멈추면 계속 증가)
+ * 최근 N회 실행 요약은 {@link CrawlerEndpoint} (/actuator/crawler) 로 조회한다.
+ */
+@Component
+public class CrawlMetrics {
+
+    public enum Stage {
+        FETCH,       // 요청 + 응답 스트림 스캔 (아래 두 단계 시간은 제외)
+        JSONLD,      // JSON-LD 파싱
+        DESCRIPTION, // 상세 설명 텍스트 변환
+        PERSIST      // DB 저장 (배치 INSERT / 변경 UPDATE)
+    }
+
+    private final MeterRegistry registry;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Map<CrawlOutcome, Counter> outcomeCounters = new EnumMap<>(CrawlOutcome.class);
+    private final Map<String, AtomicReference<Instant>> lastCompleted = new ConcurrentHashMap<>();
+    private final Deque<CrawlRunSummary> recentRuns = new ArrayDeque<>();
+    private final Instant bootedAt = Instant.now();
+    private final int historySize;
+
+    // fetch 안에서 따로 잰 단계 시간 (fetch 시간에서 빼기 위해 워커 스레드별로 누적)
+    private final ThreadLocal<long[]> nestedNanos = ThreadLocal.withInitial(() -> new long[1]);
+
+    public CrawlMetrics(MeterRegistry registry,
+                        @Value("${crawler.metrics.history:20}") int historySize) {
+        this.registry = registry;
+        this.historySize = historySize;
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("crawler.stage")
+                    .description("크롤링 단계별 소요 시간")
+                    .tag("stage", tagValue(stage))
+                    .register(registry));
+        }
+        for (CrawlOutcome outcome : CrawlOutcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder("crawler.pages")
+                    .description("크롤링 대상 처리 결과")
+                    .tag("outcome", tagValue(outcome))
+                    .register(registry));
+        }
+    }
+
+    /**
+     * fetch 시작 (반환값을 {@link #endFetch(long)} 에 넘긴다)
+     */
+    public long beginFetch() {
+        nestedNanos.get()[0] = 0;
+        return System.nanoTime();
+    }
+
+    public void endFetch(long startNanos) {
+        long[] nested = nestedNanos.get();
+        long elapsed = System.nanoTime() - startNanos - nested[0];
+        nested[0] = 0;
+        record(Stage.FETCH, Math.max(elapsed, 0));
+    }
+
+    /**
+     * fetch 도중(응답 extractor 안)에서 실행되는 단계 기록
+     */
+    public void recordNested(Stage stage, long nanos) {
+        nestedNanos.get()[0] += nanos;
+        record(stage, nanos);
+    }
+
+    public void record(Stage stage, long nanos) {
+        stageTimers.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordOutcome(CrawlOutcome outcome) {
+        outcomeCounters.get(outcome).increment();
+    }
+
+    public void recordOutcome(CrawlOutcome outcome, long count) {
+        if (count > 0) {
+            outcomeCounters.get(outcome).increment(count);
+        }
+    }
+
+    /**
+     * 실행 1회 추적 시작 (finish 하지 않은 실행은 지연 시간에 반영되지 않는다)
+     * 단계/결과 값은 실행 구간 동안의 전체 증가분이므로, 다른 작업과 겹치면 함께 집계된다.
+     */
+    public Run startRun(String job) {
+        lastCompleted.computeIfAbsent(job, j -> {
+            AtomicReference<Instant> ref = new AtomicReference<>(bootedAt);
+            Gauge.builder("crawler.lag", ref, r -> Duration.between(r.get(), Instant.now()).toMillis() / 1000.0)
+                    .description("마지막으로 완료된 크롤링 이후 경과 시간")
+                    .tag("job", j)
+                    .baseUnit("seconds")
+                    .strongReference(true)
+                    .register(registry);
+            return ref;
+        });
+        return new Run(job);
+    }
+
+    public Map<String, Double> getLagSeconds() {
+        Map<String, Double> lag = new LinkedHashMap<>();
+        lastCompleted.forEach((job, ref) ->
+                lag.put(job, Duration.between(ref.get(), Instant.now()).toMillis() / 1000.0));
+        return lag;
+    }
+
+    public Map<String, Long> getOutcomeTotals() {
+        Map<String, Long> totals = new LinkedHashMap<>();
+        outcomeCounters.forEach((outcome, counter) -> totals.put(tagValue(outcome), (long) counter.count()));
+        return totals;
+    }
+
+    public Map<String, Map<String, Object>> getStageTotals() {
+        Map<String, Map<String, Object>> totals = new LinkedHashMap<>();
+        stageTimers.forEach((stage, timer) -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("count", timer.count());
+            values.put("totalMs", timer.totalTime(TimeUnit.MILLISECONDS));
+            values.put("meanMs", timer.mean(TimeUnit.MILLISECONDS));
+            values.put("maxMs", timer.max(TimeUnit.MILLISECONDS));
+            totals.put(tagValue(stage), values);
+        });
+        return totals;
+    }
+
+    public synchronized List<CrawlRunSummary> getRecentRuns() {
+        return new ArrayList<>(recentRuns);
+    }
+
+    private synchronized void addRun(CrawlRunSummary summary) {
+        recentRuns.addFirst(summary);
+        while (recentRuns.size() > historySize) {
+            recentRuns.removeLast();
+        }
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+
+    public final class Run {
+
+        private final String job;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startNanos = System.nanoTime();
+        private final Map<Stage, Double> stageMillisBefore = new EnumMap<>(Stage.class);
+        private final Map<CrawlOutcome, Double> outcomesBefore = new EnumMap<>(CrawlOutcome.class);
+
+        private Run(String job) {
+            this.job = job;
+            stageTimers.forEach((stage, timer) -> stageMillisBefore.put(stage, timer.totalTime(TimeUnit.MILLISECONDS)));
+            outcomeCounters.forEach((outcome, counter) -> outcomesBefore.put(outcome, counter.count()));
+        }
+
+        /**
+         * 실행 완료 기록
+         * @param stored 이번 실행에서 실제로 저장/갱신된 공고 수
+         */
+        public CrawlRunSummary finish(long stored) {
+            Map<String, Long> outcomes = new LinkedHashMap<>();
+            outcomeCounters.forEach((outcome, counter) -> {
+                long delta = (long) (counter.count() - outcomesBefore.get(outcome));
+                if (delta > 0) {
+                    outcomes.put(tagValue(outcome), delta);
+                }
+            });
+            Map<String, Double> stageMillis = new LinkedHashMap<>();
+            stageTimers.forEach((stage, timer) ->
+                    stageMillis.put(tagValue(stage), timer.totalTime(TimeUnit.MILLISECONDS) - stageMillisBefore.get(stage)));
+
+            CrawlRunSummary summary = new CrawlRunSummary(job, startedAt,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), stored, outcomes, stageMillis);
+            addRun(summary);
+            lastCompleted.get(job).set(Instant.now());
+            return summary;
+        }
+    }
+
+    /**
+     * 크롤링 실행 1회 요약
+     */
+    public record CrawlRunSummary(String job, LocalDateTime startedAt, long elapsedMs, long stored,
+                                  Map<String, Long> outcomes, Map<String, Double> stageMillis) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.jobbridge.jobbridge_backend.crawler;
+
+/**
+ * 크롤링 대상 1건의 처리 결과
+ */
+public enum CrawlOutcome {
+    QUEUED,       // 신규 공고 수집 (저장 파이프라인으로 전달, 저장 결과는 아래 세 값으로 따로 집계)
+    STORED,       // 배치 INSERT 로 실제 저장됨
+    DUPLICATE,    // 이미 저장된 URL
+    PERSIST_ERROR, // 저장 실패 (잘림, NOT NULL 등 DB 오류)
+    NO_JSON_LD,   // JobPosting JSON-LD 없음 (삭제/비공개 공고 등)
+    HTTP_ERROR,   // 연결 실패, 4xx/5xx 응답 등
+    PARSE_ERROR,  // 응답은 받았지만 JSON-LD/본문 해석 실패
+
+    // 재크롤링(변경 감지) 결과
+    NOT_MODIFIED, // 304 응답 (조건부 요청)
+    UNCHANGED,    // 다시 받았지만 내용 해시 동일
+    UPDATED,      // 바뀐 필드만 갱신
+    CLOSED;       // 404/410 - 내려간 공고 (마감 처리)
+
+    /**
+     * 해당 ID에 공고가 실제로 존재하는지 (프론티어 전진 판단 기준)
+     */
+    public boolean isHit() {
+        return this == QUEUED || this == STORED || this == DUPLICATE
+                || this == NOT_MODIFIED || this == UNCHANGED || this == UPDATED;
+    }
+}
@@ -0,0 +1,173 @@
+package com.jobbridge.jobbridge_backend.crawler;
+
+import com.jobbridge.jobbridge_backend.match.EmbeddingSourceChangedEvent;
+import com.jobbridge.jobbridge_backend.repository.JobPostingRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크롤링 수집/저장 분리 파이프라인
+ * fetch/파싱 워커는 제한된 크기의 큐에 공고를 넣기만 하고, 단일 writer 가 N건씩 모아
+ * {@link JobPostingBatchWriter} 로 저장한다. 네트워크 대기 중에는 DB 커넥션을 잡지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlPipeline {
+
+    private final JobPostingBatchWriter batchWriter;
+    private final PostingUrlIndex postingUrlIndex;
+    private final CrawlMetrics crawlMetrics;
+    private final JobPostingRepository jobPostingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ExecutorService writerExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "crawler-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @Value("${crawler.pipeline.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${crawler.pipeline.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${crawler.pipeline.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    /**
+     * 크롤링 1회 실행 동안 사용할 세션 시작 (writer 스레드가 큐를 비우기 시작한다)
+     */
+    public Session open() {
+        return new Session();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writerExecutor.shutdown();
+    }
+
+    public final class Session implements AutoCloseable {
+
+        private final BlockingQueue<WantedPosting> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong ignored = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong batches = new AtomicLong();
+        private final Future<?> writer;
+        private volatile boolean closed;
+
+        private Session() {
+            this.writer = writerExecutor.submit(this::drain);
+        }
+
+        /**
+         * 저장 대기열에 추가 (큐가 가득 차면 writer 가 따라올 때까지 대기 → 수집 속도 자동 조절)
+         */
+        public void submit(WantedPosting posting) throws InterruptedException {
+            queue.put(posting);
+        }
+
+        public long getInserted() {
+            return inserted.get();
+        }
+
+        public long getBatches() {
+            return batches.get();
+        }
+
+        /**
+         * 남은 공고를 모두 저장할 때까지 기다린 뒤 종료
+         */
+        @Override
+        public void close() {
+            closed = true;
+            try {
+                writer.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                log.error("[저장 파이프라인] writer 비정상 종료", e.getCause());
+            }
+            log.info("[저장 파이프라인] 저장={}, 중복 무시={}, 실패={}, 배치={}",
+                    inserted.get(), ignored.get(), failed.get(), batches.get());
+        }
+
+        private void drain() {
+            List<WantedPosting> chunk = new ArrayList<>(chunkSize);
+            try {
+                while (!closed || !queue.isEmpty()) {
+                    WantedPosting first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                    if (first != null) {
+                        chunk.add(first);
+                        queue.drainTo(chunk, chunkSize - chunk.size());
+                    }
+                    if (chunk.size() >= chunkSize || (first == null && !chunk.isEmpty())) {
+                        flush(chunk);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (!chunk.isEmpty()) {
+                flush(chunk);
+            }
+        }
+
+        private void flush(List<WantedPosting> chunk) {
+            long start = System.nanoTime();
+            try {
+                JobPostingBatchWriter.Result result = batchWriter.insert(chunk);
+                List<WantedPosting> saved = result.inserted();
+                saved.forEach(p -> postingUrlIndex.add(p.getUrl()));
+                inserted.addAndGet(saved.size());
+                ignored.addAndGet(result.duplicates());
+                failed.addAndGet(result.failed());
+                // 저장 결과는 배치 건수로 확인한 뒤 집계 (수집 워커는 QUEUED 만 기록)
+                crawlMetrics.recordOutcome(CrawlOutcome.STORED, saved.size());
+                crawlMetrics.recordOutcome(CrawlOutcome.DUPLICATE, result.duplicates());
+                crawlMetrics.recordOutcome(CrawlOutcome.PERSIST_ERROR, result.failed());
+                log.info("[DB 저장] {}건 (배치 {}건, 중복 {}건, 실패 {}건)",
+                        saved.size(), chunk.size(), result.duplicates(), result.failed());
+                publishSaved(saved);
+            } catch (RuntimeException e) {
+                failed.addAndGet(chunk.size());
+                crawlMetrics.recordOutcome(CrawlOutcome.PERSIST_ERROR, chunk.size());
+                log.error("[저장 파이프라인] 배치 저장 실패 ({}건): {}", chunk.size(), e.getMessage());
+            } finally {
+                crawlMetrics.record(CrawlMetrics.Stage.PERSIST, System.nanoTime() - start);
+                batches.incrementAndGet();
+                chunk.clear();
+            }
+        }
+
+        // 새로 저장된 공고의 임베딩 계산 요청 (실패해도 백필이 채우므로 저장 결과에는 영향 없음)
+        private void publishSaved(List<WantedPosting> saved) {
+            if (saved.isEmpty()) {
+                return;
+            }
+            try {
+                List<Long> ids = jobPostingRepository.findIdsByUrlIn(saved.stream().map(WantedPosting::getUrl).toList());
+                eventPublisher.publishEvent(EmbeddingSourceChangedEvent.jobPostings(ids));
+            } catch (RuntimeException e) {
+                log.warn("[저장 파이프라인] 임베딩 요청 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.jobbridge.jobbridge_backend.crawler;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 크롤링 1회 실행 결과 (대상별 결과 + 소요 시간 + 처리량)
+ */
+public class CrawlReport<T> {
+
+    private final Map<T, CrawlOutcome> outcomes;
+    private final Duration elapsed;
+
+    public CrawlReport(Map<T, CrawlOutcome> outcomes, Duration elapsed) {
+        this.outcomes = Collections.unmodifiableMap(outcomes);
+        this.elapsed = elapsed;
+    }
+
+    public Map<T, CrawlOutcome> getOutcomes() {
+        return outcomes;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    public long count(CrawlOutcome outcome) {
+        return outcomes.values().stream().filter(o -> o == outcome).count();
+    }
+
+    /**
+     * 초당 처리한 대상 수
+     */
+    public double getPagesPerSecond() {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds > 0 ? outcomes.size() / seconds : 0.0;
+    }
+
+    public String summary() {
+        Map<CrawlOutcome, Long> counts = new EnumMap<>(CrawlOutcome.class);
+        for (CrawlOutcome outcome : outcomes.values()) {
+            counts.merge(outcome, 1L, Long::sum);
+        }
+        return String.format("대상=%d, 결과=%s, 소요=%dms, 처리량=%.2f건/초",
+                outcomes.size(), counts, elapsed.toMillis(), getPagesPerSecond());
+    }
+}
@@ -0,0 +1,98 @@
+package com.jobbridge.jobbridge_backend.crawler;
+
+import com.jobbridge.jobbridge_backend.service.JobPostingRefreshService;
+import com.jobbridge.jobbridge_backend.service.JobPostingService;
+import com.jobbridge.jobbridge_backend.service.SchedulerLeaseService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 크롤링 작업 전용 스케줄러
+ * 다른 @Scheduled 작업과 스레드를 공유하지 않도록 별도 스케줄러에서 돌리고,
+ * 애플리케이션이 준비 완료(ApplicationReadyEvent)된 뒤에만 시작한다.
+ * 각 실행은 DB 임대 락을 잡은 한 노드에서만 수행된다.
+ *
+ * 스케줄러를 TaskScheduler 빈으로 등록하지 않는 이유: 등록하면 Spring 이 기본 @Scheduled 스케줄러로 이것을 쓰게 된다.
+ */
+@Slf4j
+@Component
+public class CrawlScheduler {
+
+    static final String WANTED_CRAWL_LEASE = "wanted-crawl";
+    static final String WANTED_REFRESH_LEASE = "wanted-refresh";
+
+    private final JobPostingService jobPostingService;
+    private final JobPostingRefreshService jobPostingRefreshService;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final ThreadPoolTaskScheduler scheduler;
+
+    @Value("${crawler.schedule.enabled:true}")
+    private boolean enabled;
+
+    @Value("${crawler.schedule.initial-delay:PT10S}")
+    private Duration initialDelay;
+
+    @Value("${crawler.wanted.interval:PT30M}")
+    private Duration crawlInterval;
+
+    @Value("${crawler.refresh.interval-ms:300000}")
+    private long refreshIntervalMs;
+
+    // 락 만료 시간 (실행 중에는 1/3 주기로 연장되므로 노드 장애 시 최대 이만큼 뒤에 다른 노드가 이어받는다)
+    @Value("${crawler.schedule.lease:PT5M}")
+    private Duration leaseDuration;
+
+    public CrawlScheduler(JobPostingService jobPostingService,
+                          JobPostingRefreshService jobPostingRefreshService,
+                          SchedulerLeaseService schedulerLeaseService) {
+        this.jobPostingService = jobPostingService;
+        this.jobPostingRefreshService = jobPostingRefreshService;
+        this.schedulerLeaseService = schedulerLeaseService;
+
+        // 수집 1 + 재확인 1 + 락 연장 1
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setPoolSize(3);
+        this.scheduler.setThreadNamePrefix("crawl-scheduler-");
+        this.scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        this.scheduler.initialize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("[크롤링 스케줄] 비활성화됨 (crawler.schedule.enabled=false)");
+            return;
+        }
+        Instant firstRun = Instant.now().plus(initialDelay);
+        scheduler.scheduleAtFixedRate(
+                () -> runExclusively(WANTED_CRAWL_LEASE, jobPostingService::fetchJobPostingsFromWanted),
+                firstRun, crawlInterval);
+        scheduler.scheduleWithFixedDelay(
+                () -> runExclusively(WANTED_REFRESH_LEASE, jobPostingRefreshService::refreshWantedPostings),
+                firstRun.plusMillis(refreshIntervalMs), Duration.ofMillis(refreshIntervalMs));
+        log.info("[크롤링 스케줄] 시작 (instance={}, 수집 주기={}, 재확인 주기={}ms)",
+                schedulerLeaseService.getOwner(), crawlInterval, refreshIntervalMs);
+    }
+
+    private void runExclusively(String leaseName, Runnable task) {
+        try {
+            schedulerLeaseService.runExclusively(leaseName, leaseDuration, scheduler, task);
+        } catch (RuntimeException e) {
+            // 예외가 밖으로 나가면 반복 실행이 중단되므로 여기서 막는다
+            log.error("[크롤링 스케줄] {} 실행 실패", leaseName, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+}
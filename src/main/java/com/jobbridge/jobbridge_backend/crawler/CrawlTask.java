@@ -0,0 +1,9 @@
+package com.jobbridge.jobbridge_backend.crawler;
+
+/**
+ * 크롤러 워커가 대상 1건마다 실행하는 작업
+ */
+@FunctionalInterface
+public interface CrawlTask<T> {
+    CrawlOutcome process(T item) throws Exception;
+}
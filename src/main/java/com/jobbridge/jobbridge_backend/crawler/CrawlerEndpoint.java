@@ -0,0 +1,31 @@
+package com.jobbridge.jobbridge_backend.crawler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크롤러 상태 조회 (/actuator/crawler)
+ * 웹 노출은 management.endpoints.web.exposure.include 에 crawler 를 추가해야 한다.
+ */
+@Component
+@Endpoint(id = "crawler")
+@RequiredArgsConstructor
+public class CrawlerEndpoint {
+
+    private final CrawlMetrics crawlMetrics;
+
+    @ReadOperation
+    public Map<String, Object> crawler() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("lagSeconds", crawlMetrics.getLagSeconds());
+        body.put("outcomes", crawlMetrics.getOutcomeTotals());
+        body.put("stages", crawlMetrics.getStageTotals());
+        body.put("recentRuns", crawlMetrics.getRecentRuns());
+        return body;
+    }
+}
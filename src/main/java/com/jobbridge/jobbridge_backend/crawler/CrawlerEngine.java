@@ -0,0 +1,162 @@
+package com.jobbridge.jobbridge_backend.crawler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 동시 크롤링 엔진
+ * 고정 크기 워커 풀에서 대상들을 병렬로 처리하고, 모든 요청은 공유 {@link HostRateLimiter}를 거친다.
+ * 처리량은 워커 수가 아니라 레이트 리미터 설정으로 제한되므로 대상 서버에 대한 예의를 지킨다.
+ */
+@Slf4j
+@Component
+public class CrawlerEngine {
+
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(30);
+
+    private final HostRateLimiter rateLimiter;
+    private final CrawlMetrics crawlMetrics;
+    private final RestTemplate restTemplate;
+    private final ExecutorService workers;
+
+    public CrawlerEngine(HostRateLimiter rateLimiter,
+                         CrawlMetrics crawlMetrics,
+                         @Qualifier("crawlerRestTemplate") RestTemplate restTemplate,
+                         @Value("${crawler.concurrency:8}") int concurrency) {
+        this.rateLimiter = rateLimiter;
+        this.crawlMetrics = crawlMetrics;
+        this.restTemplate = restTemplate;
+        AtomicInteger seq = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(concurrency, r -> {
+            Thread t = new Thread(r, "crawler-worker-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 대상 전체를 워커 풀에서 처리하고 결과를 모아 반환 (모든 작업이 끝날 때까지 대기)
+     */
+    public <T> CrawlReport<T> crawl(Collection<T> items, CrawlTask<T> task) {
+        long start = System.nanoTime();
+        Map<T, CrawlOutcome> outcomes = new ConcurrentHashMap<>();
+
+        List<Future<?>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(workers.submit(() -> outcomes.put(item, runTask(task, item))));
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("[크롤링] 워커 실행 오류: {}", e.getCause().getMessage());
+        }
+
+        CrawlReport<T> report = new CrawlReport<>(outcomes, Duration.ofNanos(System.nanoTime() - start));
+        log.info("[크롤링 완료] {}", report.summary());
+        return report;
+    }
+
+    /**
+     * 레이트 리미터를 거쳐 페이지를 요청하고, 응답 스트림을 extractor 로 바로 넘긴다
+     * 429 응답을 받으면 Retry-After 만큼 해당 호스트 요청을 모두 멈춘다.
+     */
+    public <R> R fetch(String url, ResponseExtractor<R> extractor) throws InterruptedException {
+        return fetch(url, null, extractor);
+    }
+
+    /**
+     * 요청 헤더를 지정해 가져온다 (If-None-Match / If-Modified-Since 등 조건부 요청용)
+     * 304 응답도 extractor 로 넘어가므로 상태 코드는 extractor 에서 확인한다.
+     */
+    public <R> R fetch(String url, Consumer<HttpHeaders> requestHeaders, ResponseExtractor<R> extractor)
+            throws InterruptedException {
+        URI uri = URI.create(url);
+        rateLimiter.acquire(uri.getHost());
+        RequestCallback callback = requestHeaders == null ? null : request -> requestHeaders.accept(request.getHeaders());
+        long start = crawlMetrics.beginFetch();
+        try {
+            return restTemplate.execute(uri, HttpMethod.GET, callback, extractor);
+        } catch (HttpClientErrorException.TooManyRequests ex) {
+            Duration retryAfter = parseRetryAfter(ex.getResponseHeaders());
+            log.warn("[크롤링] 429 응답, {}초간 {} 요청 중지", retryAfter.toSeconds(), uri.getHost());
+            rateLimiter.pause(uri.getHost(), retryAfter);
+            throw ex;
+        } finally {
+            crawlMetrics.endFetch(start);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private <T> CrawlOutcome runTask(CrawlTask<T> task, T item) {
+        CrawlOutcome outcome;
+        try {
+            outcome = task.process(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = CrawlOutcome.HTTP_ERROR;
+        } catch (RestClientException e) {
+            // 응답 스트림을 읽다 난 IOException 도 RestTemplate 이 감싸므로 원인을 보고 구분한다
+            outcome = hasCause(e, JsonProcessingException.class) ? CrawlOutcome.PARSE_ERROR : CrawlOutcome.HTTP_ERROR;
+            log.warn("[에러] {} → {}", item, e.getMessage());
+        } catch (Exception e) {
+            outcome = CrawlOutcome.PARSE_ERROR;
+            log.warn("[에러] {} → {}", item, e.getMessage());
+        }
+        crawlMetrics.recordOutcome(outcome);
+        return outcome;
+    }
+
+    private static boolean hasCause(Throwable e, Class<? extends Throwable> type) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (type.isInstance(t)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Duration parseRetryAfter(HttpHeaders headers) {
+        String value = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (value != null) {
+            try {
+                return Duration.ofSeconds(Long.parseLong(value.trim()));
+            } catch (NumberFormatException ignored) {}
+        }
+        return DEFAULT_RETRY_AFTER;
+    }
+}
@@ -0,0 +1,103 @@
+package com.jobbridge.jobbridge_backend.crawler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호스트별 토큰 버킷 레이트 리미터
+ * 모든 크롤러 워커가 하나의 인스턴스를 공유하므로 워커 수와 무관하게
+ * 대상 호스트(wanted.co.kr 등)에 대한 요청 속도가 설정값을 넘지 않는다.
+ */
+@Component
+public class HostRateLimiter {
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public HostRateLimiter(@Value("${crawler.rate-limit.permits-per-second:2.0}") double permitsPerSecond,
+                           @Value("${crawler.rate-limit.burst:2}") int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("레이트 리미터 설정이 올바르지 않습니다.");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+    }
+
+    /**
+     * 해당 호스트의 토큰을 하나 얻을 때까지 대기
+     */
+    public void acquire(String host) throws InterruptedException {
+        bucket(host).acquire();
+    }
+
+    /**
+     * 429 응답 등 서버가 속도 조절을 요구할 때 해당 호스트 요청을 일정 시간 멈춘다
+     */
+    public void pause(String host, Duration duration) {
+        bucket(host).pauseFor(duration.toNanos());
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    private Bucket bucket(String host) {
+        return buckets.computeIfAbsent(host, h -> new Bucket(permitsPerSecond, burst));
+    }
+
+    private static final class Bucket {
+        private final double nanosPerPermit;
+        private final double capacity;
+        private double tokens;
+        private long lastRefillNanos;
+        private long pausedUntilNanos;
+
+        Bucket(double permitsPerSecond, int burst) {
+            this.nanosPerPermit = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+            this.capacity = burst;
+            this.tokens = burst;
+            this.lastRefillNanos = System.nanoTime();
+            this.pausedUntilNanos = lastRefillNanos;
+        }
+
+        void acquire() throws InterruptedException {
+            while (true) {
+                long waitNanos;
+                synchronized (this) {
+                    long now = System.nanoTime();
+                    if (now - pausedUntilNanos < 0) {
+                        waitNanos = pausedUntilNanos - now;
+                    } else {
+                        refill(now);
+                        if (tokens >= 1.0) {
+                            tokens -= 1.0;
+                            return;
+                        }
+                        waitNanos = (long) ((1.0 - tokens) * nanosPerPermit);
+                    }
+                }
+                TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, 1_000L));
+            }
+        }
+
+        synchronized void pauseFor(long nanos) {
+            long until = System.nanoTime() + nanos;
+            if (until - pausedUntilNanos > 0) {
+                pausedUntilNanos = until;
+            }
+            tokens = 0;
+        }
+
+        private void refill(long now) {
+            double added = (now - lastRefillNanos) / nanosPerPermit;
+            tokens = Math.min(capacity, tokens + added);
+            lastRefillNanos = now;
+        }
+    }
+}
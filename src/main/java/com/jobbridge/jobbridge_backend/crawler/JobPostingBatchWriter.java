@@ -0,0 +1,122 @@
+package com.jobbridge.jobbridge_backend.crawler;
+
+import com.jobbridge.jobbridge_backend.repository.JobPostingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 크롤링 공고 묶음 저장
+ * job_posting.id 가 IDENTITY 라 Hibernate 가 INSERT 를 배치로 묶지 못하므로 JDBC 배치로 직접 넣는다.
+ * 묶음 하나가 짧은 트랜잭션 하나이며, 이미 있는 URL 은 INSERT 전에 걸러낸다
+ * (INSERT IGNORE 와 달리 잘림/NOT NULL/형 변환 오류는 그대로 실패로 드러난다).
+ * 묶음이 실패하면 한 건씩 다시 넣어 문제 있는 공고만 실패로 남기고,
+ * 그 사이 다른 곳에서 같은 URL 을 넣어 uk_job_posting_url 에 걸린 공고는 중복으로 센다.
+ * (MySQL 에서 실제 다중 행 INSERT 로 보내려면 JDBC URL 에 rewriteBatchedStatements=true 필요)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobPostingBatchWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO job_posting (title, description, position, required_skills, experience_level, " +
+            "location, salary, deadline, created_at, updated_at, source, url, " +
+            "content_hash, etag, last_modified, last_crawled_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobPostingRepository jobPostingRepository;
+
+    /**
+     * 묶음 저장 결과
+     * @param inserted   실제로 새로 들어간 공고
+     * @param duplicates 이미 저장돼 있던 URL 수 (묶음 안 중복 포함)
+     * @param failed     저장하지 못한 공고 수
+     */
+    public record Result(List<WantedPosting> inserted, int duplicates, int failed) {
+    }
+
+    public Result insert(List<WantedPosting> postings) {
+        // 같은 묶음 안의 같은 URL 은 하나만 남긴다
+        Map<String, WantedPosting> byUrl = new LinkedHashMap<>();
+        for (WantedPosting p : postings) {
+            byUrl.putIfAbsent(p.getUrl(), p);
+        }
+        int duplicates = postings.size() - byUrl.size();
+
+        try {
+            Result result = transactionTemplate.execute(status -> insertNew(new ArrayList<>(byUrl.values())));
+            return new Result(result.inserted(), duplicates + result.duplicates(), 0);
+        } catch (DataAccessException e) {
+            log.warn("[DB 저장] 배치 저장 실패, 한 건씩 재시도 ({}건): {}", byUrl.size(), e.getMessage());
+        }
+
+        List<WantedPosting> inserted = new ArrayList<>();
+        int failed = 0;
+        for (WantedPosting p : byUrl.values()) {
+            try {
+                Result one = transactionTemplate.execute(status -> insertNew(List.of(p)));
+                inserted.addAll(one.inserted());
+                duplicates += one.duplicates();
+            } catch (DuplicateKeyException e) {
+                duplicates++;
+            } catch (DataAccessException e) {
+                failed++;
+                log.error("[DB 저장] 공고 저장 실패 {}: {}", p.getUrl(), e.getMessage());
+            }
+        }
+        return new Result(inserted, duplicates, failed);
+    }
+
+    // 트랜잭션 안에서: 이미 있는 URL 제외 후 INSERT
+    private Result insertNew(List<WantedPosting> postings) {
+        Set<String> existing = new HashSet<>(
+                jobPostingRepository.findExistingUrls(postings.stream().map(WantedPosting::getUrl).toList()));
+        List<WantedPosting> fresh = new ArrayList<>(postings.size());
+        for (WantedPosting p : postings) {
+            if (!existing.contains(p.getUrl())) {
+                fresh.add(p);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return new Result(List.of(), postings.size(), 0);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> args = new ArrayList<>(fresh.size());
+        for (WantedPosting p : fresh) {
+            args.add(new Object[]{
+                    p.getTitle(), p.getDescription(), p.getPosition(), p.getRequiredSkills(),
+                    p.getExperienceLevel(), p.getLocation(), p.getSalary(), p.getDeadline(),
+                    now, now, "wanted", p.getUrl(),
+                    p.getContentHash(), p.getEtag(), p.getLastModified(), now
+            });
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, args);
+
+        List<WantedPosting> inserted = new ArrayList<>(fresh.size());
+        for (int i = 0; i < fresh.size(); i++) {
+            // 재작성된 배치는 행별 건수 대신 SUCCESS_NO_INFO 를 돌려준다 (앞에서 걸렀으므로 새 행으로 본다)
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                inserted.add(fresh.get(i));
+            }
+        }
+        return new Result(inserted, postings.size() - inserted.size(), 0);
+    }
+}
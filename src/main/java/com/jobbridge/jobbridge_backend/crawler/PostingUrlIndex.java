@@ -0,0 +1,100 @@
+package com.jobbridge.jobbridge_backend.crawler;
+
+import com.jobbridge.jobbridge_backend.repository.JobPostingRepository;
+import com.jobbridge.jobbridge_backend.util.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 저장된 공고 URL 중복 확인
+ * 메모리에는 블룸 필터만 두고, 필터가 "있을 수도 있음"이라고 답한 URL만 묶어서 DB 에 확인한다.
+ * (기존: 크롤링마다 findAll() 로 공고 전체 + description 을 힙에 올려 URL Set 구성)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostingUrlIndex {
+
+    private static final int PAGE_SIZE = 5_000;
+    private static final int LOOKUP_CHUNK = 500;
+
+    private final JobPostingRepository jobPostingRepository;
+
+    @Value("${crawler.dedup.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${crawler.dedup.min-capacity:100000}")
+    private long minCapacity;
+
+    private volatile BloomFilter filter;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuildIfNeeded();
+    }
+
+    /**
+     * 필터가 없거나 설계 용량을 넘었으면 URL 프로젝션으로 다시 만든다
+     */
+    public synchronized void rebuildIfNeeded() {
+        if (filter != null && !filter.isSaturated()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        long count = jobPostingRepository.countByUrlIsNotNull();
+        BloomFilter rebuilt = new BloomFilter(Math.max(minCapacity, count * 2), falsePositiveRate);
+
+        long afterId = 0L;
+        List<JobPostingRepository.UrlView> page;
+        do {
+            page = jobPostingRepository.findUrlsAfter(afterId, PageRequest.of(0, PAGE_SIZE));
+            for (JobPostingRepository.UrlView view : page) {
+                rebuilt.put(view.getUrl());
+                afterId = view.getId();
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        filter = rebuilt;
+        log.info("[URL 인덱스] {}건으로 재구성 ({}ms)", count, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 주어진 URL 중 이미 저장된 것만 반환
+     */
+    public Set<String> findExisting(Collection<String> urls) {
+        rebuildIfNeeded();
+        BloomFilter current = filter;
+
+        List<String> candidates = new ArrayList<>();
+        for (String url : urls) {
+            if (current.mightContain(url)) {
+                candidates.add(url);
+            }
+        }
+
+        Set<String> existing = new HashSet<>();
+        for (int i = 0; i < candidates.size(); i += LOOKUP_CHUNK) {
+            List<String> chunk = candidates.subList(i, Math.min(i + LOOKUP_CHUNK, candidates.size()));
+            existing.addAll(jobPostingRepository.findExistingUrls(chunk));
+        }
+        return existing;
+    }
+
+    public void add(String url) {
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(url);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.jobbridge.jobbridge_backend.crawler;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobbridge.jobbridge_backend.util.HtmlTextConverter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Wanted 상세 페이지 추출기
+ * 응답 스트림을 한 번만 읽으면서 JSON-LD 스크립트와 상세 본문(span/div) 조각을 동시에 수집하고,
+ * JSON-LD는 공유 {@link JsonFactory}의 스트리밍 파서로 필요한 필드만 읽는다.
+ * (기존: 같은 URL을 두 번 다운로드 + 페이지마다 new ObjectMapper() + 트리 모델)
+ */
+@Component
+public class WantedPageExtractor {
+
+    private static final String JSON_LD_OPEN = "<script type=\"application/ld+json\">";
+    private static final String SPAN_OPEN = "<span class=\"wds-h4ga6o\">";
+    private static final String DIV_OPEN = "<div class=\"JobDescription_JobDescription__paragraph__87w8I\">";
+
+    private final JsonFactory jsonFactory;
+    private final CrawlMetrics crawlMetrics;
+
+    public WantedPageExtractor(ObjectMapper objectMapper, CrawlMetrics crawlMetrics) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.crawlMetrics = crawlMetrics;
+    }
+
+    /**
+     * 응답 본문에서 공고를 추출 (JobPosting JSON-LD가 없으면 null)
+     */
+    public WantedPosting extract(String url, ClientHttpResponse response) throws IOException {
+        MediaType contentType = response.getHeaders().getContentType();
+        Charset charset = contentType != null && contentType.getCharset() != null
+                ? contentType.getCharset() : StandardCharsets.UTF_8;
+        WantedPosting.WantedPostingBuilder posting;
+        try (Reader reader = new InputStreamReader(response.getBody(), charset)) {
+            posting = extractBuilder(url, reader);
+        }
+        if (posting == null) {
+            return null;
+        }
+        HttpHeaders headers = response.getHeaders();
+        return posting.etag(headers.getETag())
+                .lastModified(headers.getFirst(HttpHeaders.LAST_MODIFIED))
+                .build();
+    }
+
+    public WantedPosting extract(String url, Reader reader) throws IOException {
+        WantedPosting.WantedPostingBuilder posting = extractBuilder(url, reader);
+        return posting != null ? posting.build() : null;
+    }
+
+    private WantedPosting.WantedPostingBuilder extractBuilder(String url, Reader reader) throws IOException {
+        Fragments fragments = scan(reader);
+
+        long start = System.nanoTime();
+        WantedPosting.WantedPostingBuilder posting = null;
+        for (String json : fragments.jsonLd) {
+            posting = parseJobPosting(json);
+            if (posting != null) break;
+        }
+        crawlMetrics.recordNested(CrawlMetrics.Stage.JSONLD, System.nanoTime() - start);
+        if (posting == null) {
+            return null;
+        }
+
+        start = System.nanoTime();
+        String description = buildDescription(fragments);
+        crawlMetrics.recordNested(CrawlMetrics.Stage.DESCRIPTION, System.nanoTime() - start);
+        return posting.url(url)
+                .description(description);
+    }
+
+    // 1) 스트림 단일 패스: 세 종류의 시작/종료 태그를 동시에 추적하며 내부 텍스트 수집
+    private Fragments scan(Reader reader) throws IOException {
+        Fragments fragments = new Fragments();
+        Capture[] captures = {
+                new Capture(JSON_LD_OPEN, "</script>", fragments.jsonLd),
+                new Capture(SPAN_OPEN, "</span>", fragments.spans),
+                new Capture(DIV_OPEN, "</div>", fragments.divs)
+        };
+
+        char[] buf = new char[8192];
+        int n;
+        while ((n = reader.read(buf)) != -1) {
+            for (int i = 0; i < n; i++) {
+                char c = buf[i];
+                for (Capture capture : captures) {
+                    capture.accept(c);
+                }
+            }
+        }
+        return fragments;
+    }
+
+    // 2) JSON-LD 스트리밍 파싱: 필요한 경로의 스칼라 값만 읽는다
+    private WantedPosting.WantedPostingBuilder parseJobPosting(String json) throws IOException {
+        boolean jobPostingType = false;
+        String company = "";
+        String position = "";
+        List<String> experiences = new ArrayList<>();
+        List<String> occupations = new ArrayList<>();
+        String region = "";
+        String locality = "";
+        double minSalary = 0;
+        double maxSalary = 0;
+        String salaryUnit = "";
+        String validThrough = "";
+        String propertyId = "";
+
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            Deque<Frame> frames = new ArrayDeque<>();
+            frames.push(new Frame("", false));
+            String field = null;
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                Frame frame = frames.peek();
+                switch (token) {
+                    case FIELD_NAME -> field = parser.currentName();
+                    case START_OBJECT, START_ARRAY -> {
+                        String path = frame.array() ? frame.path() : frame.child(field);
+                        frames.push(new Frame(path, token == JsonToken.START_ARRAY));
+                    }
+                    case END_OBJECT, END_ARRAY -> frames.pop();
+                    case VALUE_NULL -> { }
+                    default -> {
+                        String path = frame.array() ? frame.path() : frame.child(field);
+                        switch (path) {
+                            case "@type" -> jobPostingType = "JobPosting".equals(parser.getText());
+                            case "hiringOrganization.name" -> company = parser.getText();
+                            case "title" -> position = parser.getText();
+                            case "experienceRequirements" -> experiences.add(parser.getText());
+                            case "occupationalCategory" -> occupations.add(parser.getText());
+                            case "jobLocation.address.addressRegion" -> region = parser.getText();
+                            case "jobLocation.address.addressLocality" -> locality = parser.getText();
+                            case "baseSalary.value.minValue" -> minSalary = parser.getValueAsDouble(0);
+                            case "baseSalary.value.maxValue" -> maxSalary = parser.getValueAsDouble(0);
+                            case "baseSalary.value.unitText" -> salaryUnit = parser.getText();
+                            case "validThrough" -> validThrough = parser.getText().trim();
+                            case "identifier.propertyID" -> propertyId = parser.getText().trim();
+                            default -> { }
+                        }
+                    }
+                }
+                if (frames.isEmpty()) break;
+            }
+        }
+
+        if (!jobPostingType) {
+            return null;
+        }
+
+        String salary = "";
+        if (minSalary > 0 || maxSalary > 0) {
+            salary = (minSalary != maxSalary)
+                    ? String.format("%.0f-%.0f %s", minSalary, maxSalary, salaryUnit).trim()
+                    : String.format("%.0f %s", minSalary, salaryUnit).trim();
+        }
+
+        Long companyId = null;
+        if (!propertyId.isBlank()) {
+            try {
+                companyId = Long.valueOf(propertyId);
+            } catch (NumberFormatException ignored) {}
+        }
+
+        return WantedPosting.builder()
+                .company(company)
+                .position(position)
+                .experienceLevel(String.join(", ", experiences))
+                .requiredSkills(String.join(", ", occupations))
+                .location((region + " " + locality).trim())
+                .salary(salary)
+                .deadline(parseDeadline(validThrough))
+                .companyId(companyId);
+    }
+
+    // 3) 상세 본문: span 조각 전체 → div 조각 전체 순서로 하나의 버퍼에 바로 변환
+    private String buildDescription(Fragments fragments) {
+        StringBuilder fullText = new StringBuilder(fragments.rawLength());
+        for (String raw : fragments.spans) {
+            HtmlTextConverter.appendText(raw, fullText);
+            fullText.append("\n\n");
+        }
+        for (String raw : fragments.divs) {
+            HtmlTextConverter.appendText(raw, fullText);
+            fullText.append("\n\n");
+        }
+        return fullText.toString().trim();
+    }
+
+    // 마감일 파싱 (시간 포함/미포함 모두 처리)
+    private LocalDateTime parseDeadline(String deadlineStr) {
+        if (deadlineStr.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(deadlineStr, DateTimeFormatter.ISO_DATE_TIME);
+        } catch (DateTimeParseException ex) {
+            return LocalDate.parse(deadlineStr, DateTimeFormatter.ISO_DATE).atStartOfDay();
+        }
+    }
+
+    private record Frame(String path, boolean array) {
+        String child(String field) {
+            return path.isEmpty() ? field : path + "." + field;
+        }
+    }
+
+    private static final class Fragments {
+        final List<String> jsonLd = new ArrayList<>();
+        final List<String> spans = new ArrayList<>();
+        final List<String> divs = new ArrayList<>();
+
+        int rawLength() {
+            int length = 0;
+            for (String raw : spans) length += raw.length();
+            for (String raw : divs) length += raw.length();
+            return length;
+        }
+    }
+
+    /**
+     * 시작 태그 ~ 종료 태그 사이 텍스트를 문자 단위로 수집
+     * 시작/종료 태그 모두 '<'가 첫 글자에만 나오므로 불일치 시 '<' 여부만 보면 된다.
+     */
+    private static final class Capture {
+        private final String open;
+        private final String close;
+        private final List<String> sink;
+        private final StringBuilder buffer = new StringBuilder();
+        private boolean capturing;
+        private int matched;
+
+        Capture(String open, String close, List<String> sink) {
+            this.open = open;
+            this.close = close;
+            this.sink = sink;
+        }
+
+        void accept(char c) {
+            if (!capturing) {
+                matched = advance(open, matched, c);
+                if (matched == open.length()) {
+                    capturing = true;
+                    matched = 0;
+                }
+                return;
+            }
+            buffer.append(c);
+            matched = advance(close, matched, c);
+            if (matched == close.length()) {
+                buffer.setLength(buffer.length() - close.length());
+                sink.add(buffer.toString());
+                buffer.setLength(0);
+                capturing = false;
+                matched = 0;
+            }
+        }
+
+        private static int advance(String marker, int matched, char c) {
+            if (marker.charAt(matched) == c) {
+                return matched + 1;
+            }
+            return c == marker.charAt(0) ? 1 : 0;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.jobbridge.jobbridge_backend.crawler;
+
+import com.jobbridge.jobbridge_backend.util.ContentHash;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Wanted 상세 페이지 1건에서 추출한 공고 데이터 (JSON-LD 필드 + 상세 본문)
+ */
+@Getter
+@Builder
+public class WantedPosting {
+
+    private final String url;
+    private final String company;
+    private final String position;
+    private final String description;
+    private final String experienceLevel;
+    private final String location;
+    private final String requiredSkills;
+    private final String salary;
+    private final LocalDateTime deadline;
+    private final Long companyId;   // JSON-LD identifier.propertyID (Wanted 내부 회사 ID)
+    private final String etag;          // 응답 ETag (조건부 재요청용)
+    private final String lastModified;  // 응답 Last-Modified
+
+    public String getTitle() {
+        return (company + " " + position).trim();
+    }
+
+    /**
+     * 저장되는 필드 기준 내용 해시 (재크롤링 시 변경 여부 판단)
+     */
+    public String getContentHash() {
+        return ContentHash.of(getTitle(), description, position, requiredSkills,
+                experienceLevel, location, salary, deadline);
+    }
+}
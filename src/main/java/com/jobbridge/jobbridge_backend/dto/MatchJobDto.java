@@ -0,0 +1,22 @@
+package com.jobbridge.jobbridge_backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 비동기 매칭 작업 상태 (/api/match/jobs/async, /api/match/resumes/async)
+ */
+public class MatchJobDto {
+
+    @Getter
+    @Setter
+    public static class Status {
+        private String jobId;
+        private String state;          // PENDING, DONE, FAILED
+        private String submittedAt;
+        private List<?> results;       // DONE 일 때만 (JobDto.Response 또는 ResumeDto.Response 목록)
+        private String error;          // FAILED 일 때만
+    }
+}
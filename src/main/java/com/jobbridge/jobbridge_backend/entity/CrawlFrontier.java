@@ -0,0 +1,33 @@
+package com.jobbridge.jobbridge_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 외부 공고 크롤링 진행 위치 (소스별 1행)
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "crawl_frontier")
+public class CrawlFrontier {
+
+    @Id
+    @Column(length = 20)
+    private String source; // "wanted"
+
+    @Column(name = "last_confirmed_id", nullable = false)
+    private Long lastConfirmedId; // 존재가 확인된 가장 큰 공고 ID (high-water mark)
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @PrePersist
+    @PreUpdate
+    public void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,39 @@
+package com.jobbridge.jobbridge_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 크롤링 프론티어 뒤쪽에 남은 빈 ID (아직 공개 전이거나 일시 오류) 와 재시도 상태
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "crawl_gap",
+        uniqueConstraints = @UniqueConstraint(name = "uk_crawl_gap_source_post", columnNames = {"source", "post_id"}),
+        indexes = @Index(name = "idx_crawl_gap_next_attempt", columnList = "source, next_attempt_at"))
+public class CrawlGap {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String source;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_outcome", length = 20)
+    private String lastOutcome;
+}
@@ -0,0 +1,48 @@
+package com.jobbridge.jobbridge_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 공고/이력서의 미리 계산된 임베딩 (float32 little-endian 바이트 배열)
+ * content_hash 가 같으면 다시 계산하지 않는다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "embedding",
+        uniqueConstraints = @UniqueConstraint(name = "uk_embedding_target", columnNames = {"target_type", "target_id"}))
+public class Embedding {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    private TargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash; // 임베딩에 사용한 텍스트의 SHA-256
+
+    @Column(nullable = false)
+    private int dimension;
+
+    @Lob
+    @Column(name = "vector_data", nullable = false)
+    private byte[] vectorData;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt; // 마지막으로 원본과 대조한 시각
+
+    public enum TargetType {
+        JOB_POSTING, RESUME
+    }
+}
@@ -2,6 +2,7 @@ package com.jobbridge.jobbridge_backend.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
 @Entity
@@ -10,7 +11,13 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "job_posting")
+@DynamicUpdate // 재크롤링 시 바뀐 컬럼만 UPDATE
+@Table(name = "job_posting",
+        uniqueConstraints = @UniqueConstraint(name = "uk_job_posting_url", columnNames = "url"),
+        indexes = {
+                @Index(name = "idx_job_posting_source_crawled", columnList = "source, last_crawled_at"),
+                @Index(name = "idx_job_posting_deadline", columnList = "deadline") // 매칭 후보: 마감 전 공고
+        })
 public class JobPosting {
 
     @Id
@@ -57,6 +64,18 @@ public class JobPosting {
     @Column
     private String url; // 사람인 상세 공고 URL
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // 크롤링 공고 내용 해시 (변경 감지용)
+
+    @Column
+    private String etag; // 마지막 크롤링 응답의 ETag (조건부 요청용)
+
+    @Column(name = "last_modified", length = 64)
+    private String lastModified; // 마지막 크롤링 응답의 Last-Modified
+
+    @Column(name = "last_crawled_at")
+    private LocalDateTime lastCrawledAt; // 마지막 크롤링(재확인) 시각
+
     @PrePersist
     public void onCreate() {
         this.createdAt = LocalDateTime.now();
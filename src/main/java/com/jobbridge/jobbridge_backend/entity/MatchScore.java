@@ -0,0 +1,47 @@
+package com.jobbridge.jobbridge_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 미리 계산해 둔 매칭 목록 (이력서별 상위 공고 / 공고별 상위 이력서)
+ * 대상(subject) 하나의 목록은 항상 같은 시각(computed_at)에 통째로 교체된다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "match_score",
+        indexes = {
+                @Index(name = "idx_match_score_subject", columnList = "direction, subject_id, score"),
+                @Index(name = "idx_match_score_candidate", columnList = "direction, candidate_id")
+        })
+public class MatchScore {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Direction direction;
+
+    @Column(name = "subject_id", nullable = false)
+    private Long subjectId; // 이력서 id (RESUME_TO_JOB) 또는 공고 id (JOB_TO_RESUME)
+
+    @Column(name = "candidate_id", nullable = false)
+    private Long candidateId;
+
+    @Column(nullable = false)
+    private double score; // 임베딩 코사인 유사도
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    public enum Direction {
+        RESUME_TO_JOB, JOB_TO_RESUME
+    }
+}
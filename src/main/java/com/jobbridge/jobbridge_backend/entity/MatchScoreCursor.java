@@ -0,0 +1,24 @@
+package com.jobbridge.jobbridge_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * match_score 갱신 진행 위치: 이 시각까지 갱신된 임베딩은 반영 완료
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "match_score_cursor")
+public class MatchScoreCursor {
+
+    @Id
+    @Column(name = "target_type", length = 20)
+    private String targetType; // Embedding.TargetType 이름
+
+    @Column(name = "processed_until", nullable = false)
+    private LocalDateTime processedUntil;
+}
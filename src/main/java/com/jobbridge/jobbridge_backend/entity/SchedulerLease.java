@@ -0,0 +1,30 @@
+package com.jobbridge.jobbridge_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 다중 인스턴스 배포에서 주기 작업을 한 노드만 실행하도록 하는 DB 임대(lease) 락
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "scheduler_lease")
+public class SchedulerLease {
+
+    @Id
+    @Column(length = 50)
+    private String name; // 작업 이름 (예: "wanted-crawl")
+
+    @Column(nullable = false, length = 100)
+    private String owner; // 락을 잡은 인스턴스 식별자
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil; // 이 시각이 지나면 다른 노드가 가져갈 수 있다
+}
@@ -0,0 +1,162 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * BM25 역색인 (문서 단위 추가/교체/삭제)
+ * 용어마다 (문서 slot, tf) 목록을 원시 배열로 유지하고, 삭제된 slot 은 재사용한다.
+ * 스레드 안전하지 않으므로 {@link LexicalMatchIndex} 가 잠금으로 감싼다.
+ */
+final class Bm25Index {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private long[] slotIds = new long[64];
+    private int[] docLengths = new int[64];
+    private String[][] docTerms = new String[64][]; // 삭제 시 역색인에서 지울 용어 목록
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotCount;
+    private long totalLength;
+
+    void upsert(long id, String text) {
+        remove(id);
+        List<String> tokens = KoreanTokenizer.tokenize(text);
+        if (tokens.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> tf = new HashMap<>();
+        for (String token : tokens) {
+            tf.merge(token, 1, Integer::sum);
+        }
+
+        int slot = allocateSlot();
+        slotIds[slot] = id;
+        docLengths[slot] = tokens.size();
+        docTerms[slot] = tf.keySet().toArray(new String[0]);
+        totalLength += tokens.size();
+        slots.put(id, slot);
+        tf.forEach((term, count) -> postings.computeIfAbsent(term, t -> new Postings()).add(slot, count));
+    }
+
+    void remove(long id) {
+        Integer slot = slots.remove(id);
+        if (slot == null) {
+            return;
+        }
+        for (String term : docTerms[slot]) {
+            Postings list = postings.get(term);
+            if (list != null && list.remove(slot) && list.size == 0) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= docLengths[slot];
+        docLengths[slot] = 0;
+        docTerms[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    int size() {
+        return slots.size();
+    }
+
+    /**
+     * @param filter null 이 아니면 통과한 문서만 결과에 포함
+     */
+    TopK search(String query, int k, LongPredicate filter) {
+        TopK top = new TopK(k);
+        int docCount = slots.size();
+        if (docCount == 0) {
+            return top.sort();
+        }
+        double avgLength = (double) totalLength / docCount;
+        double[] scores = new double[slotCount];
+        int[] touched = new int[16];
+        int touchedCount = 0;
+
+        for (String term : distinct(KoreanTokenizer.tokenize(query))) {
+            Postings list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            double idf = Math.log(1.0 + (docCount - list.size + 0.5) / (list.size + 0.5));
+            for (int i = 0; i < list.size; i++) {
+                int slot = list.slots[i];
+                int tf = list.tfs[i];
+                double norm = K1 * (1 - B + B * docLengths[slot] / avgLength);
+                if (scores[slot] == 0) {
+                    if (touchedCount == touched.length) {
+                        touched = Arrays.copyOf(touched, touchedCount * 2);
+                    }
+                    touched[touchedCount++] = slot;
+                }
+                scores[slot] += idf * tf * (K1 + 1) / (tf + norm);
+            }
+        }
+
+        for (int i = 0; i < touchedCount; i++) {
+            int slot = touched[i];
+            double score = scores[slot];
+            if (score > top.threshold() && (filter == null || filter.test(slotIds[slot]))) {
+                top.offer(slotIds[slot], score);
+            }
+        }
+        return top.sort();
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == slotIds.length) {
+            int capacity = slotCount * 2;
+            slotIds = Arrays.copyOf(slotIds, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+            docTerms = Arrays.copyOf(docTerms, capacity);
+        }
+        return slotCount++;
+    }
+
+    private static String[] distinct(List<String> tokens) {
+        return tokens.stream().distinct().toArray(String[]::new);
+    }
+
+    // 한 용어의 (slot, tf) 목록 - 삭제는 마지막 항목과 자리 바꿈
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int[] tfs = new int[4];
+        private int size;
+
+        void add(int slot, int tf) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            slots[size] = slot;
+            tfs[size] = tf;
+            size++;
+        }
+
+        boolean remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    size--;
+                    slots[i] = slots[size];
+                    tfs[i] = tfs[size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import com.jobbridge.jobbridge_backend.entity.Embedding;
+
+import java.util.List;
+
+/**
+ * 임베딩 원본(공고/이력서 내용)이 생성·수정·삭제됨
+ * 트랜잭션 안에서 발행하면 커밋 후에 처리된다.
+ */
+public record EmbeddingSourceChangedEvent(Embedding.TargetType targetType, List<Long> ids) {
+
+    public static EmbeddingSourceChangedEvent jobPostings(List<Long> ids) {
+        return new EmbeddingSourceChangedEvent(Embedding.TargetType.JOB_POSTING, ids);
+    }
+
+    public static EmbeddingSourceChangedEvent jobPosting(Long id) {
+        return jobPostings(List.of(id));
+    }
+
+    public static EmbeddingSourceChangedEvent resume(Long id) {
+        return new EmbeddingSourceChangedEvent(Embedding.TargetType.RESUME, List.of(id));
+    }
+}
@@ -0,0 +1,137 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 전수 비교(brute-force) 색인
+ * 모든 벡터를 하나의 연속된 float[] 블록에 이어 붙여 두고 순서대로 내적을 계산한다.
+ * 캐시 지역성이 좋고 루프가 단순해 수만 건 규모까지는 그래프 색인보다 빠르거나 비슷하다.
+ */
+final class FlatVectorIndex implements VectorIndex {
+
+    private final int dimension;
+    private float[] data;
+    private long[] ids;
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private int size;
+
+    FlatVectorIndex(int dimension, int initialCapacity) {
+        this.dimension = dimension;
+        int capacity = Math.max(initialCapacity, 16);
+        this.data = new float[capacity * dimension];
+        this.ids = new long[capacity];
+    }
+
+    int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public void upsert(long id, float[] vector) {
+        checkDimension(vector);
+        float[] normalized = VectorMath.normalize(vector);
+        Integer slot = slots.get(id);
+        if (slot == null) {
+            ensureCapacity(size + 1);
+            slot = size++;
+            ids[slot] = id;
+            slots.put(id, slot);
+        }
+        System.arraycopy(normalized, 0, data, slot * dimension, dimension);
+    }
+
+    // 마지막 슬롯을 빈 자리로 옮겨 블록을 항상 빈틈없이 유지
+    @Override
+    public void remove(long id) {
+        Integer slot = slots.remove(id);
+        if (slot == null) {
+            return;
+        }
+        int last = --size;
+        if (slot != last) {
+            System.arraycopy(data, last * dimension, data, slot * dimension, dimension);
+            ids[slot] = ids[last];
+            slots.put(ids[slot], slot);
+        }
+    }
+
+    @Override
+    public boolean contains(long id) {
+        return slots.containsKey(id);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public TopK search(float[] query, int k) {
+        checkDimension(query);
+        TopK top = new TopK(k);
+        for (int slot = 0, off = 0; slot < size; slot++, off += dimension) {
+            float score = VectorMath.dot(query, 0, data, off, dimension);
+            if (score > top.threshold()) {
+                top.offer(ids[slot], score);
+            }
+        }
+        return top.sort();
+    }
+
+    /**
+     * 모든 벡터와의 유사도 (임계값 없이 전부 전달)
+     */
+    void scoreAll(float[] query, ScoreConsumer consumer) {
+        checkDimension(query);
+        for (int slot = 0, off = 0; slot < size; slot++, off += dimension) {
+            consumer.accept(ids[slot], VectorMath.dot(query, 0, data, off, dimension));
+        }
+    }
+
+    /**
+     * 보관 중인 정규화 벡터 복사본 (없으면 null)
+     */
+    float[] get(long id) {
+        Integer slot = slots.get(id);
+        if (slot == null) {
+            return null;
+        }
+        return Arrays.copyOfRange(data, slot * dimension, (slot + 1) * dimension);
+    }
+
+    /**
+     * 보관 중인 정규화 벡터 순회 (HNSW 재구성용)
+     */
+    void forEach(VectorConsumer consumer) {
+        float[] vector = new float[dimension];
+        for (int slot = 0; slot < size; slot++) {
+            System.arraycopy(data, slot * dimension, vector, 0, dimension);
+            consumer.accept(ids[slot], vector);
+        }
+    }
+
+    interface VectorConsumer {
+        void accept(long id, float[] vector);
+    }
+
+    interface ScoreConsumer {
+        void accept(long id, float score);
+    }
+
+    private void checkDimension(float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("벡터 차원 불일치: expected=" + dimension + ", actual=" + vector.length);
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        data = Arrays.copyOf(data, capacity * dimension);
+    }
+}
@@ -0,0 +1,401 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 근사 최근접 색인
+ * 공고 수가 많아 전수 비교가 느려질 때 사용한다. 삭제/교체는 tombstone 으로 처리하고,
+ * tombstone 비율이 높아지면 {@link JobVectorIndex} 가 새로 만든다.
+ */
+final class HnswIndex implements VectorIndex {
+
+    private static final int MAX_LEVEL = 16;
+
+    private final int dimension;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final int efSearch;
+    private final double levelMultiplier;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    private float[] vectors;
+    private long[] nodeIds;
+    private int[][][] links; // [node][level] = {이웃 수, 이웃1, 이웃2, ...}
+    private boolean[] deleted;
+    private final Map<Long, Integer> nodes = new HashMap<>(); // 살아있는 id → node
+    private int nodeCount;
+    private int deletedCount;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    private final ThreadLocal<Visited> visitedLocal = ThreadLocal.withInitial(Visited::new);
+
+    HnswIndex(int dimension, int m, int efConstruction, int efSearch, int initialCapacity) {
+        this.dimension = dimension;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.levelMultiplier = 1.0 / Math.log(m);
+        int capacity = Math.max(initialCapacity, 16);
+        this.vectors = new float[capacity * dimension];
+        this.nodeIds = new long[capacity];
+        this.links = new int[capacity][][];
+        this.deleted = new boolean[capacity];
+    }
+
+    @Override
+    public void upsert(long id, float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("벡터 차원 불일치: expected=" + dimension + ", actual=" + vector.length);
+        }
+        remove(id);
+        int node = insert(id, VectorMath.normalize(vector));
+        nodes.put(id, node);
+    }
+
+    @Override
+    public void remove(long id) {
+        Integer node = nodes.remove(id);
+        if (node != null) {
+            deleted[node] = true;
+            deletedCount++;
+        }
+    }
+
+    @Override
+    public boolean contains(long id) {
+        return nodes.containsKey(id);
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    double deletedRatio() {
+        return nodeCount == 0 ? 0.0 : (double) deletedCount / nodeCount;
+    }
+
+    @Override
+    public TopK search(float[] query, int k) {
+        TopK top = new TopK(k);
+        if (entryPoint < 0) {
+            return top.sort();
+        }
+        int ep = entryPoint;
+        for (int level = maxLevel; level > 0; level--) {
+            ep = greedyClosest(query, 0, ep, level);
+        }
+        // tombstone 도 탐색 폭을 차지하므로 그만큼 넓힌다
+        int ef = Math.max(efSearch, k);
+        ef += Math.min(deletedCount, ef);
+        NodeQueue found = searchLayer(query, 0, ep, ef, 0);
+        while (found.size() > 0) {
+            float score = found.peekScore();
+            int node = found.pop();
+            if (!deleted[node]) {
+                top.offer(nodeIds[node], score);
+            }
+        }
+        return top.sort();
+    }
+
+    private int insert(long id, float[] vector) {
+        ensureCapacity(nodeCount + 1);
+        int node = nodeCount++;
+        int offset = node * dimension;
+        System.arraycopy(vector, 0, vectors, offset, dimension);
+        nodeIds[node] = id;
+
+        int level = randomLevel();
+        links[node] = new int[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            links[node][l] = new int[1 + (l == 0 ? maxM0 : m)];
+        }
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return node;
+        }
+
+        int ep = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            ep = greedyClosest(vectors, offset, ep, l);
+        }
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            NodeQueue found = searchLayer(vectors, offset, ep, efConstruction, l);
+            // 최소 힙이므로 꺼낸 순서의 역순이 유사도 내림차순
+            int[] candidates = new int[found.size()];
+            float[] scores = new float[candidates.length];
+            for (int i = candidates.length - 1; i >= 0; i--) {
+                scores[i] = found.peekScore();
+                candidates[i] = found.pop();
+            }
+            int[] selected = selectNeighbors(candidates, scores, candidates.length, m);
+            int[] list = links[node][l];
+            for (int neighbor : selected) {
+                list[++list[0]] = neighbor;
+                addLink(neighbor, l, node);
+            }
+            if (candidates.length > 0) {
+                ep = candidates[0];
+            }
+        }
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = node;
+        }
+        return node;
+    }
+
+    // 이웃 목록이 가득 차면 기존 이웃 + 새 이웃 중에서 다시 고른다
+    private void addLink(int from, int level, int to) {
+        int[] list = links[from][level];
+        int count = list[0];
+        if (count < list.length - 1) {
+            list[++count] = to;
+            list[0] = count;
+            return;
+        }
+        int fromOffset = from * dimension;
+        int[] candidates = new int[count + 1];
+        float[] scores = new float[count + 1];
+        for (int i = 0; i < count; i++) {
+            candidates[i] = list[i + 1];
+            scores[i] = similarity(vectors, fromOffset, candidates[i]);
+        }
+        candidates[count] = to;
+        scores[count] = similarity(vectors, fromOffset, to);
+        sortDescending(candidates, scores);
+
+        int[] selected = selectNeighbors(candidates, scores, candidates.length, count);
+        System.arraycopy(selected, 0, list, 1, selected.length);
+        list[0] = selected.length;
+    }
+
+    /**
+     * 이웃 선택 휴리스틱: 이미 고른 이웃보다 자신에게 더 가까운 후보만 고른다 (방향이 겹치는 이웃 배제)
+     * 부족하면 탈락한 후보 중 가까운 순으로 채운다.
+     * @param candidates 유사도 내림차순
+     */
+    private int[] selectNeighbors(int[] candidates, float[] scores, int n, int limit) {
+        int[] selected = new int[Math.min(limit, n)];
+        boolean[] taken = new boolean[n];
+        int count = 0;
+        for (int i = 0; i < n && count < selected.length; i++) {
+            int candidate = candidates[i];
+            int candidateOffset = candidate * dimension;
+            boolean diverse = true;
+            for (int j = 0; j < count; j++) {
+                if (similarity(vectors, candidateOffset, selected[j]) > scores[i]) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected[count++] = candidate;
+                taken[i] = true;
+            }
+        }
+        for (int i = 0; i < n && count < selected.length; i++) {
+            if (!taken[i]) {
+                selected[count++] = candidates[i];
+            }
+        }
+        return selected;
+    }
+
+    private static void sortDescending(int[] nodes, float[] scores) {
+        for (int i = 1; i < nodes.length; i++) {
+            int node = nodes[i];
+            float score = scores[i];
+            int j = i - 1;
+            while (j >= 0 && scores[j] < score) {
+                nodes[j + 1] = nodes[j];
+                scores[j + 1] = scores[j];
+                j--;
+            }
+            nodes[j + 1] = node;
+            scores[j + 1] = score;
+        }
+    }
+
+    private int greedyClosest(float[] query, int queryOffset, int ep, int level) {
+        float best = similarity(query, queryOffset, ep);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            int[] list = links[ep][level];
+            for (int i = 1; i <= list[0]; i++) {
+                float score = similarity(query, queryOffset, list[i]);
+                if (score > best) {
+                    best = score;
+                    ep = list[i];
+                    changed = true;
+                }
+            }
+        }
+        return ep;
+    }
+
+    /**
+     * 한 층에서 ef 개 후보 탐색 (결과는 유사도 최소 힙)
+     */
+    private NodeQueue searchLayer(float[] query, int queryOffset, int ep, int ef, int level) {
+        Visited visited = visitedLocal.get().reset(nodeCount);
+        NodeQueue candidates = new NodeQueue(true, ef * 2);
+        NodeQueue results = new NodeQueue(false, ef + 1);
+
+        float epScore = similarity(query, queryOffset, ep);
+        visited.mark(ep);
+        candidates.push(ep, epScore);
+        results.push(ep, epScore);
+
+        while (candidates.size() > 0) {
+            float candidateScore = candidates.peekScore();
+            int candidate = candidates.pop();
+            if (results.size() >= ef && candidateScore < results.peekScore()) {
+                break;
+            }
+            int[] list = links[candidate][level];
+            for (int i = 1; i <= list[0]; i++) {
+                int neighbor = list[i];
+                if (!visited.mark(neighbor)) {
+                    continue;
+                }
+                float score = similarity(query, queryOffset, neighbor);
+                if (results.size() < ef || score > results.peekScore()) {
+                    candidates.push(neighbor, score);
+                    results.push(neighbor, score);
+                    if (results.size() > ef) {
+                        results.pop();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private float similarity(float[] query, int queryOffset, int node) {
+        return VectorMath.dot(query, queryOffset, vectors, node * dimension, dimension);
+    }
+
+    private int randomLevel() {
+        int level = (int) (-Math.log(1.0 - random.nextDouble()) * levelMultiplier);
+        return Math.min(level, MAX_LEVEL);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= nodeIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, nodeIds.length + (nodeIds.length >> 1));
+        vectors = Arrays.copyOf(vectors, capacity * dimension);
+        nodeIds = Arrays.copyOf(nodeIds, capacity);
+        links = Arrays.copyOf(links, capacity);
+        deleted = Arrays.copyOf(deleted, capacity);
+    }
+
+    // 스레드별 방문 표시 (세대 번호로 매 탐색마다 배열을 지우지 않는다)
+    private static final class Visited {
+        private int[] marks = new int[0];
+        private int epoch;
+
+        Visited reset(int capacity) {
+            if (marks.length < capacity) {
+                marks = new int[Math.max(capacity, marks.length * 2)];
+                epoch = 0;
+            }
+            if (++epoch == 0) {
+                Arrays.fill(marks, 0);
+                epoch = 1;
+            }
+            return this;
+        }
+
+        // 처음 방문이면 true
+        boolean mark(int node) {
+            if (marks[node] == epoch) {
+                return false;
+            }
+            marks[node] = epoch;
+            return true;
+        }
+    }
+
+    // (node, score) 이진 힙 (max=true 이면 최대 힙)
+    private static final class NodeQueue {
+        private final boolean max;
+        private int[] nodes;
+        private float[] scores;
+        private int size;
+
+        NodeQueue(boolean max, int capacity) {
+            this.max = max;
+            this.nodes = new int[Math.max(capacity, 4)];
+            this.scores = new float[nodes.length];
+        }
+
+        int size() {
+            return size;
+        }
+
+        float peekScore() {
+            return scores[0];
+        }
+
+        void push(int node, float score) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!before(score, scores[parent])) {
+                    break;
+                }
+                nodes[i] = nodes[parent];
+                scores[i] = scores[parent];
+                i = parent;
+            }
+            nodes[i] = node;
+            scores[i] = score;
+        }
+
+        int pop() {
+            int top = nodes[0];
+            int lastNode = nodes[--size];
+            float lastScore = scores[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && before(scores[child + 1], scores[child])) {
+                    child++;
+                }
+                if (!before(scores[child], lastScore)) {
+                    break;
+                }
+                nodes[i] = nodes[child];
+                scores[i] = scores[child];
+                i = child;
+            }
+            nodes[i] = lastNode;
+            scores[i] = lastScore;
+            return top;
+        }
+
+        private boolean before(float a, float b) {
+            return max ? a > b : a < b;
+        }
+    }
+}
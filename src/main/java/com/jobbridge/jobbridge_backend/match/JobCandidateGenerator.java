@@ -0,0 +1,358 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import com.jobbridge.jobbridge_backend.entity.Resume;
+import com.jobbridge.jobbridge_backend.repository.JobPostingRepository;
+import com.jobbridge.jobbridge_backend.repository.ResumeRepository;
+import com.jobbridge.jobbridge_backend.util.AiRequestContext;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * AI 점수 계산 전 후보 생성 (이력서 → 공고 매칭)
+ * 마감 전 공고 중 이력서 지역 공고를 먼저, 최근 공고 순으로 최대 match.candidates.scan-limit 건만 DB 에서 읽고,
+ * 기술 스택 겹침/지역/경력 구간으로 매긴 점수 상위 N개만 AI 서버로 보낸다.
+ * 저장된 목록과 벡터 색인 결과도 {@link #retain} 으로 같은 기준(마감, 경력 구간, 지역)을 적용한다.
+ * 걸러낸 공고 중 진짜 상위 결과가 있었는지는 일부 요청만 표본으로 전체 점수를 계산해 recall 로 기록한다.
+ */
+@Slf4j
+@Component
+public class JobCandidateGenerator {
+
+    private static final Pattern SKILL_SEPARATOR = Pattern.compile("[,/|·\\n]+");
+    private static final Pattern RESUME_TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}+#.]+");
+    private static final Pattern RESUME_YEARS = Pattern.compile(
+            "경력\\s*(\\d{1,2})\\s*년|(?<!\\d)(\\d{1,2})\\s*년\\s*(?:차|경력)");
+    private static final Pattern NUMBER = Pattern.compile("(?<!\\d)(\\d{1,2})(?!\\d)");
+
+    // 주소/근무지 첫 단어 → 짧은 지역명 (나머지는 앞 두 글자)
+    private static final Map<String, String> REGION_ALIASES = Map.ofEntries(
+            Map.entry("충청북도", "충북"), Map.entry("충청남도", "충남"),
+            Map.entry("전라북도", "전북"), Map.entry("전북특별자치도", "전북"), Map.entry("전라남도", "전남"),
+            Map.entry("경상북도", "경북"), Map.entry("경상남도", "경남"));
+
+    private static final double SKILL_WEIGHT = 2.0;
+    private static final double REGION_WEIGHT = 2.0;
+    private static final double EXPERIENCE_MATCH = 1.0;
+    private static final double EXPERIENCE_MISMATCH = -3.0;
+
+    private final JobPostingRepository jobPostingRepository;
+    private final ResumeRepository resumeRepository;
+    private final ShardedAiMatcher shardedAiMatcher;
+    private final Timer latency;
+    private final DistributionSummary shortlistSize;
+    private final DistributionSummary recall;
+    private final ThreadPoolExecutor auditExecutor;
+
+    // AI 서버로 보낼 후보 수
+    @Value("${match.candidates.size:300}")
+    private int candidateSize;
+
+    // 점수를 매기려고 DB 에서 읽어 올 최대 공고 수 (이력서 지역 공고 우선, 최근 공고 순)
+    @Value("${match.candidates.scan-limit:3000}")
+    private int scanLimit;
+
+    // 후보를 걸러낸 요청 중 recall 을 측정할 비율 (0 이면 측정 안 함, 측정 요청은 전체 공고를 한 번 더 점수 계산)
+    @Value("${match.candidates.recall-sample-rate:0.02}")
+    private double recallSampleRate;
+
+    // 마감 전 공고가 이보다 많으면 recall 을 측정하지 않는다 (전체 점수 계산 비용 상한)
+    @Value("${match.candidates.recall-max-postings:5000}")
+    private int recallMaxPostings;
+
+    public JobCandidateGenerator(JobPostingRepository jobPostingRepository,
+                                 ResumeRepository resumeRepository,
+                                 ShardedAiMatcher shardedAiMatcher,
+                                 MeterRegistry registry) {
+        this.jobPostingRepository = jobPostingRepository;
+        this.resumeRepository = resumeRepository;
+        this.shardedAiMatcher = shardedAiMatcher;
+        this.latency = Timer.builder("match.candidates.latency")
+                .description("매칭 후보 생성 소요 시간")
+                .register(registry);
+        this.shortlistSize = DistributionSummary.builder("match.candidates.shortlist")
+                .description("AI 서버로 보낸 후보 수")
+                .register(registry);
+        this.recall = DistributionSummary.builder("match.candidates.recall")
+                .description("후보 생성 recall@k (표본 측정)")
+                .register(registry);
+        // recall 측정은 한 번에 하나만, 밀려 있으면 버린다 (요청 스레드와 AI 서버를 붙잡지 않는다)
+        this.auditExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), r -> {
+                    Thread t = new Thread(r, "match-recall-audit");
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    public record Shortlist(List<Long> ids, int activeCount) {
+        // 마감 전 공고 일부만 남겼는지 (전부 남겼으면 recall 은 항상 1)
+        public boolean truncated() {
+            return ids.size() < activeCount;
+        }
+    }
+
+    /**
+     * 이력서에 맞는 마감 전 공고 상위 N개 (점수 높은 순)
+     */
+    public Shortlist shortlist(Resume resume) {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        int activeCount = (int) Math.min(jobPostingRepository.countActive(now), Integer.MAX_VALUE);
+
+        List<Long> ids;
+        int scanned;
+        if (activeCount <= candidateSize) {
+            List<JobPostingRepository.CandidateView> active =
+                    jobPostingRepository.findActiveCandidates(now, "", PageRequest.of(0, candidateSize));
+            ids = active.stream().map(JobPostingRepository.CandidateView::getId).toList();
+            scanned = active.size();
+        } else {
+            ResumeProfile profile = profile(resume);
+            List<JobPostingRepository.CandidateView> active = jobPostingRepository.findActiveCandidates(now,
+                    profile.region != null ? profile.region : "", PageRequest.of(0, Math.max(scanLimit, candidateSize)));
+            TopK top = new TopK(candidateSize);
+            for (JobPostingRepository.CandidateView candidate : active) {
+                top.offer(candidate.getId(), profile.score(candidate));
+            }
+            ids = Arrays.stream(top.ids()).boxed().toList();
+            scanned = active.size();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        latency.record(elapsed, TimeUnit.NANOSECONDS);
+        shortlistSize.record(ids.size());
+        log.debug("[후보 생성] 마감 전 공고 {}건 중 {}건 확인 → 후보 {}건 ({}ms)",
+                activeCount, scanned, ids.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return new Shortlist(ids, activeCount);
+    }
+
+    /**
+     * 이미 순위가 매겨진 공고(저장된 목록, 벡터 색인 결과)에 후보 생성과 같은 기준 적용
+     * 마감된 공고와 경력 구간이 맞지 않는 공고는 빼고, 이력서 지역과 같은(또는 지역 정보가 없는) 공고부터
+     * 순위대로 limit 개를 채운다. 모자라면 다른 지역 공고로 채운다.
+     * @return 남긴 공고 id (입력 순서 유지)
+     */
+    public List<Long> retain(Resume resume, List<Long> rankedIds, int limit) {
+        if (rankedIds.isEmpty()) {
+            return rankedIds;
+        }
+        Map<Long, JobPostingRepository.CandidateView> active = new HashMap<>();
+        for (JobPostingRepository.CandidateView view
+                : jobPostingRepository.findActiveCandidatesByIdIn(rankedIds, LocalDateTime.now())) {
+            active.put(view.getId(), view);
+        }
+        ResumeProfile profile = profile(resume);
+        List<Long> sameRegion = new ArrayList<>(limit);
+        List<Long> otherRegion = new ArrayList<>(limit);
+        for (Long id : rankedIds) {
+            JobPostingRepository.CandidateView view = active.get(id);
+            if (view == null || Boolean.FALSE.equals(profile.experienceMatches(view.getExperienceLevel()))) {
+                continue;
+            }
+            if (profile.sameRegionOrUnknown(view.getLocation())) {
+                sameRegion.add(id);
+            } else {
+                otherRegion.add(id);
+            }
+        }
+        Set<Long> kept = new HashSet<>(sameRegion.subList(0, Math.min(limit, sameRegion.size())));
+        for (int i = 0; kept.size() < limit && i < otherRegion.size(); i++) {
+            kept.add(otherRegion.get(i));
+        }
+        return rankedIds.stream().filter(kept::contains).toList();
+    }
+
+    private ResumeProfile profile(Resume resume) {
+        return ResumeProfile.of(resume.getContent(), resumeRepository.findUserAddress(resume.getId()).orElse(null));
+    }
+
+    /**
+     * 표본 요청이면 (백그라운드에서) 마감 전 공고 전체의 AI 점수 상위 k개와 후보 결과를 비교해 recall@k 기록
+     * N 을 줄일수록 지연/비용은 줄고 recall 은 떨어지므로, 이 값과 match.candidates.latency 를 보고 N 을 정한다.
+     * @param shortlistTop 후보만으로 계산한 상위 결과 (부분 결과면 비교하지 않는다)
+     */
+    public void auditRecall(String subject, Shortlist shortlist, TopK shortlistTop) {
+        int k = shortlistTop.size();
+        if (k == 0 || shortlistTop.isDegraded() || !shortlist.truncated()
+                || shortlist.activeCount() > recallMaxPostings || ThreadLocalRandom.current().nextDouble() >= recallSampleRate) {
+            return;
+        }
+        long[] shortlisted = shortlistTop.ids();
+        try {
+            auditExecutor.execute(() -> measureRecall(subject, shortlisted, shortlist, k));
+        } catch (RejectedExecutionException e) {
+            log.debug("[후보 생성] recall 측정 진행 중, 이번 표본은 건너뜀");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        auditExecutor.shutdownNow();
+    }
+
+    // 측정 스레드에서 기다리되, 샤드 요청은 매칭 요청이 쓰는 공용 스레드 풀 대신 비동기 클라이언트로 보낸다
+    private void measureRecall(String subject, long[] shortlisted, Shortlist shortlist, int k) {
+        try {
+            List<JobPostingRepository.MatchSourceView> sources =
+                    jobPostingRepository.findActiveMatchSources(LocalDateTime.now());
+            // 측정용 호출이므로 사용자 요청보다 뒤로
+            TopK full = AiRequestContext.background("recall-audit").call(() -> shardedAiMatcher.matchAsync(subject,
+                    sources.stream().map(JobPostingRepository.MatchSourceView::getId).toList(),
+                    sources.stream().map(s -> MatchTexts.jobPosting(s.getPosition(), s.getRequiredSkills(), s.getDescription())).toList(),
+                    k)).join();
+            if (full.isDegraded()) {
+                log.debug("[후보 생성] 전체 점수가 부분 결과라 recall 을 기록하지 않음");
+                return;
+            }
+            Set<Long> expected = new HashSet<>();
+            for (long id : full.ids()) {
+                expected.add(id);
+            }
+            int hit = 0;
+            for (long id : shortlisted) {
+                if (expected.contains(id)) {
+                    hit++;
+                }
+            }
+            double value = expected.isEmpty() ? 1.0 : (double) hit / expected.size();
+            recall.record(value);
+            log.info("[후보 생성] recall@{}={} (후보 {}건 / 마감 전 공고 {}건)",
+                    k, String.format("%.2f", value), shortlist.ids().size(), shortlist.activeCount());
+        } catch (RuntimeException e) {
+            log.warn("[후보 생성] recall 측정 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 후보 점수 계산용 이력서 특징 (본문 토큰, 작성자 주소 지역, 경력 연차)
+     */
+    static final class ResumeProfile {
+
+        private final String text;
+        private final Set<String> tokens;
+        private final String region;
+        private final Integer years;
+
+        private ResumeProfile(String text, Set<String> tokens, String region, Integer years) {
+            this.text = text;
+            this.tokens = tokens;
+            this.region = region;
+            this.years = years;
+        }
+
+        static ResumeProfile of(String content, String address) {
+            String text = content == null ? "" : content.toLowerCase(Locale.ROOT);
+            Set<String> tokens = new HashSet<>(Arrays.asList(RESUME_TOKEN_SEPARATOR.split(text)));
+            return new ResumeProfile(text, tokens, region(address), years(text));
+        }
+
+        double score(JobPostingRepository.CandidateView candidate) {
+            double score = SKILL_WEIGHT * skillOverlap(candidate.getRequiredSkills());
+            String location = region(candidate.getLocation());
+            if (region != null && region.equals(location)) {
+                score += REGION_WEIGHT;
+            }
+            Boolean experience = experienceMatches(candidate.getExperienceLevel());
+            if (experience != null) {
+                score += experience ? EXPERIENCE_MATCH : EXPERIENCE_MISMATCH;
+            }
+            return score;
+        }
+
+        boolean sameRegionOrUnknown(String location) {
+            String other = region(location);
+            return region == null || other == null || region.equals(other);
+        }
+
+        int skillOverlap(String requiredSkills) {
+            if (requiredSkills == null || requiredSkills.isBlank()) {
+                return 0;
+            }
+            int overlap = 0;
+            for (String raw : SKILL_SEPARATOR.split(requiredSkills.toLowerCase(Locale.ROOT))) {
+                String skill = raw.trim();
+                if (skill.length() < 2) {
+                    continue;
+                }
+                // 한 단어 기술명은 토큰 집합으로, 여러 단어("spring boot")는 본문 포함 여부로 확인
+                if (skill.indexOf(' ') < 0 ? tokens.contains(skill) : text.contains(skill)) {
+                    overlap++;
+                }
+            }
+            return overlap;
+        }
+
+        /**
+         * @return 경력 구간에 맞으면 true, 벗어나면 false, 판단할 수 없으면 null
+         */
+        Boolean experienceMatches(String experienceLevel) {
+            if (years == null || experienceLevel == null || experienceLevel.isBlank()
+                    || experienceLevel.contains("무관")) {
+                return null;
+            }
+            List<Integer> numbers = new ArrayList<>();
+            Matcher m = NUMBER.matcher(experienceLevel);
+            while (m.find()) {
+                numbers.add(Integer.parseInt(m.group(1)));
+            }
+            boolean newcomer = experienceLevel.contains("신입");
+            if (numbers.isEmpty()) {
+                // "신입" 만이면 1년 이하, "신입·경력" 처럼 구간이 없으면 판단하지 않는다
+                return newcomer && !experienceLevel.contains("경력") ? years <= 1 : null;
+            }
+            int min = newcomer ? 0 : numbers.get(0);
+            int max = numbers.size() > 1 ? numbers.get(1)
+                    : experienceLevel.contains("이상") || !newcomer ? Integer.MAX_VALUE : numbers.get(0);
+            // 경계 근처는 허용 (1년 부족, 2년 초과까지)
+            return years >= min - 1 && (max == Integer.MAX_VALUE || years <= max + 2);
+        }
+
+        static Integer years(String text) {
+            Matcher m = RESUME_YEARS.matcher(text);
+            int best = -1;
+            while (m.find()) {
+                String group = m.group(1) != null ? m.group(1) : m.group(2);
+                best = Math.max(best, Integer.parseInt(group));
+            }
+            if (best >= 0) {
+                return best;
+            }
+            return text.contains("신입") ? 0 : null;
+        }
+
+        static String region(String address) {
+            if (address == null || address.isBlank()) {
+                return null;
+            }
+            String first = address.trim().split("\\s+")[0];
+            String alias = REGION_ALIASES.get(first);
+            if (alias != null) {
+                return alias;
+            }
+            return first.length() <= 2 ? first : first.substring(0, 2);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import com.jobbridge.jobbridge_backend.entity.Embedding;
+import com.jobbridge.jobbridge_backend.repository.EmbeddingRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 채용공고 임베딩 색인 (JVM 내부)
+ * embedding 테이블에 미리 계산된 공고 벡터를 메모리에 올려 두고, 매칭 요청 시 여기서 상위 k개를 찾는다.
+ * (벡터 계산은 {@link com.jobbridge.jobbridge_backend.service.EmbeddingService} 담당, 여기서는 읽기만 한다)
+ * 공고 수가 match.index.hnsw-threshold 이상이면 전수 비교 대신 HNSW 그래프로 검색한다.
+ * 저장소 동기화(HNSW 재구성 포함)는 오래 걸릴 수 있어 기본 @Scheduled 스레드를 막지 않도록 전용 스레드에서 돈다.
+ */
+@Slf4j
+@Component
+public class JobVectorIndex {
+
+    private final EmbeddingRepository embeddingRepository;
+    private final MatchResultCache matchResultCache;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ThreadPoolTaskScheduler scheduler;
+
+    // 공고 id → 색인에 반영된 임베딩의 updatedAt (sync 스레드만 접근)
+    private final Map<Long, LocalDateTime> indexedVersions = new HashMap<>();
+    private volatile FlatVectorIndex flat;
+    private volatile HnswIndex hnsw;
+
+    @Value("${match.index.hnsw-threshold:20000}")
+    private int hnswThreshold;
+
+    @Value("${match.index.hnsw.m:16}")
+    private int hnswM;
+
+    @Value("${match.index.hnsw.ef-construction:200}")
+    private int hnswEfConstruction;
+
+    @Value("${match.index.hnsw.ef-search:128}")
+    private int hnswEfSearch;
+
+    // tombstone 비율이 이 값을 넘으면 HNSW 를 새로 만든다
+    @Value("${match.index.hnsw.rebuild-deleted-ratio:0.2}")
+    private double hnswRebuildDeletedRatio;
+
+    // 한 번에 읽어 올 벡터 수
+    @Value("${match.index.load-batch:500}")
+    private int loadBatchSize;
+
+    @Value("${match.index.sync-enabled:true}")
+    private boolean syncEnabled;
+
+    @Value("${match.index.sync-interval-ms:30000}")
+    private long syncIntervalMs;
+
+    public JobVectorIndex(EmbeddingRepository embeddingRepository, MatchResultCache matchResultCache) {
+        this.embeddingRepository = embeddingRepository;
+        this.matchResultCache = matchResultCache;
+
+        // TaskScheduler 빈으로 등록하지 않는 이유는 CrawlScheduler 와 같다
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setPoolSize(1);
+        this.scheduler.setThreadNamePrefix("vector-index-sync-");
+        this.scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        this.scheduler.initialize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!syncEnabled) {
+            log.info("[벡터 색인] 주기 동기화 비활성화됨 (match.index.sync-enabled=false)");
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(this::syncSafely, Instant.now(), Duration.ofMillis(syncIntervalMs));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private void syncSafely() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.error("[벡터 색인] 동기화 실패", e);
+        }
+    }
+
+    /**
+     * 검색할 벡터가 하나라도 있는지
+     */
+    public boolean isReady() {
+        FlatVectorIndex current = flat;
+        return current != null && current.size() > 0;
+    }
+
+    public int size() {
+        FlatVectorIndex current = flat;
+        return current != null ? current.size() : 0;
+    }
+
+    /**
+     * 코사인 유사도 상위 k개 공고 (점수 내림차순)
+     */
+    public TopK search(float[] query, int k) {
+        float[] normalized = VectorMath.normalize(query);
+        lock.readLock().lock();
+        try {
+            if (flat == null) {
+                return new TopK(k).sort();
+            }
+            return hnsw != null ? hnsw.search(normalized, k) : flat.search(normalized, k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 공고의 정규화 벡터 (색인에 없으면 null)
+     */
+    float[] vector(long id) {
+        lock.readLock().lock();
+        try {
+            return flat != null ? flat.get(id) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 공고와의 코사인 유사도 (근사 없이 전수 계산)
+     */
+    void scoreAll(float[] query, FlatVectorIndex.ScoreConsumer consumer) {
+        float[] normalized = VectorMath.normalize(query);
+        lock.readLock().lock();
+        try {
+            if (flat != null && flat.dimension() == normalized.length) {
+                flat.scoreAll(normalized, consumer);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 임베딩 저장소와 색인 동기화: 새로 생기거나 갱신된 벡터만 읽어 오고, 삭제된 공고는 뺀다
+     */
+    public synchronized void sync() {
+        List<EmbeddingRepository.VersionView> versions = embeddingRepository.findVersions(Embedding.TargetType.JOB_POSTING);
+        Set<Long> live = new HashSet<>(versions.size() * 2);
+        List<Long> stale = new ArrayList<>();
+        for (EmbeddingRepository.VersionView version : versions) {
+            live.add(version.getTargetId());
+            if (!indexedVersions.containsKey(version.getTargetId())
+                    || !Objects.equals(indexedVersions.get(version.getTargetId()), version.getUpdatedAt())) {
+                stale.add(version.getTargetId());
+            }
+        }
+        List<Long> removed = indexedVersions.keySet().stream()
+                .filter(id -> !live.contains(id))
+                .toList();
+
+        if (!removed.isEmpty()) {
+            write(() -> removed.forEach(this::removeVector));
+            removed.forEach(indexedVersions::remove);
+        }
+
+        int loaded = 0;
+        for (int from = 0; from < stale.size(); from += loadBatchSize) {
+            loaded += load(stale.subList(from, Math.min(from + loadBatchSize, stale.size())));
+        }
+
+        maintainHnsw();
+        if (loaded > 0 || !removed.isEmpty()) {
+            // 추천 결과가 달라질 수 있으므로 공고 추천 캐시 무효화
+            matchResultCache.bump(Embedding.TargetType.JOB_POSTING);
+            log.info("[벡터 색인] 반영={}, 삭제={}, 전체={}, HNSW={}", loaded, removed.size(), size(), hnsw != null);
+        }
+    }
+
+    private int load(List<Long> ids) {
+        List<Embedding> embeddings = embeddingRepository.findByTargetTypeAndTargetIdIn(Embedding.TargetType.JOB_POSTING, ids);
+        write(() -> {
+            for (Embedding embedding : embeddings) {
+                upsertVector(embedding.getTargetId(), VectorCodec.decode(embedding.getVectorData()));
+            }
+        });
+        embeddings.forEach(embedding -> indexedVersions.put(embedding.getTargetId(), embedding.getUpdatedAt()));
+        return embeddings.size();
+    }
+
+    // 임계값을 넘으면 HNSW 생성, 내려가면 제거, tombstone 이 많으면 재생성
+    private void maintainHnsw() {
+        FlatVectorIndex current = flat;
+        if (current == null || current.size() < hnswThreshold) {
+            if (hnsw != null) {
+                write(() -> hnsw = null);
+            }
+            return;
+        }
+        if (hnsw != null && hnsw.deletedRatio() <= hnswRebuildDeletedRatio) {
+            return;
+        }
+
+        // 새 그래프는 읽기 잠금만 잡고 만든다 (검색은 계속 기존 색인으로 처리)
+        long start = System.nanoTime();
+        HnswIndex built;
+        lock.readLock().lock();
+        try {
+            HnswIndex graph = new HnswIndex(current.dimension(), hnswM, hnswEfConstruction, hnswEfSearch, current.size());
+            current.forEach(graph::upsert);
+            built = graph;
+        } finally {
+            lock.readLock().unlock();
+        }
+        write(() -> hnsw = built);
+        log.info("[벡터 색인] HNSW 구성 완료: {}건, {}ms", built.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void upsertVector(long id, float[] vector) {
+        if (flat == null) {
+            flat = new FlatVectorIndex(vector.length, loadBatchSize);
+        } else if (flat.dimension() != vector.length) {
+            // 임베딩 모델이 바뀐 경우: 이전 벡터와 섞을 수 없으므로 처음부터 다시 쌓는다
+            log.warn("[벡터 색인] 임베딩 차원 변경 {} → {}, 색인 초기화", flat.dimension(), vector.length);
+            flat = new FlatVectorIndex(vector.length, loadBatchSize);
+            hnsw = null;
+            indexedVersions.clear();
+        }
+        flat.upsert(id, vector);
+        if (hnsw != null) {
+            hnsw.upsert(id, vector);
+        }
+    }
+
+    private void removeVector(long id) {
+        if (flat != null) {
+            flat.remove(id);
+        }
+        if (hnsw != null) {
+            hnsw.remove(id);
+        }
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
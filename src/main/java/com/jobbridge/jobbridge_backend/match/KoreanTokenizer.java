@@ -0,0 +1,93 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * BM25 색인용 토크나이저 (형태소 분석기 없이 한국어/영문 혼합 텍스트 처리)
+ * - 영문/숫자: 소문자 단어 그대로 (c++, c#, node.js 처럼 +#. 포함)
+ * - 한글: 끝의 조사를 뗀 어절 + 글자 bigram (복합어 "백엔드개발자" 도 "백엔"/"엔드"/"개발"... 로 겹치게 한다)
+ */
+public final class KoreanTokenizer {
+
+    // 길이가 긴 것부터 비교 (에서 → 에 순서)
+    private static final String[] JOSA = {
+            "에서는", "으로는", "에게서", "이라는", "까지", "부터", "에서", "으로", "에게", "처럼", "보다", "이나",
+            "라는", "하는", "했던", "하고", "입니다", "합니다",
+            "은", "는", "이", "가", "을", "를", "에", "로", "와", "과", "의", "도", "만", "나"
+    };
+
+    private KoreanTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        int i = 0;
+        while (i < length) {
+            char c = lower.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(lower.charAt(i))) {
+                    i++;
+                }
+                addHangul(lower.substring(start, i), tokens);
+            } else if (isWordChar(c)) {
+                int start = i;
+                while (i < length && (isWordChar(lower.charAt(i)) || isJoiner(lower.charAt(i)))) {
+                    i++;
+                }
+                // 끝의 마침표는 문장 부호로 보고 뗀다 ("java." → "java")
+                int end = i;
+                while (end > start && lower.charAt(end - 1) == '.') {
+                    end--;
+                }
+                if (end - start >= 2) {
+                    tokens.add(lower.substring(start, end));
+                }
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addHangul(String word, List<String> tokens) {
+        String stem = stripJosa(word);
+        if (stem.length() < 2) {
+            return;
+        }
+        tokens.add(stem);
+        if (stem.length() > 2) {
+            for (int j = 0; j + 1 < stem.length(); j++) {
+                tokens.add(stem.substring(j, j + 2));
+            }
+        }
+    }
+
+    private static String stripJosa(String word) {
+        for (String josa : JOSA) {
+            if (word.length() > josa.length() + 1 && word.endsWith(josa)) {
+                return word.substring(0, word.length() - josa.length());
+            }
+        }
+        return word;
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) && !isHangul(c);
+    }
+
+    private static boolean isJoiner(char c) {
+        return c == '+' || c == '#' || c == '.';
+    }
+}
@@ -0,0 +1,269 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import com.jobbridge.jobbridge_backend.entity.Embedding;
+import com.jobbridge.jobbridge_backend.repository.JobPostingRepository;
+import com.jobbridge.jobbridge_backend.repository.ResumeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공고/이력서 BM25 색인 (JVM 내부, AI 서버와 무관하게 동작)
+ * - AI 매칭이 실패하거나 마감 시간을 넘기면 대신 점수를 매기는 대체 경로
+ * - (match.lexical.prerank.enabled) AI 서버로 보내기 전에 후보를 줄이는 사전 순위
+ * 기동 후 전체를 읽어 만들고, 이후에는 내용 변경 이벤트로 해당 문서만 갱신한다.
+ * 이벤트를 놓친 경우를 위해 match.lexical.rebuild-interval-ms 마다 새로 만든다 (match.lexical.rebuild-enabled=false 면 끔).
+ */
+@Slf4j
+@Component
+public class LexicalMatchIndex {
+
+    private final JobPostingRepository jobPostingRepository;
+    private final ResumeRepository resumeRepository;
+    private final Map<Embedding.TargetType, Corpus> corpora = new EnumMap<>(Embedding.TargetType.class);
+    private final Map<Embedding.TargetType, Counter> fallbacks = new EnumMap<>(Embedding.TargetType.class);
+    private final ThreadPoolExecutor executor;
+
+    // 전체 재구성 시 한 번에 읽을 행 수
+    @Value("${match.lexical.load-batch:500}")
+    private int loadBatchSize;
+
+    // BM25 점수 → 0~1 유사도 변환 기준 (이 점수가 0.5)
+    @Value("${match.lexical.score-half:10.0}")
+    private double scoreHalf;
+
+    // 주기적 전체 재구성 (기동 시 1회 구성과 변경 이벤트 반영은 항상 한다)
+    @Value("${match.lexical.rebuild-enabled:true}")
+    private boolean rebuildEnabled;
+
+    @Value("${match.lexical.prerank.enabled:false}")
+    private boolean prerankEnabled;
+
+    // 사전 순위 후 AI 서버로 보낼 후보 수
+    @Value("${match.lexical.prerank.size:100}")
+    private int prerankSize;
+
+    public LexicalMatchIndex(JobPostingRepository jobPostingRepository,
+                             ResumeRepository resumeRepository,
+                             MeterRegistry registry,
+                             @Value("${match.lexical.queue-capacity:1000}") int queueCapacity) {
+        this.jobPostingRepository = jobPostingRepository;
+        this.resumeRepository = resumeRepository;
+        for (Embedding.TargetType type : Embedding.TargetType.values()) {
+            corpora.put(type, new Corpus());
+            fallbacks.put(type, Counter.builder("match.lexical.fallback")
+                    .tag("corpus", type.name().toLowerCase(Locale.ROOT))
+                    .description("AI 매칭 실패로 BM25 점수를 대신 사용한 횟수")
+                    .register(registry));
+        }
+        // 색인 갱신은 단일 스레드에서 순서대로 (가득 차면 버리고 주기적 재구성에 맡긴다)
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "lexical-index");
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuildAll();
+    }
+
+    @Scheduled(initialDelayString = "${match.lexical.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${match.lexical.rebuild-interval-ms:3600000}")
+    public void scheduledRebuild() {
+        if (rebuildEnabled) {
+            rebuildAll();
+        }
+    }
+
+    public void rebuildAll() {
+        for (Embedding.TargetType type : Embedding.TargetType.values()) {
+            submit(() -> rebuild(type));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSourceChanged(EmbeddingSourceChangedEvent event) {
+        submit(() -> apply(event.targetType(), event.ids()));
+    }
+
+    public boolean isReady(Embedding.TargetType type) {
+        return corpora.get(type).ready;
+    }
+
+    /**
+     * BM25 상위 k개 (점수는 0~1 유사도로 변환, 내림차순)
+     * @param candidates null 이 아니면 이 id 들 중에서만
+     */
+    public TopK search(Embedding.TargetType type, String query, int k, Collection<Long> candidates) {
+        Set<Long> allowed = candidates != null ? new HashSet<>(candidates) : null;
+        Corpus corpus = corpora.get(type);
+        TopK raw;
+        corpus.lock.readLock().lock();
+        try {
+            raw = corpus.index.search(query, k, allowed != null ? allowed::contains : null);
+        } finally {
+            corpus.lock.readLock().unlock();
+        }
+        TopK result = new TopK(k);
+        for (int rank = 0; rank < raw.size(); rank++) {
+            result.offer(raw.id(rank), raw.score(rank) / (raw.score(rank) + scoreHalf));
+        }
+        return result.sort();
+    }
+
+    /**
+     * AI 매칭 실패 시 대체 점수 (색인이 준비되지 않았으면 원래 예외를 그대로 던진다)
+     * AI 점수와 섞여 캐시되지 않도록 degraded 로 표시해 돌려준다.
+     */
+    public TopK fallback(Embedding.TargetType type, String query, int k, Collection<Long> candidates,
+                         RuntimeException cause) {
+        if (!isReady(type)) {
+            throw cause;
+        }
+        fallbacks.get(type).increment();
+        log.warn("[BM25] AI 매칭 실패 → BM25 점수로 대체 ({}): {}", type, cause.getMessage());
+        return search(type, query, k, candidates).markDegraded();
+    }
+
+    /**
+     * 사전 순위: 후보가 많으면 BM25 상위 match.lexical.prerank.size 개만 남긴다
+     * (꺼져 있거나, 색인이 준비 전이거나, 겹치는 단어가 하나도 없으면 그대로 반환)
+     */
+    public List<Long> prerank(Embedding.TargetType type, String query, List<Long> candidates) {
+        if (!prerankEnabled || candidates.size() <= prerankSize || !isReady(type)) {
+            return candidates;
+        }
+        TopK top = search(type, query, prerankSize, candidates);
+        if (top.size() == 0) {
+            return candidates;
+        }
+        return Arrays.stream(top.ids()).boxed().toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submit(Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("[BM25] 색인 갱신 실패: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("[BM25] 대기열 가득 참, 다음 재구성에서 반영");
+        }
+    }
+
+    // 새 색인을 잠금 밖에서 만든 뒤 교체 (검색은 그동안 이전 색인을 쓴다)
+    private void rebuild(Embedding.TargetType type) {
+        long start = System.nanoTime();
+        Bm25Index index = new Bm25Index();
+        long afterId = 0;
+        while (true) {
+            Map<Long, String> texts = loadAfter(type, afterId);
+            if (texts.isEmpty()) {
+                break;
+            }
+            for (Map.Entry<Long, String> entry : texts.entrySet()) {
+                index.upsert(entry.getKey(), entry.getValue());
+                afterId = Math.max(afterId, entry.getKey());
+            }
+        }
+        Corpus corpus = corpora.get(type);
+        corpus.lock.writeLock().lock();
+        try {
+            corpus.index = index;
+            corpus.ready = index.size() > 0;
+        } finally {
+            corpus.lock.writeLock().unlock();
+        }
+        log.info("[BM25] {} 색인 재구성: {}건, {}ms", type, index.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void apply(Embedding.TargetType type, List<Long> ids) {
+        Map<Long, String> texts = loadByIds(type, ids);
+        Corpus corpus = corpora.get(type);
+        corpus.lock.writeLock().lock();
+        try {
+            for (Long id : ids) {
+                String text = texts.get(id);
+                if (text != null) {
+                    corpus.index.upsert(id, text);
+                } else {
+                    corpus.index.remove(id);
+                }
+            }
+            corpus.ready = corpus.index.size() > 0;
+        } finally {
+            corpus.lock.writeLock().unlock();
+        }
+    }
+
+    private Map<Long, String> loadAfter(Embedding.TargetType type, long afterId) {
+        PageRequest page = PageRequest.of(0, loadBatchSize);
+        Map<Long, String> texts = new HashMap<>();
+        if (type == Embedding.TargetType.JOB_POSTING) {
+            jobPostingRepository.findMatchSourcesAfter(afterId, page).forEach(s -> texts.put(s.getId(), jobText(s)));
+        } else {
+            resumeRepository.findMatchSourcesAfter(afterId, page).forEach(s -> texts.put(s.getId(), s.getContent()));
+        }
+        return texts;
+    }
+
+    private Map<Long, String> loadByIds(Embedding.TargetType type, List<Long> ids) {
+        Map<Long, String> texts = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += loadBatchSize) {
+            List<Long> chunk = new ArrayList<>(ids.subList(from, Math.min(from + loadBatchSize, ids.size())));
+            if (type == Embedding.TargetType.JOB_POSTING) {
+                jobPostingRepository.findMatchSourcesByIdIn(chunk).forEach(s -> texts.put(s.getId(), jobText(s)));
+            } else {
+                resumeRepository.findMatchSourcesByIdIn(chunk).forEach(s -> texts.put(s.getId(), s.getContent()));
+            }
+        }
+        return texts;
+    }
+
+    private static String jobText(JobPostingRepository.MatchSourceView source) {
+        return MatchTexts.jobPosting(source.getPosition(), source.getRequiredSkills(), source.getDescription());
+    }
+
+    private static final class Corpus {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile Bm25Index index = new Bm25Index();
+        private volatile boolean ready;
+    }
+}
@@ -0,0 +1,235 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import com.jobbridge.jobbridge_backend.entity.Embedding;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 매칭 결과 캐시 (/api/match/jobs, /api/match/resumes)
+ * 대상(이력서 또는 공고)마다 결과 1개를 LRU 로 보관하고, 다음 조건이 모두 같을 때만 재사용한다.
+ * - 대상의 updatedAt
+ * - 후보 집합(공고 또는 이력서)의 버전: 쓰기 이벤트 커밋 후, 벡터 색인 변경 시 증가
+ * 버전 카운터는 노드 로컬이므로 다른 노드의 쓰기는 match.cache.ttl 안에서 반영된다.
+ * 같은 (대상, 대상 버전, 후보 집합 버전) 계산이 이미 진행 중이면 새로 계산하지 않고 그 결과를 함께 기다린다.
+ * 부분 결과나 대체 점수({@link Result#degraded})는 진행 중이던 요청에만 전달하고 저장하지 않는다.
+ */
+@Component
+public class MatchResultCache {
+
+    public enum Kind {
+        JOBS(Embedding.TargetType.JOB_POSTING),   // 이력서 → 추천 공고
+        RESUMES(Embedding.TargetType.RESUME);     // 공고 → 추천 이력서
+
+        private final Embedding.TargetType corpus;
+
+        Kind(Embedding.TargetType corpus) {
+            this.corpus = corpus;
+        }
+    }
+
+    private final Map<Embedding.TargetType, AtomicLong> corpusVersions = new EnumMap<>(Embedding.TargetType.class);
+    private final Map<Kind, Counter> hits = new EnumMap<>(Kind.class);
+    private final Map<Kind, Counter> misses = new EnumMap<>(Kind.class);
+    private final Map<Kind, Counter> coalesced = new EnumMap<>(Kind.class);
+    private final Map<Kind, Counter> uncached = new EnumMap<>(Kind.class);
+    private final Map<Flight, CompletableFuture<List<?>>> inFlight = new ConcurrentHashMap<>();
+    private final LinkedHashMap<Key, Entry> entries;
+    private final long ttlNanos;
+
+    public MatchResultCache(MeterRegistry registry,
+                            @Value("${match.cache.max-entries:10000}") int maxEntries,
+                            @Value("${match.cache.ttl:PT10M}") Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        for (Embedding.TargetType type : Embedding.TargetType.values()) {
+            corpusVersions.put(type, new AtomicLong());
+        }
+        for (Kind kind : Kind.values()) {
+            String cache = kind.name().toLowerCase(Locale.ROOT);
+            hits.put(kind, Counter.builder("match.cache.requests").tag("cache", cache).tag("result", "hit")
+                    .description("매칭 결과 캐시 조회").register(registry));
+            misses.put(kind, Counter.builder("match.cache.requests").tag("cache", cache).tag("result", "miss")
+                    .description("매칭 결과 캐시 조회").register(registry));
+            coalesced.put(kind, Counter.builder("match.cache.requests").tag("cache", cache).tag("result", "coalesced")
+                    .description("매칭 결과 캐시 조회").register(registry));
+            uncached.put(kind, Counter.builder("match.cache.uncached").tag("cache", cache)
+                    .description("부분/대체 결과라 저장하지 않은 계산").register(registry));
+        }
+        Gauge.builder("match.cache.size", this, MatchResultCache::size)
+                .description("매칭 결과 캐시 항목 수")
+                .register(registry);
+    }
+
+    /**
+     * loader 계산 결과
+     * @param cacheable false 면 요청한 쪽에만 돌려주고 저장하지 않는다
+     */
+    public record Result<T>(List<T> value, boolean cacheable) {
+
+        public static <T> Result<T> of(List<T> value) {
+            return new Result<>(value, true);
+        }
+
+        /**
+         * 일부 후보만 반영했거나 대체 점수로 만든 결과 (다음 요청에서 다시 계산)
+         */
+        public static <T> Result<T> degraded(List<T> value) {
+            return new Result<>(value, false);
+        }
+    }
+
+    /**
+     * 캐시된 결과가 유효하면 반환하고, 아니면 loader 로 계산해 저장 (호출 스레드에서 계산)
+     * @param subjectVersion 대상의 updatedAt (또는 내용 해시)
+     */
+    public <T> List<T> get(Kind kind, Long subjectId, Object subjectVersion, Supplier<Result<T>> loader) {
+        try {
+            return lookup(kind, subjectId, subjectVersion, () -> {
+                try {
+                    return CompletableFuture.completedFuture(loader.get());
+                } catch (RuntimeException e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * get 과 같지만 캐시에 없으면 executor 에서 계산하고 바로 반환
+     * @throws java.util.concurrent.RejectedExecutionException executor 가 가득 찬 경우
+     */
+    public <T> CompletableFuture<List<T>> getAsync(Kind kind, Long subjectId, Object subjectVersion,
+                                                   Supplier<Result<T>> loader, Executor executor) {
+        Objects.requireNonNull(executor);
+        return lookup(kind, subjectId, subjectVersion, () -> CompletableFuture.supplyAsync(loader, executor));
+    }
+
+    /**
+     * get 과 같지만 loader 가 스스로 비동기로 계산 (논블로킹 AI 호출 등)
+     */
+    public <T> CompletableFuture<List<T>> getAsync(Kind kind, Long subjectId, Object subjectVersion,
+                                                   Supplier<CompletableFuture<Result<T>>> loader) {
+        return lookup(kind, subjectId, subjectVersion, loader);
+    }
+
+    /**
+     * @param starter 캐시에 없고 진행 중인 계산도 없을 때 한 번만 호출 (동기적으로 던진 예외는 합류한 요청에도 전달 후 다시 던짐)
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<List<T>> lookup(Kind kind, Long subjectId, Object subjectVersion,
+                                                  Supplier<CompletableFuture<Result<T>>> starter) {
+        Key key = new Key(kind, subjectId);
+        long corpusVersion = corpusVersions.get(kind.corpus).get();
+        long now = System.nanoTime();
+
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry != null && entry.corpusVersion == corpusVersion
+                && Objects.equals(entry.subjectVersion, subjectVersion)
+                && now - entry.createdAtNanos < ttlNanos) {
+            hits.get(kind).increment();
+            return CompletableFuture.completedFuture((List<T>) entry.value);
+        }
+
+        // 같은 계산이 진행 중이면 합류
+        Flight flight = new Flight(key, subjectVersion, corpusVersion);
+        CompletableFuture<List<?>> created = new CompletableFuture<>();
+        CompletableFuture<List<?>> existing = inFlight.putIfAbsent(flight, created);
+        if (existing != null) {
+            coalesced.get(kind).increment();
+            return existing.thenApply(value -> (List<T>) value);
+        }
+
+        misses.get(kind).increment();
+        CompletableFuture<Result<T>> computation;
+        try {
+            computation = starter.get();
+        } catch (RuntimeException e) {
+            inFlight.remove(flight, created);
+            created.completeExceptionally(e); // 이미 합류한 요청도 같은 오류로 끝낸다
+            throw e;
+        }
+        computation.whenComplete((loaded, error) -> {
+            if (error != null) {
+                inFlight.remove(flight, created);
+                created.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+                return;
+            }
+            // 계산 중에 버전이 바뀌면 저장된 항목은 다음 조회에서 자연히 무효가 된다
+            List<T> value;
+            try {
+                value = List.copyOf(loaded.value());
+            } catch (RuntimeException e) {
+                inFlight.remove(flight, created);
+                created.completeExceptionally(e);
+                return;
+            }
+            if (loaded.cacheable()) {
+                synchronized (this) {
+                    entries.put(key, new Entry(subjectVersion, corpusVersion, now, value));
+                }
+            } else {
+                uncached.get(kind).increment();
+            }
+            inFlight.remove(flight, created);
+            created.complete(value);
+        });
+        return created.thenApply(value -> (List<T>) value);
+    }
+
+    /**
+     * 후보 집합이 바뀜 → 해당 종류의 캐시 전체 무효화
+     */
+    public void bump(Embedding.TargetType corpus) {
+        corpusVersions.get(corpus).incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSourceChanged(EmbeddingSourceChangedEvent event) {
+        bump(event.targetType());
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Key(Kind kind, Long subjectId) {
+    }
+
+    private record Flight(Key key, Object subjectVersion, long corpusVersion) {
+    }
+
+    private record Entry(Object subjectVersion, long corpusVersion, long createdAtNanos, List<?> value) {
+    }
+}
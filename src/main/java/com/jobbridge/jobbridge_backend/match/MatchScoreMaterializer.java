@@ -0,0 +1,398 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import com.jobbridge.jobbridge_backend.entity.Embedding;
+import com.jobbridge.jobbridge_backend.entity.MatchScore;
+import com.jobbridge.jobbridge_backend.entity.MatchScoreCursor;
+import com.jobbridge.jobbridge_backend.repository.EmbeddingRepository;
+import com.jobbridge.jobbridge_backend.repository.MatchScoreCursorRepository;
+import com.jobbridge.jobbridge_backend.service.SchedulerLeaseService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * match_score 테이블 유지 (이력서별 상위 공고 K개, 공고별 상위 이력서 K개)
+ * 저장된 임베딩의 코사인 유사도로 계산하며, 주기마다 바뀐 것만 반영한다.
+ * - 새로 생기거나 바뀐 공고: 모든 이력서와 점수를 매겨, 기존 목록에 들어갈 수 있는 이력서만 다시 계산
+ * - 바뀐 이력서: 그 이력서의 목록과, 점수가 기존 목록에 들어갈 수 있는 공고의 목록만 다시 계산
+ * - 목록에 있던 후보가 바뀌거나 삭제되거나 마감된 대상도 다시 계산
+ * 이력서별 목록에는 마감 전(또는 상시) 공고만 넣는다.
+ * 여러 인스턴스 중 임대 락을 잡은 한 노드만 실행하며, 기본은 꺼져 있다 (match.materialize.enabled=true 로 켠다).
+ */
+@Slf4j
+@Component
+public class MatchScoreMaterializer {
+
+    static final String LEASE_NAME = "match-materialize";
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO match_score (direction, subject_id, candidate_id, score, computed_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JobVectorIndex jobVectorIndex;
+    private final EmbeddingRepository embeddingRepository;
+    private final MatchScoreCursorRepository cursorRepository;
+    private final MatchResultCache matchResultCache;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskScheduler scheduler;
+
+    // 이력서 벡터 (실행 스레드만 접근) - 공고 벡터는 JobVectorIndex 를 그대로 쓴다
+    private final Map<Long, LocalDateTime> resumeVersions = new HashMap<>();
+    private FlatVectorIndex resumeIndex;
+
+    // 마감 전(또는 상시) 공고 id - 갱신마다 다시 읽는다 (실행 스레드만 접근)
+    private Set<Long> activeJobs = Set.of();
+
+    @Value("${match.materialize.enabled:false}")
+    private boolean enabled;
+
+    @Value("${match.materialize.interval:PT10M}")
+    private Duration interval;
+
+    @Value("${match.materialize.lease:PT5M}")
+    private Duration leaseDuration;
+
+    // 대상별로 저장할 후보 수 (응답은 상위 5개만 쓰지만, 후보 삭제 시 바로 비지 않도록 여유를 둔다)
+    @Value("${match.materialize.top-k:20}")
+    private int topK;
+
+    // 늦게 커밋된 임베딩을 놓치지 않도록 진행 위치보다 이만큼 앞에서부터 다시 본다
+    @Value("${match.materialize.overlap:PT1M}")
+    private Duration overlap;
+
+    // 한 트랜잭션에서 교체할 대상 수
+    @Value("${match.materialize.write-chunk:200}")
+    private int writeChunk;
+
+    @Value("${match.index.load-batch:500}")
+    private int loadBatchSize;
+
+    public MatchScoreMaterializer(JobVectorIndex jobVectorIndex,
+                                  EmbeddingRepository embeddingRepository,
+                                  MatchScoreCursorRepository cursorRepository,
+                                  MatchResultCache matchResultCache,
+                                  SchedulerLeaseService schedulerLeaseService,
+                                  JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate) {
+        this.jobVectorIndex = jobVectorIndex;
+        this.embeddingRepository = embeddingRepository;
+        this.cursorRepository = cursorRepository;
+        this.matchResultCache = matchResultCache;
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+
+        // 갱신 1 + 락 연장 1 (TaskScheduler 빈으로 등록하지 않는 이유는 CrawlScheduler 와 같다)
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setPoolSize(2);
+        this.scheduler.setThreadNamePrefix("match-materialize-");
+        this.scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        this.scheduler.initialize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("[매칭 목록] 비활성화됨 (match.materialize.enabled=false)");
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(
+                () -> schedulerLeaseService.runExclusively(LEASE_NAME, leaseDuration, scheduler, this::refreshSafely),
+                Instant.now().plus(interval), interval);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private void refreshSafely() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("[매칭 목록] 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 한 번의 증분 갱신
+     */
+    void refresh() {
+        long start = System.nanoTime();
+        jobVectorIndex.sync();
+        List<EmbeddingRepository.VersionView> jobVersions = embeddingRepository.findVersions(Embedding.TargetType.JOB_POSTING);
+        List<EmbeddingRepository.VersionView> resumeVersionList = embeddingRepository.findVersions(Embedding.TargetType.RESUME);
+        syncResumes(resumeVersionList);
+        if (!jobVectorIndex.isReady() || resumeIndex == null || resumeIndex.size() == 0) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        activeJobs = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM job_posting WHERE deadline IS NULL OR deadline >= ?", Long.class, now));
+        Set<Long> changedJobs = changedSince(jobVersions, cursor(Embedding.TargetType.JOB_POSTING));
+        changedJobs.retainAll(activeJobs); // 마감된 공고는 어느 목록에도 새로 들어가지 않는다
+        Set<Long> changedResumes = changedSince(resumeVersionList, cursor(Embedding.TargetType.RESUME));
+
+        // 1) 목록에 바뀐/삭제된 후보가 들어 있는 대상
+        Set<Long> resumesToRecompute = new HashSet<>(changedResumes);
+        Set<Long> jobsToRecompute = new HashSet<>(changedJobs);
+        resumesToRecompute.addAll(subjectsListing(MatchScore.Direction.RESUME_TO_JOB, changedJobs));
+        jobsToRecompute.addAll(subjectsListing(MatchScore.Direction.JOB_TO_RESUME, changedResumes));
+        resumesToRecompute.addAll(subjectsWithRemovedCandidates(MatchScore.Direction.RESUME_TO_JOB, Embedding.TargetType.JOB_POSTING));
+        jobsToRecompute.addAll(subjectsWithRemovedCandidates(MatchScore.Direction.JOB_TO_RESUME, Embedding.TargetType.RESUME));
+        resumesToRecompute.addAll(subjectsWithExpiredCandidates(now));
+
+        // 2) 새 점수가 기존 목록의 K번째보다 높은 대상 (바뀐 쪽만 상대 전체와 점수 계산)
+        Thresholds resumeThresholds = thresholds(MatchScore.Direction.RESUME_TO_JOB);
+        Thresholds jobThresholds = thresholds(MatchScore.Direction.JOB_TO_RESUME);
+        for (Long jobId : changedJobs) {
+            float[] vector = jobVectorIndex.vector(jobId);
+            if (vector != null) {
+                resumeIndex.scoreAll(vector, (resumeId, score) -> {
+                    if (resumeThresholds.admits(resumeId, score)) {
+                        resumesToRecompute.add(resumeId);
+                    }
+                });
+            }
+        }
+        for (Long resumeId : changedResumes) {
+            float[] vector = resumeIndex.get(resumeId);
+            if (vector != null) {
+                jobVectorIndex.scoreAll(vector, (jobId, score) -> {
+                    if (activeJobs.contains(jobId) && jobThresholds.admits(jobId, score)) {
+                        jobsToRecompute.add(jobId);
+                    }
+                });
+            }
+        }
+
+        // 3) 삭제된 대상의 목록 제거 후 다시 계산해 교체
+        int removed = deleteRemovedSubjects();
+        LocalDateTime computedAt = LocalDateTime.now();
+        int written = recompute(MatchScore.Direction.RESUME_TO_JOB, resumesToRecompute, computedAt)
+                + recompute(MatchScore.Direction.JOB_TO_RESUME, jobsToRecompute, computedAt);
+
+        saveCursor(Embedding.TargetType.JOB_POSTING, jobVersions);
+        saveCursor(Embedding.TargetType.RESUME, resumeVersionList);
+        if (written > 0 || removed > 0) {
+            matchResultCache.bump(Embedding.TargetType.JOB_POSTING);
+            matchResultCache.bump(Embedding.TargetType.RESUME);
+            log.info("[매칭 목록] 이력서 {}건, 공고 {}건 재계산 (바뀐 공고 {}, 바뀐 이력서 {}, 삭제 대상 {}), {}ms",
+                    resumesToRecompute.size(), jobsToRecompute.size(), changedJobs.size(), changedResumes.size(),
+                    removed, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private int recompute(MatchScore.Direction direction, Collection<Long> subjects, LocalDateTime computedAt) {
+        List<Long> ids = new ArrayList<>(subjects);
+        int written = 0;
+        for (int from = 0; from < ids.size(); from += writeChunk) {
+            List<Long> chunk = ids.subList(from, Math.min(from + writeChunk, ids.size()));
+            List<Long> present = new ArrayList<>(chunk.size());
+            List<Object[]> rows = new ArrayList<>(chunk.size() * topK);
+            for (Long subjectId : chunk) {
+                TopK top = search(direction, subjectId);
+                if (top == null) {
+                    continue;
+                }
+                present.add(subjectId);
+                for (int rank = 0; rank < top.size(); rank++) {
+                    rows.add(new Object[]{direction.name(), subjectId, top.id(rank), top.score(rank), computedAt});
+                }
+            }
+            if (present.isEmpty()) {
+                continue;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                namedJdbcTemplate.update(
+                        "DELETE FROM match_score WHERE direction = :direction AND subject_id IN (:ids)",
+                        new MapSqlParameterSource("direction", direction.name()).addValue("ids", present));
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            });
+            written += present.size();
+        }
+        return written;
+    }
+
+    // 대상 벡터가 없으면 (아직 색인 전이거나 삭제됨) null
+    private TopK search(MatchScore.Direction direction, Long subjectId) {
+        if (direction == MatchScore.Direction.RESUME_TO_JOB) {
+            float[] vector = resumeIndex.get(subjectId);
+            return vector != null ? searchActiveJobs(vector) : null;
+        }
+        float[] vector = jobVectorIndex.vector(subjectId);
+        return vector != null && vector.length == resumeIndex.dimension() ? resumeIndex.search(vector, topK) : null;
+    }
+
+    // 마감된 공고를 뺀 상위 K개 (빠진 만큼 검색 범위를 넓혀 다시 찾는다)
+    private TopK searchActiveJobs(float[] vector) {
+        int window = Math.min(topK * 2, Math.max(jobVectorIndex.size(), 1));
+        while (true) {
+            TopK ranked = jobVectorIndex.search(vector, window);
+            TopK top = new TopK(topK);
+            for (int rank = 0; rank < ranked.size(); rank++) {
+                if (activeJobs.contains(ranked.id(rank))) {
+                    top.offer(ranked.id(rank), ranked.score(rank));
+                }
+            }
+            if (top.isFull() || ranked.size() < window || window >= jobVectorIndex.size()) {
+                return top.sort();
+            }
+            window = Math.min(window * 2, jobVectorIndex.size());
+        }
+    }
+
+    private void syncResumes(List<EmbeddingRepository.VersionView> versions) {
+        Set<Long> live = new HashSet<>(versions.size() * 2);
+        List<Long> stale = new ArrayList<>();
+        for (EmbeddingRepository.VersionView version : versions) {
+            live.add(version.getTargetId());
+            if (!Objects.equals(resumeVersions.get(version.getTargetId()), version.getUpdatedAt())) {
+                stale.add(version.getTargetId());
+            }
+        }
+        List<Long> removed = resumeVersions.keySet().stream().filter(id -> !live.contains(id)).toList();
+        for (Long id : removed) {
+            resumeVersions.remove(id);
+            if (resumeIndex != null) {
+                resumeIndex.remove(id);
+            }
+        }
+        for (int from = 0; from < stale.size(); from += loadBatchSize) {
+            List<Long> chunk = stale.subList(from, Math.min(from + loadBatchSize, stale.size()));
+            for (Embedding embedding : embeddingRepository.findByTargetTypeAndTargetIdIn(Embedding.TargetType.RESUME, chunk)) {
+                float[] vector = VectorCodec.decode(embedding.getVectorData());
+                if (resumeIndex == null || resumeIndex.dimension() != vector.length) {
+                    resumeIndex = new FlatVectorIndex(vector.length, versions.size());
+                    resumeVersions.clear();
+                }
+                resumeIndex.upsert(embedding.getTargetId(), vector);
+                resumeVersions.put(embedding.getTargetId(), embedding.getUpdatedAt());
+            }
+        }
+    }
+
+    private Set<Long> changedSince(List<EmbeddingRepository.VersionView> versions, LocalDateTime since) {
+        LocalDateTime from = since.minus(overlap);
+        Set<Long> changed = new HashSet<>();
+        for (EmbeddingRepository.VersionView version : versions) {
+            if (version.getUpdatedAt().isAfter(from)) {
+                changed.add(version.getTargetId());
+            }
+        }
+        return changed;
+    }
+
+    private Set<Long> subjectsListing(MatchScore.Direction direction, Set<Long> candidates) {
+        Set<Long> subjects = new HashSet<>();
+        List<Long> ids = new ArrayList<>(candidates);
+        for (int from = 0; from < ids.size(); from += loadBatchSize) {
+            subjects.addAll(namedJdbcTemplate.queryForList(
+                    "SELECT DISTINCT subject_id FROM match_score WHERE direction = :direction AND candidate_id IN (:ids)",
+                    new MapSqlParameterSource("direction", direction.name())
+                            .addValue("ids", ids.subList(from, Math.min(from + loadBatchSize, ids.size()))),
+                    Long.class));
+        }
+        return subjects;
+    }
+
+    private List<Long> subjectsWithRemovedCandidates(MatchScore.Direction direction, Embedding.TargetType candidateType) {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT m.subject_id FROM match_score m WHERE m.direction = ? AND NOT EXISTS " +
+                        "(SELECT 1 FROM embedding e WHERE e.target_type = ? AND e.target_id = m.candidate_id)",
+                Long.class, direction.name(), candidateType.name());
+    }
+
+    // 이력서 목록에 마감된 공고가 들어 있는 이력서
+    private List<Long> subjectsWithExpiredCandidates(LocalDateTime now) {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT m.subject_id FROM match_score m JOIN job_posting j ON j.id = m.candidate_id " +
+                        "WHERE m.direction = ? AND j.deadline < ?",
+                Long.class, MatchScore.Direction.RESUME_TO_JOB.name(), now);
+    }
+
+    private int deleteRemovedSubjects() {
+        return transactionTemplate.execute(status ->
+                deleteRemovedSubjects(MatchScore.Direction.RESUME_TO_JOB, Embedding.TargetType.RESUME)
+                        + deleteRemovedSubjects(MatchScore.Direction.JOB_TO_RESUME, Embedding.TargetType.JOB_POSTING));
+    }
+
+    private int deleteRemovedSubjects(MatchScore.Direction direction, Embedding.TargetType subjectType) {
+        return jdbcTemplate.update(
+                "DELETE FROM match_score WHERE direction = ? AND subject_id NOT IN " +
+                        "(SELECT e.target_id FROM embedding e WHERE e.target_type = ?)",
+                direction.name(), subjectType.name());
+    }
+
+    private Thresholds thresholds(MatchScore.Direction direction) {
+        Thresholds thresholds = new Thresholds(topK);
+        jdbcTemplate.query(
+                "SELECT subject_id, COUNT(*), MIN(score) FROM match_score WHERE direction = ? GROUP BY subject_id",
+                rs -> {
+                    thresholds.put(rs.getLong(1), rs.getInt(2), rs.getDouble(3));
+                },
+                direction.name());
+        return thresholds;
+    }
+
+    private LocalDateTime cursor(Embedding.TargetType type) {
+        return cursorRepository.findById(type.name())
+                .map(MatchScoreCursor::getProcessedUntil)
+                .orElse(EPOCH);
+    }
+
+    private void saveCursor(Embedding.TargetType type, List<EmbeddingRepository.VersionView> versions) {
+        versions.stream()
+                .map(EmbeddingRepository.VersionView::getUpdatedAt)
+                .max(LocalDateTime::compareTo)
+                .ifPresent(latest -> cursorRepository.save(new MatchScoreCursor(type.name(), latest)));
+    }
+
+    // 대상별 현재 목록 크기와 K번째 점수
+    private static final class Thresholds {
+        private final int topK;
+        private final Map<Long, Integer> counts = new HashMap<>();
+        private final Map<Long, Double> minScores = new HashMap<>();
+
+        Thresholds(int topK) {
+            this.topK = topK;
+        }
+
+        void put(long subjectId, int count, double minScore) {
+            counts.put(subjectId, count);
+            minScores.put(subjectId, minScore);
+        }
+
+        // 목록이 없거나 덜 찼거나, K번째보다 높으면 목록이 바뀔 수 있다
+        boolean admits(long subjectId, double score) {
+            Integer count = counts.get(subjectId);
+            return count == null || count < topK || score > minScores.get(subjectId);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import com.jobbridge.jobbridge_backend.entity.JobPosting;
+import com.jobbridge.jobbridge_backend.entity.Resume;
+
+/**
+ * AI 서버로 보내는 매칭용 텍스트 (임베딩/점수 계산이 같은 표현을 쓰도록 한 곳에서 만든다)
+ */
+public final class MatchTexts {
+
+    private MatchTexts() {
+    }
+
+    public static String jobPosting(JobPosting job) {
+        return jobPosting(job.getPosition(), job.getRequiredSkills(), job.getDescription());
+    }
+
+    public static String jobPosting(String position, String requiredSkills, String description) {
+        return String.join("\n",
+                "채용포지션: " + position,
+                "요구역량: " + requiredSkills,
+                "상세내용: " + description
+        );
+    }
+
+    public static String resume(Resume resume) {
+        return resume.getContent();
+    }
+}
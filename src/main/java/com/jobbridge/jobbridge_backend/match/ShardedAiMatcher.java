@@ -0,0 +1,331 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import com.jobbridge.jobbridge_backend.util.AiHttpClient;
+import com.jobbridge.jobbridge_backend.util.AiRequestContext;
+import com.jobbridge.jobbridge_backend.util.AiUnavailableException;
+import com.jobbridge.jobbridge_backend.util.MatchScores;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 후보를 샤드로 나눠 AI 서버 /api/match 에 병렬 요청하고, 도착하는 대로 상위 k개로 병합
+ * 요청 1건의 크기와 지연이 전체 후보 수가 아니라 샤드 크기로 정해진다.
+ * 동시 요청 수는 전용 스레드 수(match.shard.concurrency)로 제한되며 (모든 매칭 요청이 공유),
+ * 대기 샤드가 match.shard.queue-capacity 를 넘으면 요청을 AiUnavailableException (503) 으로 거절한다.
+ * 마감 시간 안에 끝나지 않은 샤드는 취소하고 그때까지 받은 결과만 돌려준다 ({@link TopK#isDegraded()} 로 표시).
+ * matchAsync 는 같은 동작을 스레드 점유 없이 (비동기 HTTP 클라이언트로) 수행한다.
+ * 이때 concurrency 는 요청 1건의 동시 샤드 수이고, 전체 동시 호출은 AiRequestScheduler 가 제한한다.
+ */
+@Slf4j
+@Component
+public class ShardedAiMatcher {
+
+    private final AiHttpClient aiHttpClient;
+    private final ThreadPoolExecutor executor;
+    private final int shardSize;
+    private final int concurrency;
+    private final Duration deadline;
+    private final Counter shardsOk;
+    private final Counter shardsFailed;
+    private final Counter shardsTimedOut;
+    private final Counter shardsRejected;
+
+    public ShardedAiMatcher(AiHttpClient aiHttpClient,
+                            MeterRegistry registry,
+                            @Value("${match.shard.size:200}") int shardSize,
+                            @Value("${match.shard.concurrency:4}") int concurrency,
+                            @Value("${match.shard.deadline:PT15S}") Duration deadline,
+                            @Value("${match.shard.queue-capacity:500}") int queueCapacity) {
+        if (shardSize <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException("match.shard.size / concurrency 는 1 이상이어야 합니다");
+        }
+        this.aiHttpClient = aiHttpClient;
+        this.shardSize = shardSize;
+        this.concurrency = concurrency;
+        this.deadline = deadline;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "ai-match-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        this.shardsOk = shardCounter(registry, "ok");
+        this.shardsFailed = shardCounter(registry, "failed");
+        this.shardsTimedOut = shardCounter(registry, "timeout");
+        this.shardsRejected = shardCounter(registry, "rejected");
+        Gauge.builder("match.shard.queue", executor, e -> e.getQueue().size())
+                .description("전용 스레드를 기다리는 AI 매칭 샤드 수")
+                .register(registry);
+    }
+
+    /**
+     * @param subject 기준 텍스트 (이력서 또는 공고)
+     * @param ids     후보 id (texts 와 같은 순서)
+     * @param texts   후보 텍스트
+     * @return 점수 내림차순 상위 k개 (일부 샤드가 실패/시간 초과면 나머지 샤드 결과만, degraded 표시)
+     * @throws AiUnavailableException 샤드 대기열이 가득 찬 경우
+     * @throws RuntimeException 모든 샤드가 실패한 경우
+     */
+    public TopK match(String subject, List<Long> ids, List<String> texts, int k) {
+        if (ids.size() != texts.size()) {
+            throw new IllegalArgumentException("후보 id/텍스트 개수 불일치: " + ids.size() + " != " + texts.size());
+        }
+        TopK top = new TopK(k);
+        if (ids.isEmpty()) {
+            return top.sort();
+        }
+
+        long start = System.nanoTime();
+        long deadlineNanos = start + deadline.toNanos();
+        AiRequestContext context = AiRequestContext.current(); // 샤드 스레드에서도 호출자의 우선순위/사용자로
+        CompletionService<MatchScores> completion = new ExecutorCompletionService<>(executor);
+        List<Future<MatchScores>> futures = new ArrayList<>();
+        try {
+            for (int from = 0; from < ids.size(); from += shardSize) {
+                int to = Math.min(from + shardSize, ids.size());
+                List<Long> shardIds = ids.subList(from, to);
+                List<String> shardTexts = texts.subList(from, to);
+                futures.add(completion.submit(() -> context.call(() -> aiHttpClient.getMatches(subject, shardTexts, shardIds))));
+            }
+        } catch (RejectedExecutionException e) {
+            // 일부만 보낸 결과는 쓰지 않으므로 이미 넣은 샤드도 거둬들인다
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+            shardsRejected.increment((ids.size() + shardSize - 1) / shardSize);
+            throw new AiUnavailableException("AI 매칭 대기열 가득 참");
+        }
+
+        int shards = futures.size();
+        int received = 0;
+        int failed = 0;
+        RuntimeException lastError = null;
+        try {
+            for (int done = 0; done < shards; done++) {
+                long remaining = deadlineNanos - System.nanoTime();
+                Future<MatchScores> future = remaining > 0
+                        ? completion.poll(remaining, TimeUnit.NANOSECONDS)
+                        : null;
+                if (future == null) {
+                    break; // 마감 시간 초과 → 남은 샤드는 아래에서 취소
+                }
+                try {
+                    merge(top, future.get());
+                    received++;
+                    shardsOk.increment();
+                } catch (ExecutionException e) {
+                    failed++;
+                    shardsFailed.increment();
+                    lastError = e.getCause() instanceof RuntimeException re ? re : new RuntimeException(e.getCause());
+                    log.warn("[AI 매칭] 샤드 실패: {}", e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+        }
+
+        int timedOut = shards - received - failed;
+        shardsTimedOut.increment(timedOut);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (received == 0) {
+            if (lastError != null) {
+                throw lastError;
+            }
+            throw new RuntimeException("AI 매칭 시간 초과: " + shards + "개 샤드 모두 " + deadline.toMillis() + "ms 안에 응답 없음");
+        }
+        if (received < shards) {
+            log.warn("[AI 매칭] 부분 결과: 샤드 {}/{} (실패 {}, 시간 초과 {}), 후보 {}건, {}ms",
+                    received, shards, failed, timedOut, ids.size(), elapsedMs);
+            top.markDegraded();
+        } else {
+            log.info("[AI 매칭] 샤드 {}개, 후보 {}건, {}ms", shards, ids.size(), elapsedMs);
+        }
+        return top.sort();
+    }
+
+    /**
+     * match 의 논블로킹 버전
+     * 동시에 최대 match.shard.concurrency 개 샤드를 보내고, 하나가 끝날 때마다 다음 샤드를 보낸다.
+     * 결과는 전용 스레드에서 완료되므로 이어지는 작업(DB 조회 등)이 I/O 스레드를 막지 않는다.
+     */
+    public CompletableFuture<TopK> matchAsync(String subject, List<Long> ids, List<String> texts, int k) {
+        if (ids.size() != texts.size()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(
+                    "후보 id/텍스트 개수 불일치: " + ids.size() + " != " + texts.size()));
+        }
+        AsyncMatch match = new AsyncMatch(subject, ids, texts, k);
+        match.start();
+        return match.result;
+    }
+
+    // 샤드 진행 상태 - 필드는 모두 this 로 동기화
+    private final class AsyncMatch {
+        private final String subject;
+        private final List<Long> ids;
+        private final List<String> texts;
+        private final TopK top;
+        private final int shards;
+        private final long start = System.nanoTime();
+        private final AiRequestContext context = AiRequestContext.current(); // 다음 샤드는 I/O 스레드에서 보낸다
+        private final List<CompletableFuture<MatchScores>> inFlight = new ArrayList<>();
+        private final CompletableFuture<TopK> result = new CompletableFuture<>();
+        private int next;
+        private int received;
+        private int failed;
+        private boolean finished;
+        private RuntimeException lastError;
+
+        AsyncMatch(String subject, List<Long> ids, List<String> texts, int k) {
+            this.subject = subject;
+            this.ids = ids;
+            this.texts = texts;
+            this.top = new TopK(k);
+            this.shards = (ids.size() + shardSize - 1) / shardSize;
+        }
+
+        void start() {
+            if (shards == 0) {
+                result.complete(top.sort());
+                return;
+            }
+            CompletableFuture.delayedExecutor(deadline.toNanos(), TimeUnit.NANOSECONDS)
+                    .execute(this::finishLater);
+            synchronized (this) {
+                for (int i = 0; i < concurrency && next < shards; i++) {
+                    launch();
+                }
+            }
+        }
+
+        // this 잠금 안에서 호출
+        private void launch() {
+            int from = next++ * shardSize;
+            int to = Math.min(from + shardSize, ids.size());
+            CompletableFuture<MatchScores> future = context.call(
+                    () -> aiHttpClient.getMatchesAsync(subject, texts.subList(from, to), ids.subList(from, to)));
+            inFlight.add(future);
+            future.whenComplete((scores, error) -> onShard(future, scores, error));
+        }
+
+        private void onShard(CompletableFuture<MatchScores> future, MatchScores scores, Throwable error) {
+            boolean done;
+            synchronized (this) {
+                if (finished) {
+                    return;
+                }
+                inFlight.remove(future);
+                if (error == null) {
+                    merge(top, scores);
+                    received++;
+                    shardsOk.increment();
+                } else {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    failed++;
+                    shardsFailed.increment();
+                    lastError = cause instanceof RuntimeException re ? re : new RuntimeException(cause);
+                    log.warn("[AI 매칭] 샤드 실패: {}", cause.getMessage());
+                }
+                if (next < shards) {
+                    launch();
+                }
+                done = received + failed == shards;
+            }
+            if (done) {
+                finishLater();
+            }
+        }
+
+        // 결과 완료는 전용 스레드에서 (대기열이 가득 찼으면 지금 스레드에서라도 끝내야 future 가 남지 않는다)
+        private void finishLater() {
+            try {
+                executor.execute(this::finish);
+            } catch (RejectedExecutionException e) {
+                finish();
+            }
+        }
+
+        // 모든 샤드 완료 또는 마감 시간 도달 시 (먼저 온 쪽만 반영)
+        private void finish() {
+            List<CompletableFuture<MatchScores>> pending;
+            synchronized (this) {
+                if (finished) {
+                    return;
+                }
+                finished = true;
+                pending = new ArrayList<>(inFlight);
+            }
+            // AiHttpClient 가 취소를 AiCallGuard 의 진행 중인 시도와 HTTP 교환까지 전달한다
+            for (CompletableFuture<MatchScores> future : pending) {
+                future.cancel(true);
+            }
+
+            int timedOut = shards - received - failed;
+            shardsTimedOut.increment(timedOut);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (received == 0) {
+                result.completeExceptionally(lastError != null ? lastError : new RuntimeException(
+                        "AI 매칭 시간 초과: " + shards + "개 샤드 모두 " + deadline.toMillis() + "ms 안에 응답 없음"));
+                return;
+            }
+            if (received < shards) {
+                log.warn("[AI 매칭] 부분 결과: 샤드 {}/{} (실패 {}, 시간 초과 {}), 후보 {}건, {}ms",
+                        received, shards, failed, timedOut, ids.size(), elapsedMs);
+                top.markDegraded();
+            } else {
+                log.info("[AI 매칭] 샤드 {}개, 후보 {}건, {}ms", shards, ids.size(), elapsedMs);
+            }
+            result.complete(top.sort());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 병합은 match 의 요청 스레드 또는 AsyncMatch 잠금 안에서만 하므로 TopK 에 별도 동기화가 필요 없다
+    private static void merge(TopK top, MatchScores results) {
+        if (results == null) {
+            return;
+        }
+        for (int i = 0; i < results.size(); i++) {
+            double score = results.score(i);
+            if (score > top.threshold()) {
+                top.offer(results.id(i), score);
+            }
+        }
+    }
+
+    private static Counter shardCounter(MeterRegistry registry, String result) {
+        return Counter.builder("match.ai.shards")
+                .tag("result", result)
+                .description("AI 매칭 샤드 요청 결과")
+                .register(registry);
+    }
+}
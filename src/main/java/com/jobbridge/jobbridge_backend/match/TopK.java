@@ -0,0 +1,143 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import java.util.Arrays;
+
+/**
+ * 점수 상위 k개 (id, score) 를 유지하는 최소 힙
+ * 박싱/객체 생성 없이 원시 배열만 사용하며, {@link #sort()} 후 0번부터 점수 내림차순으로 읽는다.
+ * 후보 일부의 점수만 반영했거나 대체 점수로 만든 결과는 {@link #markDegraded()} 로 표시한다.
+ */
+public final class TopK {
+
+    private final int k;
+    private final long[] ids;
+    private final double[] scores;
+    private int size;
+    private boolean sorted;
+    private boolean degraded;
+
+    public TopK(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k 는 1 이상이어야 합니다: " + k);
+        }
+        this.k = k;
+        this.ids = new long[k];
+        this.scores = new double[k];
+    }
+
+    /**
+     * 후보 추가 (상위 k개 안에 들지 못하면 무시)
+     */
+    public void offer(long id, double score) {
+        if (size < k) {
+            ids[size] = id;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (score > scores[0]) {
+            ids[0] = id;
+            scores[0] = score;
+            siftDown(0, size);
+        }
+    }
+
+    /**
+     * 이 점수보다 낮으면 들어올 수 없다 (가득 차기 전에는 -∞)
+     */
+    public double threshold() {
+        return size < k ? Double.NEGATIVE_INFINITY : scores[0];
+    }
+
+    /**
+     * 부분/대체 결과로 표시 (샤드 시간 초과·실패, BM25 대체 등 - 캐시하지 않는다)
+     */
+    public TopK markDegraded() {
+        degraded = true;
+        return this;
+    }
+
+    public boolean isDegraded() {
+        return degraded;
+    }
+
+    public boolean isFull() {
+        return size == k;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 점수 내림차순 정렬 (힙 정렬: 최소값을 뒤로 보내므로 결과가 내림차순)
+     * 정렬 후에는 더 이상 offer 할 수 없다.
+     */
+    public TopK sort() {
+        if (!sorted) {
+            for (int end = size - 1; end > 0; end--) {
+                swap(0, end);
+                siftDown(0, end);
+            }
+            sorted = true;
+        }
+        return this;
+    }
+
+    public long id(int rank) {
+        checkSorted(rank);
+        return ids[rank];
+    }
+
+    public double score(int rank) {
+        checkSorted(rank);
+        return scores[rank];
+    }
+
+    public long[] ids() {
+        sort();
+        return Arrays.copyOf(ids, size);
+    }
+
+    private void checkSorted(int rank) {
+        if (!sorted) {
+            throw new IllegalStateException("sort() 이후에 순위로 조회할 수 있습니다");
+        }
+        if (rank < 0 || rank >= size) {
+            throw new IndexOutOfBoundsException(rank);
+        }
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (scores[i] >= scores[parent]) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i, int n) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= n) {
+                break;
+            }
+            int smallest = left + 1 < n && scores[left + 1] < scores[left] ? left + 1 : left;
+            if (scores[i] <= scores[smallest]) {
+                break;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
@@ -0,0 +1,24 @@
+package com.jobbridge.jobbridge_backend.match;
+
+/**
+ * id → 임베딩 벡터 색인 (코사인 유사도 상위 k 검색)
+ * 구현체는 스레드 안전하지 않으며, 동시 접근은 {@link JobVectorIndex} 가 잠금으로 보호한다.
+ */
+interface VectorIndex {
+
+    /**
+     * 추가 또는 교체 (벡터는 내부에서 정규화된 복사본으로 보관)
+     */
+    void upsert(long id, float[] vector);
+
+    void remove(long id);
+
+    boolean contains(long id);
+
+    int size();
+
+    /**
+     * @param query 단위 벡터로 정규화된 질의
+     */
+    TopK search(float[] query, int k);
+}
@@ -0,0 +1,7 @@
+package com.jobbridge.jobbridge_backend.repository;
+
+import com.jobbridge.jobbridge_backend.entity.CrawlFrontier;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CrawlFrontierRepository extends JpaRepository<CrawlFrontier, String> {
+}
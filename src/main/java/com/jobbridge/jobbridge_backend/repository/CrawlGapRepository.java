@@ -0,0 +1,17 @@
+package com.jobbridge.jobbridge_backend.repository;
+
+import com.jobbridge.jobbridge_backend.entity.CrawlGap;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface CrawlGapRepository extends JpaRepository<CrawlGap, Long> {
+
+    // 재시도 시각이 된 빈 ID 목록
+    List<CrawlGap> findBySourceAndNextAttemptAtLessThanEqualOrderByPostIdAsc(String source, LocalDateTime now, Pageable pageable);
+
+    List<CrawlGap> findBySourceAndPostIdIn(String source, Collection<Long> postIds);
+}
@@ -0,0 +1,49 @@
+package com.jobbridge.jobbridge_backend.repository;
+
+import com.jobbridge.jobbridge_backend.entity.Embedding;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface EmbeddingRepository extends JpaRepository<Embedding, Long> {
+
+    Optional<Embedding> findByTargetTypeAndTargetId(Embedding.TargetType targetType, Long targetId);
+
+    List<Embedding> findByTargetTypeAndTargetIdIn(Embedding.TargetType targetType, Collection<Long> targetIds);
+
+    @Modifying
+    @Query("DELETE FROM Embedding e WHERE e.targetType = :type AND e.targetId IN :ids")
+    int deleteTargets(@Param("type") Embedding.TargetType type, @Param("ids") Collection<Long> ids);
+
+    // 내용은 그대로인 경우 대조 시각만 갱신
+    @Modifying
+    @Query("UPDATE Embedding e SET e.updatedAt = :now WHERE e.id IN :ids")
+    int touch(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 벡터 색인 동기화용 (벡터 본문 제외)
+    @Query("SELECT e.targetId AS targetId, e.updatedAt AS updatedAt FROM Embedding e WHERE e.targetType = :type")
+    List<VersionView> findVersions(@Param("type") Embedding.TargetType type);
+
+    interface VersionView {
+        Long getTargetId();
+        LocalDateTime getUpdatedAt();
+    }
+
+    // 임베딩이 없거나, 마지막 대조 이후 원본이 수정된 공고
+    @Query("SELECT j.id FROM JobPosting j WHERE NOT EXISTS (" +
+            "SELECT e.id FROM Embedding e WHERE e.targetType = :type AND e.targetId = j.id " +
+            "AND e.updatedAt >= j.updatedAt) ORDER BY j.id")
+    List<Long> findPendingJobPostingIds(@Param("type") Embedding.TargetType type, Pageable pageable);
+
+    @Query("SELECT r.id FROM Resume r WHERE NOT EXISTS (" +
+            "SELECT e.id FROM Embedding e WHERE e.targetType = :type AND e.targetId = r.id " +
+            "AND e.updatedAt >= r.updatedAt) ORDER BY r.id")
+    List<Long> findPendingResumeIds(@Param("type") Embedding.TargetType type, Pageable pageable);
+}
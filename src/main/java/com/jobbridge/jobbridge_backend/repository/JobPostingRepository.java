@@ -2,12 +2,15 @@ package com.jobbridge.jobbridge_backend.repository;
 
 import com.jobbridge.jobbridge_backend.entity.JobPosting;
 import com.jobbridge.jobbridge_backend.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -56,4 +59,98 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
             "LOWER(j.requiredSkills) LIKE LOWER(CONCAT('%', :skill, '%')) " +
             "ORDER BY j.createdAt DESC")
     List<JobPosting> findBySkill(@Param("skill") String skill);
-}
\ No newline at end of file
+
+    // 크롤링 중복 확인: 주어진 URL 중 이미 저장된 것만 조회 (uk_job_posting_url 인덱스 사용)
+    @Query("SELECT j.url FROM JobPosting j WHERE j.url IN :urls")
+    List<String> findExistingUrls(@Param("urls") Collection<String> urls);
+
+    long countByUrlIsNotNull();
+
+    // URL 전용 프로젝션 (id 키셋 페이징) - description 등 본문 컬럼을 읽지 않는다
+    @Query("SELECT j.id AS id, j.url AS url FROM JobPosting j " +
+            "WHERE j.url IS NOT NULL AND j.id > :afterId ORDER BY j.id")
+    List<UrlView> findUrlsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    interface UrlView {
+        Long getId();
+        String getUrl();
+    }
+
+    // 재크롤링 대상: 마감 전 크롤링 공고 중 가장 오래전에 확인한 것부터 (본문 컬럼 제외)
+    @Query("SELECT j.id AS id, j.url AS url, j.etag AS etag, j.lastModified AS lastModified, " +
+            "j.contentHash AS contentHash FROM JobPosting j " +
+            "WHERE j.source = :source AND j.url IS NOT NULL AND (j.deadline IS NULL OR j.deadline >= :now) " +
+            "ORDER BY j.lastCrawledAt ASC, j.id ASC")
+    List<RefreshView> findRefreshTargets(@Param("source") String source, @Param("now") LocalDateTime now,
+                                         Pageable pageable);
+
+    // 변경 없음 확인된 공고들의 마지막 크롤링 시각만 갱신
+    @Modifying
+    @Query("UPDATE JobPosting j SET j.lastCrawledAt = :crawledAt WHERE j.id IN :ids")
+    int touchLastCrawledAt(@Param("ids") Collection<Long> ids, @Param("crawledAt") LocalDateTime crawledAt);
+
+    // 재크롤링에서 404/410 으로 내려간 공고 마감 처리 (마감일이 이미 지난 공고는 그대로)
+    @Modifying
+    @Query("UPDATE JobPosting j SET j.deadline = :closedAt " +
+            "WHERE j.id IN :ids AND (j.deadline IS NULL OR j.deadline > :closedAt)")
+    int closePostings(@Param("ids") Collection<Long> ids, @Param("closedAt") LocalDateTime closedAt);
+
+    interface RefreshView {
+        Long getId();
+        String getUrl();
+        String getEtag();
+        String getLastModified();
+        String getContentHash();
+    }
+
+    // 크롤링으로 새로 저장된 공고 id 조회 (URL 기준)
+    @Query("SELECT j.id FROM JobPosting j WHERE j.url IN :urls")
+    List<Long> findIdsByUrlIn(@Param("urls") Collection<String> urls);
+
+    // AI 매칭 후보: 점수 계산에 필요한 컬럼만 (엔티티는 상위 k개만 따로 조회)
+    @Query("SELECT j.id AS id, j.position AS position, j.requiredSkills AS requiredSkills, " +
+            "j.description AS description FROM JobPosting j WHERE j.id IN :ids")
+    List<MatchSourceView> findMatchSourcesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // BM25 색인 재구성용 (id 키셋 페이징)
+    @Query("SELECT j.id AS id, j.position AS position, j.requiredSkills AS requiredSkills, " +
+            "j.description AS description FROM JobPosting j WHERE j.id > :afterId ORDER BY j.id")
+    List<MatchSourceView> findMatchSourcesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 마감 전(또는 상시) 공고 전체의 매칭용 컬럼 - 후보 생성 recall 측정용
+    @Query("SELECT j.id AS id, j.position AS position, j.requiredSkills AS requiredSkills, " +
+            "j.description AS description FROM JobPosting j WHERE j.deadline IS NULL OR j.deadline >= :now")
+    List<MatchSourceView> findActiveMatchSources(@Param("now") LocalDateTime now);
+
+    interface MatchSourceView {
+        Long getId();
+        String getPosition();
+        String getRequiredSkills();
+        String getDescription();
+    }
+
+    // 매칭 후보 생성: 마감 전(또는 상시) 공고의 필터용 짧은 컬럼만 (idx_job_posting_deadline)
+    // 이력서 지역으로 시작하는 근무지를 먼저, 그다음 최근 공고 순으로 page 크기까지만 읽는다 (region 이 "" 면 지역 무관)
+    @Query("SELECT j.id AS id, j.location AS location, j.experienceLevel AS experienceLevel, " +
+            "j.requiredSkills AS requiredSkills FROM JobPosting j WHERE j.deadline IS NULL OR j.deadline >= :now " +
+            "ORDER BY CASE WHEN j.location LIKE CONCAT(:region, '%') THEN 0 ELSE 1 END, j.id DESC")
+    List<CandidateView> findActiveCandidates(@Param("now") LocalDateTime now, @Param("region") String region,
+                                             Pageable pageable);
+
+    // 주어진 공고 중 마감 전(또는 상시)인 것의 필터용 컬럼 - 저장된 목록/벡터 색인 결과 거르기용
+    @Query("SELECT j.id AS id, j.location AS location, j.experienceLevel AS experienceLevel, " +
+            "j.requiredSkills AS requiredSkills FROM JobPosting j " +
+            "WHERE j.id IN :ids AND (j.deadline IS NULL OR j.deadline >= :now)")
+    List<CandidateView> findActiveCandidatesByIdIn(@Param("ids") Collection<Long> ids,
+                                                   @Param("now") LocalDateTime now);
+
+    @Query("SELECT COUNT(j) FROM JobPosting j WHERE j.deadline IS NULL OR j.deadline >= :now")
+    long countActive(@Param("now") LocalDateTime now);
+
+    interface CandidateView {
+        Long getId();
+        String getLocation();
+        String getExperienceLevel();
+        String getRequiredSkills();
+    }
+}
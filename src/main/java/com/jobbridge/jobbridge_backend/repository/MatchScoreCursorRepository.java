@@ -0,0 +1,7 @@
+package com.jobbridge.jobbridge_backend.repository;
+
+import com.jobbridge.jobbridge_backend.entity.MatchScoreCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MatchScoreCursorRepository extends JpaRepository<MatchScoreCursor, String> {
+}
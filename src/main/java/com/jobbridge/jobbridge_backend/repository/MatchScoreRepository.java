@@ -0,0 +1,27 @@
+package com.jobbridge.jobbridge_backend.repository;
+
+import com.jobbridge.jobbridge_backend.entity.MatchScore;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MatchScoreRepository extends JpaRepository<MatchScore, Long> {
+
+    // 이력서의 미리 계산된 추천 공고 중 마감 전(또는 상시)인 것 (idx_match_score_subject) - 행: [JobPosting, score, computedAt]
+    @Query("SELECT j, m.score, m.computedAt FROM MatchScore m JOIN JobPosting j ON j.id = m.candidateId " +
+            "WHERE m.direction = com.jobbridge.jobbridge_backend.entity.MatchScore.Direction.RESUME_TO_JOB " +
+            "AND m.subjectId = :resumeId AND (j.deadline IS NULL OR j.deadline >= :now) ORDER BY m.score DESC")
+    List<Object[]> findMaterializedJobs(@Param("resumeId") Long resumeId, @Param("now") LocalDateTime now,
+                                        Pageable pageable);
+
+    // 공고의 미리 계산된 추천 이력서 (작성자까지 한 번에) - 행: [Resume, score, computedAt]
+    @Query("SELECT r, m.score, m.computedAt FROM MatchScore m JOIN Resume r ON r.id = m.candidateId " +
+            "JOIN FETCH r.user " +
+            "WHERE m.direction = com.jobbridge.jobbridge_backend.entity.MatchScore.Direction.JOB_TO_RESUME " +
+            "AND m.subjectId = :jobPostingId ORDER BY m.score DESC")
+    List<Object[]> findMaterializedResumes(@Param("jobPostingId") Long jobPostingId, Pageable pageable);
+}
@@ -2,8 +2,12 @@ package com.jobbridge.jobbridge_backend.repository;
 
 import com.jobbridge.jobbridge_backend.entity.Resume;
 import com.jobbridge.jobbridge_backend.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +16,28 @@ public interface ResumeRepository extends JpaRepository<Resume, Long> {
     List<Resume> findByUserOrderByCreatedAtDesc(User user);
     // 이메일로 사용자 찾은 뒤 최신 이력서 조회
     Optional<Resume> findTopByUserEmailOrderByCreatedAtDesc(String email);
+
+    // AI 매칭 후보: id/본문만 (엔티티와 작성자는 상위 k개만 따로 조회)
+    @Query("SELECT r.id AS id, r.content AS content FROM Resume r")
+    List<MatchSourceView> findMatchSources();
+
+    @Query("SELECT r.id AS id, r.content AS content FROM Resume r WHERE r.id IN :ids")
+    List<MatchSourceView> findMatchSourcesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // BM25 색인 재구성용 (id 키셋 페이징)
+    @Query("SELECT r.id AS id, r.content AS content FROM Resume r WHERE r.id > :afterId ORDER BY r.id")
+    List<MatchSourceView> findMatchSourcesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 매칭 결과 조립: 작성자까지 한 번에 (요청 스레드 밖에서도 지연 로딩 없이)
+    @Query("SELECT r FROM Resume r JOIN FETCH r.user WHERE r.id IN :ids")
+    List<Resume> findWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 매칭 후보 생성: 작성자 주소 (지역 필터용)
+    @Query("SELECT r.user.address FROM Resume r WHERE r.id = :id")
+    Optional<String> findUserAddress(@Param("id") Long id);
+
+    interface MatchSourceView {
+        Long getId();
+        String getContent();
+    }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -17,6 +18,7 @@ public class CareerRecommendationService {
     private final ResumeRepository resumeRepository;
     private final JobPostingRepository jobPostingRepository;
     private final AiHttpClient aiHttpClient;
+    private final MatchLookupExecutor matchLookupExecutor;
 
     public List<String> getRecommendationPath(Long resumeId, Long jobPostingId) {
         Resume resume = resumeRepository.findById(resumeId)
@@ -24,10 +26,24 @@ public class CareerRecommendationService {
         JobPosting job = jobPostingRepository.findById(jobPostingId)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid jobPostingId: " + jobPostingId));
 
-        String resumeText = resume.getContent();
-        String jobDesc = job.getDescription() + job.getTitle() + job.getExperienceLevel() + job.getRequiredSkills();
-
         // AI 서버 호출
-        return aiHttpClient.getCareerPath(resumeText, jobDesc);
+        return aiHttpClient.getCareerPath(resume.getContent(), jobDescription(job));
+    }
+
+    /**
+     * 논블로킹 버전: 조회는 준비 단계 풀에서 하고 (조회 실패도 future 로 전달), AI 서버 응답은 기다리지 않는다
+     */
+    public CompletableFuture<List<String>> getRecommendationPathAsync(Long resumeId, Long jobPostingId) {
+        return matchLookupExecutor.supply(() -> {
+            Resume resume = resumeRepository.findById(resumeId)
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid resumeId: " + resumeId));
+            JobPosting job = jobPostingRepository.findById(jobPostingId)
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid jobPostingId: " + jobPostingId));
+            return aiHttpClient.getCareerPathAsync(resume.getContent(), jobDescription(job));
+        }).thenCompose(result -> result);
+    }
+
+    private static String jobDescription(JobPosting job) {
+        return job.getDescription() + job.getTitle() + job.getExperienceLevel() + job.getRequiredSkills();
     }
 }
@@ -0,0 +1,133 @@
+package com.jobbridge.jobbridge_backend.service;
+
+import com.jobbridge.jobbridge_backend.crawler.CrawlOutcome;
+import com.jobbridge.jobbridge_backend.entity.CrawlFrontier;
+import com.jobbridge.jobbridge_backend.entity.CrawlGap;
+import com.jobbridge.jobbridge_backend.repository.CrawlFrontierRepository;
+import com.jobbridge.jobbridge_backend.repository.CrawlGapRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 크롤링 프론티어 관리
+ * 소스별 high-water mark(마지막으로 확인된 공고 ID)와 그 아래에 남은 빈 ID들의 재시도 상태를 DB에 보관한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrawlFrontierService {
+
+    private final CrawlFrontierRepository crawlFrontierRepository;
+    private final CrawlGapRepository crawlGapRepository;
+
+    @Value("${crawler.gap.max-attempts:5}")
+    private int maxGapAttempts;
+
+    @Value("${crawler.gap.base-backoff:PT30M}")
+    private Duration baseBackoff;
+
+    @Value("${crawler.gap.max-backoff:P1D}")
+    private Duration maxBackoff;
+
+    /**
+     * 현재 high-water mark 조회 (처음 실행이면 seedId 로 초기화)
+     */
+    @Transactional
+    public long getLastConfirmedId(String source, long seedId) {
+        return crawlFrontierRepository.findById(source)
+                .orElseGet(() -> {
+                    CrawlFrontier frontier = new CrawlFrontier();
+                    frontier.setSource(source);
+                    frontier.setLastConfirmedId(seedId);
+                    return crawlFrontierRepository.save(frontier);
+                })
+                .getLastConfirmedId();
+    }
+
+    /**
+     * 재시도 시각이 된 빈 ID 목록
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findDueGaps(String source, int limit) {
+        return crawlGapRepository
+                .findBySourceAndNextAttemptAtLessThanEqualOrderByPostIdAsc(source, LocalDateTime.now(), PageRequest.of(0, limit))
+                .stream()
+                .map(CrawlGap::getPostId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 빈 ID 재시도 결과 반영
+     * 공고가 확인되었거나 최대 재시도 횟수에 도달하면 삭제하고, 나머지는 지수 백오프로 다음 시도 시각을 미룬다.
+     */
+    @Transactional
+    public void recordGapResults(String source, Map<Long, CrawlOutcome> outcomes) {
+        if (outcomes.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<CrawlGap> resolved = new ArrayList<>();
+        for (CrawlGap gap : crawlGapRepository.findBySourceAndPostIdIn(source, outcomes.keySet())) {
+            CrawlOutcome outcome = outcomes.get(gap.getPostId());
+            if (outcome == null) {
+                continue;
+            }
+            int attempts = gap.getAttempts() + 1;
+            if (outcome.isHit() || attempts >= maxGapAttempts) {
+                resolved.add(gap);
+                continue;
+            }
+            gap.setAttempts(attempts);
+            gap.setNextAttemptAt(now.plus(backoff(attempts)));
+            gap.setLastOutcome(outcome.name());
+        }
+        crawlGapRepository.deleteAllInBatch(resolved);
+        log.info("[프론티어] 빈 ID 재시도 {}건, 해소 {}건", outcomes.size(), resolved.size());
+    }
+
+    /**
+     * 전진 탐색 결과 반영
+     * high-water mark 를 새로 확인된 최대 ID로 올리고, 그 아래에서 miss 였던 ID들은 빈 ID로 등록한다.
+     * (high-water mark 위쪽 miss 는 아직 발행되지 않은 ID 이므로 다음 실행의 전진 탐색에서 다시 본다)
+     */
+    @Transactional
+    public void advance(String source, long lastConfirmedId, Map<Long, CrawlOutcome> probed) {
+        CrawlFrontier frontier = crawlFrontierRepository.findById(source)
+                .orElseThrow(() -> new IllegalStateException("프론티어가 초기화되지 않았습니다: " + source));
+        if (lastConfirmedId <= frontier.getLastConfirmedId()) {
+            return;
+        }
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(1));
+        List<CrawlGap> gaps = probed.entrySet().stream()
+                .filter(e -> e.getKey() < lastConfirmedId && !e.getValue().isHit())
+                .map(e -> CrawlGap.builder()
+                        .source(source)
+                        .postId(e.getKey())
+                        .attempts(1)
+                        .nextAttemptAt(nextAttemptAt)
+                        .lastOutcome(e.getValue().name())
+                        .build())
+                .collect(Collectors.toList());
+        crawlGapRepository.saveAll(gaps);
+
+        log.info("[프론티어] {} → {} 전진, 빈 ID {}건 등록", frontier.getLastConfirmedId(), lastConfirmedId, gaps.size());
+        frontier.setLastConfirmedId(lastConfirmedId);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
@@ -0,0 +1,300 @@
+package com.jobbridge.jobbridge_backend.service;
+
+import com.jobbridge.jobbridge_backend.entity.Embedding;
+import com.jobbridge.jobbridge_backend.entity.JobPosting;
+import com.jobbridge.jobbridge_backend.entity.Resume;
+import com.jobbridge.jobbridge_backend.match.EmbeddingSourceChangedEvent;
+import com.jobbridge.jobbridge_backend.match.MatchTexts;
+import com.jobbridge.jobbridge_backend.match.VectorCodec;
+import com.jobbridge.jobbridge_backend.repository.EmbeddingRepository;
+import com.jobbridge.jobbridge_backend.repository.JobPostingRepository;
+import com.jobbridge.jobbridge_backend.repository.ResumeRepository;
+import com.jobbridge.jobbridge_backend.util.AiHttpClient;
+import com.jobbridge.jobbridge_backend.util.AiRequestContext;
+import com.jobbridge.jobbridge_backend.util.ContentHash;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공고/이력서 임베딩 사전 계산
+ * 내용이 바뀌면 (커밋 이후) 별도 스레드에서 임베딩을 계산해 embedding 테이블에 저장하고,
+ * 매칭 요청은 저장된 벡터만 읽는다. 이벤트를 놓친 행은 주기적인 백필이 채운다 (embedding.backfill.enabled).
+ * 백필은 AI 호출과 배치 사이 대기로 오래 걸리므로 기본 @Scheduled 스레드가 아닌 전용 스레드에서,
+ * 여러 인스턴스 중 임대 락을 잡은 한 노드만 실행한다.
+ */
+@Slf4j
+@Service
+public class EmbeddingService {
+
+    static final String BACKFILL_LEASE = "embedding-backfill";
+
+    private final EmbeddingRepository embeddingRepository;
+    private final JobPostingRepository jobPostingRepository;
+    private final ResumeRepository resumeRepository;
+    private final AiHttpClient aiHttpClient;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolTaskScheduler scheduler;
+
+    // AI 서버에 한 번에 보낼 텍스트 수
+    @Value("${embedding.batch:32}")
+    private int batchSize;
+
+    @Value("${embedding.backfill.enabled:true}")
+    private boolean backfillEnabled;
+
+    // 백필 1회 최대 처리 건수 / 배치 사이 대기 시간 (AI 서버 부하 제한)
+    @Value("${embedding.backfill.max-per-run:512}")
+    private int backfillMaxPerRun;
+
+    @Value("${embedding.backfill.pause-ms:200}")
+    private long backfillPauseMs;
+
+    @Value("${embedding.backfill.interval-ms:300000}")
+    private long backfillIntervalMs;
+
+    @Value("${embedding.backfill.lease:PT5M}")
+    private Duration backfillLease;
+
+    public EmbeddingService(EmbeddingRepository embeddingRepository,
+                            JobPostingRepository jobPostingRepository,
+                            ResumeRepository resumeRepository,
+                            AiHttpClient aiHttpClient,
+                            TransactionTemplate transactionTemplate,
+                            SchedulerLeaseService schedulerLeaseService,
+                            @Value("${embedding.queue-capacity:1000}") int queueCapacity) {
+        this.embeddingRepository = embeddingRepository;
+        this.jobPostingRepository = jobPostingRepository;
+        this.resumeRepository = resumeRepository;
+        this.aiHttpClient = aiHttpClient;
+        this.transactionTemplate = transactionTemplate;
+        this.schedulerLeaseService = schedulerLeaseService;
+        // 단일 스레드 + 제한된 큐: 가득 차면 버리고 백필에 맡긴다 (요청 스레드를 막지 않는다)
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "embedding-worker");
+                    t.setDaemon(true);
+                    return t;
+                });
+
+        // 백필 1 + 락 연장 1 (TaskScheduler 빈으로 등록하지 않는 이유는 CrawlScheduler 와 같다)
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setPoolSize(2);
+        this.scheduler.setThreadNamePrefix("embedding-backfill-");
+        this.scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        this.scheduler.initialize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!backfillEnabled) {
+            log.info("[임베딩 백필] 비활성화됨 (embedding.backfill.enabled=false)");
+            return;
+        }
+        Duration interval = Duration.ofMillis(backfillIntervalMs);
+        scheduler.scheduleWithFixedDelay(this::backfillExclusively, Instant.now().plus(interval), interval);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSourceChanged(EmbeddingSourceChangedEvent event) {
+        try {
+            executor.execute(() -> refreshSafely(event.targetType(), event.ids()));
+        } catch (RejectedExecutionException e) {
+            log.debug("[임베딩] 대기열 가득 참, 백필로 처리: {} {}건", event.targetType(), event.ids().size());
+        }
+    }
+
+    /**
+     * 이력서 벡터 (저장된 값을 읽고, 아직 없거나 내용이 바뀌었으면 이번에 계산해 저장)
+     */
+    public float[] resumeVector(Resume resume) {
+        String text = MatchTexts.resume(resume);
+        String hash = ContentHash.of(text);
+        Embedding stored = embeddingRepository
+                .findByTargetTypeAndTargetId(Embedding.TargetType.RESUME, resume.getId())
+                .orElse(null);
+        if (stored != null && stored.getContentHash().equals(hash)) {
+            return VectorCodec.decode(stored.getVectorData());
+        }
+        float[] vector = aiHttpClient.embed(List.of(text)).get(0);
+        save(Embedding.TargetType.RESUME, Map.of(resume.getId(), new Source(text, hash)),
+                stored != null ? Map.of(resume.getId(), stored) : Map.of(), List.of(vector));
+        return vector;
+    }
+
+    private void backfillExclusively() {
+        try {
+            schedulerLeaseService.runExclusively(BACKFILL_LEASE, backfillLease, scheduler, this::backfill);
+        } catch (RuntimeException e) {
+            // 예외가 밖으로 나가면 반복 실행이 중단되므로 여기서 막는다
+            log.error("[임베딩 백필] 실행 실패", e);
+        }
+    }
+
+    /**
+     * 임베딩이 없거나 오래된 행 채우기 (락을 잃어 interrupt 되면 배치 사이에서 멈춘다)
+     */
+    public void backfill() {
+        int processed = 0;
+        for (Embedding.TargetType type : Embedding.TargetType.values()) {
+            while (processed < backfillMaxPerRun) {
+                PageRequest page = PageRequest.of(0, Math.min(batchSize, backfillMaxPerRun - processed));
+                List<Long> pending = type == Embedding.TargetType.JOB_POSTING
+                        ? embeddingRepository.findPendingJobPostingIds(type, page)
+                        : embeddingRepository.findPendingResumeIds(type, page);
+                if (pending.isEmpty()) {
+                    break;
+                }
+                if (!refreshSafely(type, pending)) {
+                    return;
+                }
+                processed += pending.size();
+                if (!pause()) {
+                    return;
+                }
+            }
+        }
+        if (processed > 0) {
+            log.info("[임베딩 백필] {}건 처리", processed);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        executor.shutdownNow();
+    }
+
+    // 이벤트 처리와 백필은 사용자 요청이 쓰고 남은 AI 처리량만 쓴다
+    private boolean refreshSafely(Embedding.TargetType type, List<Long> ids) {
+        try {
+            AiRequestContext.background("embedding").run(() -> {
+                for (int from = 0; from < ids.size(); from += batchSize) {
+                    refresh(type, ids.subList(from, Math.min(from + batchSize, ids.size())));
+                }
+            });
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 이벤트 처리와 백필이 같은 행을 동시에 만든 경우: 다음 백필에서 정리된다
+            log.debug("[임베딩] 동시 저장 충돌: {}", e.getMessage());
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("[임베딩] {} {}건 계산 실패: {}", type, ids.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    // 원본이 없어진 행은 삭제, 내용 해시가 같으면 대조 시각만 갱신, 나머지만 AI 서버에 요청
+    private void refresh(Embedding.TargetType type, List<Long> ids) {
+        Map<Long, Source> sources = loadSources(type, ids);
+        Map<Long, Embedding> existing = new HashMap<>();
+        for (Embedding embedding : embeddingRepository.findByTargetTypeAndTargetIdIn(type, ids)) {
+            existing.put(embedding.getTargetId(), embedding);
+        }
+
+        List<Long> missing = ids.stream().filter(id -> !sources.containsKey(id)).toList();
+        List<Long> unchanged = new ArrayList<>();
+        Map<Long, Source> changed = new LinkedHashMap<>();
+        sources.forEach((id, source) -> {
+            Embedding embedding = existing.get(id);
+            if (embedding != null && embedding.getContentHash().equals(source.hash())) {
+                unchanged.add(embedding.getId());
+            } else {
+                changed.put(id, source);
+            }
+        });
+
+        if (!missing.isEmpty() || !unchanged.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!missing.isEmpty()) {
+                    embeddingRepository.deleteTargets(type, missing);
+                }
+                if (!unchanged.isEmpty()) {
+                    embeddingRepository.touch(unchanged, LocalDateTime.now());
+                }
+            });
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        List<float[]> vectors = aiHttpClient.embed(changed.values().stream().map(Source::text).toList());
+        if (vectors.size() != changed.size()) {
+            throw new IllegalStateException("임베딩 개수 불일치: 요청=" + changed.size() + ", 응답=" + vectors.size());
+        }
+        save(type, changed, existing, vectors);
+    }
+
+    private void save(Embedding.TargetType type, Map<Long, Source> changed,
+                      Map<Long, Embedding> existing, List<float[]> vectors) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Embedding> rows = new ArrayList<>(changed.size());
+        int i = 0;
+        for (Map.Entry<Long, Source> entry : changed.entrySet()) {
+            float[] vector = vectors.get(i++);
+            Embedding row = existing.getOrDefault(entry.getKey(), Embedding.builder()
+                    .targetType(type)
+                    .targetId(entry.getKey())
+                    .build());
+            row.setContentHash(entry.getValue().hash());
+            row.setDimension(vector.length);
+            row.setVectorData(VectorCodec.encode(vector));
+            row.setUpdatedAt(now);
+            rows.add(row);
+        }
+        transactionTemplate.executeWithoutResult(status -> embeddingRepository.saveAll(rows));
+    }
+
+    private Map<Long, Source> loadSources(Embedding.TargetType type, Collection<Long> ids) {
+        Map<Long, Source> sources = new HashMap<>();
+        if (type == Embedding.TargetType.JOB_POSTING) {
+            for (JobPosting job : jobPostingRepository.findAllById(ids)) {
+                String text = MatchTexts.jobPosting(job);
+                sources.put(job.getId(), new Source(text, ContentHash.of(text)));
+            }
+        } else {
+            for (Resume resume : resumeRepository.findAllById(ids)) {
+                String text = MatchTexts.resume(resume);
+                sources.put(resume.getId(), new Source(text, ContentHash.of(text)));
+            }
+        }
+        return sources;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(backfillPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record Source(String text, String hash) {
+    }
+}
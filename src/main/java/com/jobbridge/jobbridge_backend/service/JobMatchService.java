@@ -1,16 +1,30 @@
 package com.jobbridge.jobbridge_backend.service;
 
 import com.jobbridge.jobbridge_backend.dto.JobDto;
+import com.jobbridge.jobbridge_backend.entity.Embedding;
 import com.jobbridge.jobbridge_backend.entity.JobPosting;
 import com.jobbridge.jobbridge_backend.entity.Resume;
+import com.jobbridge.jobbridge_backend.match.JobCandidateGenerator;
+import com.jobbridge.jobbridge_backend.match.JobVectorIndex;
+import com.jobbridge.jobbridge_backend.match.LexicalMatchIndex;
+import com.jobbridge.jobbridge_backend.match.MatchResultCache;
+import com.jobbridge.jobbridge_backend.match.MatchTexts;
+import com.jobbridge.jobbridge_backend.match.ShardedAiMatcher;
+import com.jobbridge.jobbridge_backend.match.TopK;
 import com.jobbridge.jobbridge_backend.repository.JobPostingRepository;
+import com.jobbridge.jobbridge_backend.repository.MatchScoreRepository;
 import com.jobbridge.jobbridge_backend.repository.ResumeRepository;
-import com.jobbridge.jobbridge_backend.util.AiHttpClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -20,99 +34,255 @@ public class JobMatchService {
 
     private final ResumeRepository resumeRepository;
     private final JobPostingRepository jobPostingRepository;
-    private final AiHttpClient aiHttpClient;
+    private final ShardedAiMatcher shardedAiMatcher;
+    private final JobVectorIndex jobVectorIndex;
+    private final EmbeddingService embeddingService;
+    private final MatchResultCache matchResultCache;
+    private final JobCandidateGenerator jobCandidateGenerator;
+    private final LexicalMatchIndex lexicalMatchIndex;
+    private final MatchScoreRepository matchScoreRepository;
+    private final MatchLookupExecutor matchLookupExecutor;
+
+    private static final int TOP_N = 5;
+
+    // 저장된 목록/벡터 색인에서 후보 기준(마감, 경력 구간, 지역)으로 거르기 전에 읽을 공고 수
+    @Value("${match.candidates.rank-window:20}")
+    private int rankWindow;
 
     /**
      * 이력서 ID로 상위 5개 채용공고를 추천
+     * 공고/이력서 임베딩은 미리 계산된 값을 읽으므로 (이력서가 방금 바뀐 경우만 1건 계산) AI 서버를 거의 거치지 않는다.
+     * 이력서와 공고 집합이 그대로면 이전 결과를 캐시에서 바로 돌려준다.
      */
     public List<JobDto.Response> findTopMatchingJobs(Long resumeId) {
         // 1) 이력서 조회
         Resume resume = resumeRepository.findById(resumeId)
                 .orElseThrow(() -> new NoSuchElementException("Resume not found: " + resumeId));
+        return matchResultCache.get(MatchResultCache.Kind.JOBS, resumeId, resume.getUpdatedAt(),
+                () -> matchJobs(resume));
+    }
+
+    /**
+     * 비동기 버전: 캐시에 없으면 executor 에서 계산 (같은 이력서의 동시 요청은 진행 중인 계산 하나를 공유)
+     */
+    public CompletableFuture<List<JobDto.Response>> findTopMatchingJobsAsync(Long resumeId, Executor executor) {
+        Resume resume = resumeRepository.findById(resumeId)
+                .orElseThrow(() -> new NoSuchElementException("Resume not found: " + resumeId));
+        return matchResultCache.getAsync(MatchResultCache.Kind.JOBS, resumeId, resume.getUpdatedAt(),
+                () -> matchJobs(resume), executor);
+    }
+
+    /**
+     * 논블로킹 버전: 요청 스레드는 바로 반환한다
+     * 이력서/후보 조회와 이력서 임베딩 계산은 MatchLookupExecutor 에서, AI 점수는 비동기 클라이언트로 기다린다.
+     */
+    public CompletableFuture<List<JobDto.Response>> findTopMatchingJobsNonBlocking(Long resumeId) {
+        return matchLookupExecutor.supply(() -> {
+            Resume resume = resumeRepository.findById(resumeId)
+                    .orElseThrow(() -> new NoSuchElementException("Resume not found: " + resumeId));
+            return matchResultCache.getAsync(MatchResultCache.Kind.JOBS, resumeId, resume.getUpdatedAt(),
+                    () -> matchJobsNonBlocking(resume));
+        }).thenCompose(result -> result);
+    }
+
+    private CompletableFuture<MatchResultCache.Result<JobDto.Response>> matchJobsNonBlocking(Resume resume) {
+        List<JobDto.Response> materialized = findMaterialized(resume);
+        if (materialized != null) {
+            return CompletableFuture.completedFuture(MatchResultCache.Result.of(materialized));
+        }
+        if (!jobVectorIndex.isReady()) {
+            log.info("벡터 색인 준비 전 → 전체 공고 AI 매칭 (논블로킹)");
+            return findTopMatchingJobsByAiAsync(resume);
+        }
+        return CompletableFuture.completedFuture(searchIndex(resume));
+    }
+
+    private MatchResultCache.Result<JobDto.Response> matchJobs(Resume resume) {
+        // 미리 계산된 목록이 이력서 수정 이후 것이면 그대로 사용 (match_score 인덱스 조회 1회)
+        List<JobDto.Response> materialized = findMaterialized(resume);
+        if (materialized != null) {
+            return MatchResultCache.Result.of(materialized);
+        }
+
+        // 색인이 아직 비어 있으면 (기동 직후 등) 전체 공고를 AI 서버로 보내는 기존 방식으로 처리
+        if (!jobVectorIndex.isReady()) {
+            log.info("벡터 색인 준비 전 → 전체 공고 AI 매칭");
+            return findTopMatchingJobsByAi(resume);
+        }
+
+        return searchIndex(resume);
+    }
+
+    private MatchResultCache.Result<JobDto.Response> searchIndex(Resume resume) {
+        // 2) 이력서 벡터로 색인에서 상위 공고 검색 후 후보 기준으로 걸러 N개 남기기
+        float[] query = embeddingService.resumeVector(resume);
+        TopK ranked = jobVectorIndex.search(query, Math.max(rankWindow, TOP_N));
+        Set<Long> kept = new HashSet<>(jobCandidateGenerator.retain(resume,
+                Arrays.stream(ranked.ids()).boxed().toList(), TOP_N));
+        TopK top = new TopK(TOP_N);
+        for (int rank = 0; rank < ranked.size(); rank++) {
+            if (kept.contains(ranked.id(rank))) {
+                top.offer(ranked.id(rank), ranked.score(rank));
+            }
+        }
+        log.debug("매칭 요청: resume.length={}, 색인 공고 수={}, 결과 수={}",
+                resume.getContent().length(), jobVectorIndex.size(), top.size());
+
+        // 3) 상위 공고만 조회해 순위대로 결과 조립
+        return toResult(top.sort());
+    }
+
+    /**
+     * 채용공고 텍스트를 AI 서버로 보내 점수를 받는 기존 매칭 (샤드 단위 병렬 요청)
+     * 전체 공고 대신 후보 생성 단계가 고른 마감 전 공고 N개만 보낸다.
+     * AI 서버가 실패하거나 마감 시간을 넘기면 같은 후보를 BM25 점수로 대신 순위 매긴다 (이때는 캐시하지 않는다).
+     */
+    private MatchResultCache.Result<JobDto.Response> findTopMatchingJobsByAi(Resume resume) {
+        AiRequest request = prepareAiRequest(resume);
+        if (request == null) {
+            return MatchResultCache.Result.of(Collections.emptyList());
+        }
+
+        // 5) AI 서버 호출 (샤드별 병렬 요청, 도착하는 대로 상위 5개로 병합)
+        TopK top;
+        try {
+            top = shardedAiMatcher.match(request.resumeContent(), request.jobIds(), request.jobContents(), TOP_N);
+        } catch (RuntimeException e) {
+            top = lexicalMatchIndex.fallback(Embedding.TargetType.JOB_POSTING, request.resumeContent(), TOP_N,
+                    request.jobIds(), e);
+            return toResult(top);
+        }
+        jobCandidateGenerator.auditRecall(request.resumeContent(), request.shortlist(), top);
+
+        // 6) 상위 5개만 조회해 결과 조립
+        return toResult(top);
+    }
+
+    /**
+     * findTopMatchingJobsByAi 의 논블로킹 버전 (후보 준비는 호출 스레드, 점수 병합 이후는 매칭 스레드에서)
+     */
+    private CompletableFuture<MatchResultCache.Result<JobDto.Response>> findTopMatchingJobsByAiAsync(Resume resume) {
+        AiRequest request = prepareAiRequest(resume);
+        if (request == null) {
+            return CompletableFuture.completedFuture(MatchResultCache.Result.of(Collections.emptyList()));
+        }
+        return shardedAiMatcher.matchAsync(request.resumeContent(), request.jobIds(), request.jobContents(), TOP_N)
+                .handle((top, error) -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        RuntimeException e = cause instanceof RuntimeException re ? re : new RuntimeException(cause);
+                        return toResult(lexicalMatchIndex.fallback(Embedding.TargetType.JOB_POSTING,
+                                request.resumeContent(), TOP_N, request.jobIds(), e));
+                    }
+                    jobCandidateGenerator.auditRecall(request.resumeContent(), request.shortlist(), top);
+                    return toResult(top);
+                });
+    }
+
+    /**
+     * 후보 생성 후 후보 공고의 매칭용 텍스트 준비 (후보가 없으면 null)
+     */
+    private AiRequest prepareAiRequest(Resume resume) {
         String resumeContent = resume.getContent();
 
-        // 2) 전체 채용공고 조회
-        List<JobPosting> allJobs = jobPostingRepository.findAll();
-        if (allJobs.isEmpty()) {
-            return Collections.emptyList();
+        // 2) 후보 생성 후 후보 공고의 매칭용 컬럼만 조회
+        JobCandidateGenerator.Shortlist shortlist = jobCandidateGenerator.shortlist(resume);
+        if (shortlist.ids().isEmpty()) {
+            return null;
         }
+        List<Long> candidateIds = lexicalMatchIndex.prerank(Embedding.TargetType.JOB_POSTING, resumeContent, shortlist.ids());
+        List<JobPostingRepository.MatchSourceView> sources = jobPostingRepository.findMatchSourcesByIdIn(candidateIds);
 
         // 3) jobContents: 각 채용공고의 position, skills, description을 하나의 텍스트로 묶기
-        List<String> jobContents = allJobs.stream()
-                .map(job -> String.join("\n",
-                        "채용포지션: " + job.getPosition(),
-                        "요구역량: " + job.getRequiredSkills(),
-                        "상세내용: " + job.getDescription()
-                ))
+        List<String> jobContents = sources.stream()
+                .map(s -> MatchTexts.jobPosting(s.getPosition(), s.getRequiredSkills(), s.getDescription()))
                 .collect(Collectors.toList());
 
         // 4) jobIds 추출
-        List<Long> jobIds = allJobs.stream()
-                .map(JobPosting::getId)
+        List<Long> jobIds = sources.stream()
+                .map(JobPostingRepository.MatchSourceView::getId)
                 .collect(Collectors.toList());
 
         // 🔍 로그로 요청 크기 확인
-        log.info("매칭 요청: resume.length={}, jobIds.size={}, jobContents.size={}",
+        log.debug("매칭 요청: resume.length={}, jobIds.size={}, jobContents.size={}",
                 resumeContent.length(), jobIds.size(), jobContents.size());
+        return new AiRequest(resumeContent, shortlist, jobIds, jobContents);
+    }
 
-        // 5) AI 서버 호출
-        List<Map<String, Object>> responses = aiHttpClient.getMatches(
-                resumeContent,
-                jobContents,
-                jobIds
-        );
-
-        // 🐛 디버깅: AI 응답 로그 추가
-        log.info("AI 서버 응답 수: {}", responses.size());
-        for (int i = 0; i < Math.min(responses.size(), 3); i++) {
-            Map<String, Object> response = responses.get(i);
-            log.info("응답 {}번: jobId={}, score={}, scoreType={}",
-                    i+1,
-                    response.get("job_id"),
-                    response.get("score"),
-                    response.get("score") != null ? response.get("score").getClass().getSimpleName() : "null"
-            );
-        }
-
-        // 6) 점수 기준 정렬 후 상위 5개 추출
-        List<Map<String, Object>> top5 = responses.stream()
-                .sorted((a, b) -> Double.compare(
-                        ((Number) b.get("score")).doubleValue(),
-                        ((Number) a.get("score")).doubleValue()
-                ))
-                .limit(5)
-                .collect(Collectors.toList());
+    private record AiRequest(String resumeContent, JobCandidateGenerator.Shortlist shortlist,
+                             List<Long> jobIds, List<String> jobContents) {
+    }
 
-        // 7) 결과 조립 - 🔧 점수 정규화 로직 추가
-        Map<Long, JobPosting> jobMap = allJobs.stream()
+    /**
+     * MatchScoreMaterializer 가 저장해 둔 목록을 후보 기준으로 거른 것
+     * (없거나, 이력서가 그 뒤에 바뀌었거나, 걸러서 남는 공고가 없으면 null)
+     */
+    private List<JobDto.Response> findMaterialized(Resume resume) {
+        List<Object[]> rows = matchScoreRepository.findMaterializedJobs(resume.getId(), LocalDateTime.now(),
+                PageRequest.of(0, Math.max(rankWindow, TOP_N)));
+        if (rows.isEmpty() || ((LocalDateTime) rows.get(0)[2]).isBefore(resume.getUpdatedAt())) {
+            return null;
+        }
+        Set<Long> kept = new HashSet<>(jobCandidateGenerator.retain(resume,
+                rows.stream().map(row -> ((JobPosting) row[0]).getId()).toList(), TOP_N));
+        if (kept.isEmpty()) {
+            return null;
+        }
+        List<JobDto.Response> result = new ArrayList<>(kept.size());
+        for (Object[] row : rows) {
+            JobPosting job = (JobPosting) row[0];
+            if (kept.contains(job.getId())) {
+                result.add(toResponse(job, normalizeScore((Double) row[1])));
+            }
+        }
+        return result;
+    }
+
+    // 부분 결과(샤드 시간 초과)나 BM25 대체 결과는 캐시하지 않는다
+    private MatchResultCache.Result<JobDto.Response> toResult(TopK top) {
+        List<JobDto.Response> result = hydrate(top);
+        return top.isDegraded() ? MatchResultCache.Result.degraded(result) : MatchResultCache.Result.of(result);
+    }
+
+    /**
+     * 상위 k개 공고만 id 로 조회해 점수 순서대로 응답 구성 - 🔧 점수 정규화 로직 포함
+     */
+    private List<JobDto.Response> hydrate(TopK top) {
+        Map<Long, JobPosting> jobMap = jobPostingRepository.findAllById(Arrays.stream(top.ids()).boxed().toList())
+                .stream()
                 .collect(Collectors.toMap(JobPosting::getId, job -> job));
 
         List<JobDto.Response> result = new ArrayList<>();
-        for (Map<String, Object> entry : top5) {
-            Long jobId = ((Number) entry.get("job_id")).longValue();
-            Double rawScore = ((Number) entry.get("score")).doubleValue();
+        for (int rank = 0; rank < top.size(); rank++) {
+            Long jobId = top.id(rank);
+            Double rawScore = top.score(rank);
 
             // 🔧 점수 정규화: 0~1 범위를 0~100으로 변환
             Double matchRate = normalizeScore(rawScore);
 
-            log.info("jobId={}, rawScore={}, normalizedScore={}", jobId, rawScore, matchRate);
+            log.debug("jobId={}, rawScore={}, normalizedScore={}", jobId, rawScore, matchRate);
 
             JobPosting job = jobMap.get(jobId);
             if (job != null) {
-                JobDto.Response dto = new JobDto.Response();
-                dto.setId(job.getId());
-                dto.setTitle(job.getTitle());
-                dto.setDescription(job.getDescription());
-                dto.setCreatedAt(job.getCreatedAt().toString());
-                dto.setUpdatedAt(job.getUpdatedAt().toString());
-                dto.setMatchRate(matchRate);
-                result.add(dto);
+                result.add(toResponse(job, matchRate));
             }
         }
 
         return result;
     }
 
+    private JobDto.Response toResponse(JobPosting job, Double matchRate) {
+        JobDto.Response dto = new JobDto.Response();
+        dto.setId(job.getId());
+        dto.setTitle(job.getTitle());
+        dto.setDescription(job.getDescription());
+        dto.setCreatedAt(job.getCreatedAt().toString());
+        dto.setUpdatedAt(job.getUpdatedAt().toString());
+        dto.setMatchRate(matchRate);
+        return dto;
+    }
+
     /**
      * 점수 정규화 메서드
      * AI에서 받은 점수를 의미있는 퍼센트로 변환
@@ -0,0 +1,182 @@
+package com.jobbridge.jobbridge_backend.service;
+
+import com.jobbridge.jobbridge_backend.crawler.CrawlMetrics;
+import com.jobbridge.jobbridge_backend.crawler.CrawlOutcome;
+import com.jobbridge.jobbridge_backend.crawler.CrawlReport;
+import com.jobbridge.jobbridge_backend.crawler.CrawlerEngine;
+import com.jobbridge.jobbridge_backend.crawler.WantedPageExtractor;
+import com.jobbridge.jobbridge_backend.crawler.WantedPosting;
+import com.jobbridge.jobbridge_backend.entity.JobPosting;
+import com.jobbridge.jobbridge_backend.match.EmbeddingSourceChangedEvent;
+import com.jobbridge.jobbridge_backend.repository.JobPostingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 이미 수집한 Wanted 공고 재확인 (변경 감지 + 증분 갱신)
+ * 가장 오래전에 확인한 공고부터 조금씩 조건부 요청(If-None-Match / If-Modified-Since)으로 다시 확인하고,
+ * 추출 결과의 내용 해시가 달라진 경우에만 바뀐 필드를 갱신한다.
+ * 404/410 공고는 마감 처리하고, 그 밖의 오류도 확인 시각을 갱신해 다음 배치 맨 앞을 계속 차지하지 않게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobPostingRefreshService {
+
+    private static final String WANTED_SOURCE = "wanted";
+
+    private final JobPostingRepository jobPostingRepository;
+    private final CrawlerEngine crawlerEngine;
+    private final WantedPageExtractor wantedPageExtractor;
+    private final TransactionTemplate transactionTemplate;
+    private final CrawlMetrics crawlMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 1회 실행에서 재확인할 공고 수
+    @Value("${crawler.refresh.batch:200}")
+    private int refreshBatchSize;
+
+    // 실행 주기는 CrawlScheduler 가 관리
+    public void refreshWantedPostings() {
+        List<JobPostingRepository.RefreshView> targets =
+                jobPostingRepository.findRefreshTargets(WANTED_SOURCE, LocalDateTime.now(),
+                        PageRequest.of(0, refreshBatchSize));
+        if (targets.isEmpty()) {
+            return;
+        }
+        CrawlMetrics.Run run = crawlMetrics.startRun("wanted-refresh");
+
+        // 변경 없음/오류 → 마지막 확인 시각만, 내려간 공고 → 마감 처리까지 모아서 한 번에 갱신
+        Set<Long> untouched = ConcurrentHashMap.newKeySet();
+        Set<Long> closed = ConcurrentHashMap.newKeySet();
+        CrawlReport<JobPostingRepository.RefreshView> report =
+                crawlerEngine.crawl(targets, target -> refresh(target, untouched, closed));
+
+        if (!untouched.isEmpty() || !closed.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            long start = System.nanoTime();
+            inTransaction(() -> {
+                if (!closed.isEmpty()) {
+                    jobPostingRepository.closePostings(closed, now);
+                    untouched.addAll(closed);
+                }
+                return jobPostingRepository.touchLastCrawledAt(untouched, now);
+            });
+            crawlMetrics.record(CrawlMetrics.Stage.PERSIST, System.nanoTime() - start);
+        }
+        run.finish(report.count(CrawlOutcome.UPDATED));
+        log.info("[재크롤링] 대상={}, 304={}, 동일={}, 갱신={}, 마감={}, 오류={}", targets.size(),
+                report.count(CrawlOutcome.NOT_MODIFIED), report.count(CrawlOutcome.UNCHANGED),
+                report.count(CrawlOutcome.UPDATED), report.count(CrawlOutcome.CLOSED),
+                report.count(CrawlOutcome.HTTP_ERROR) + report.count(CrawlOutcome.PARSE_ERROR));
+    }
+
+    private CrawlOutcome refresh(JobPostingRepository.RefreshView target, Set<Long> untouched, Set<Long> closed)
+            throws Exception {
+        Fetched fetched;
+        try {
+            fetched = crawlerEngine.fetch(target.getUrl(), conditionalHeaders(target), response -> {
+                if (response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                    return new Fetched(true, null);
+                }
+                return new Fetched(false, wantedPageExtractor.extract(target.getUrl(), response));
+            });
+        } catch (HttpClientErrorException.NotFound | HttpClientErrorException.Gone e) {
+            closed.add(target.getId());
+            return CrawlOutcome.CLOSED;
+        } catch (RuntimeException e) {
+            // 일시 오류도 확인 시각을 갱신해 한 바퀴 뒤에 다시 확인 (결과 집계는 CrawlerEngine 이 한다)
+            untouched.add(target.getId());
+            throw e;
+        }
+
+        if (fetched.notModified()) {
+            untouched.add(target.getId());
+            return CrawlOutcome.NOT_MODIFIED;
+        }
+        WantedPosting posting = fetched.posting();
+        if (posting == null) {
+            // 비공개 등으로 JSON-LD 가 사라진 공고는 기존 내용을 유지
+            untouched.add(target.getId());
+            return CrawlOutcome.NO_JSON_LD;
+        }
+
+        String contentHash = posting.getContentHash();
+        if (contentHash.equals(target.getContentHash())
+                && Objects.equals(posting.getEtag(), target.getEtag())
+                && Objects.equals(posting.getLastModified(), target.getLastModified())) {
+            untouched.add(target.getId());
+            return CrawlOutcome.UNCHANGED;
+        }
+
+        boolean contentChanged = !contentHash.equals(target.getContentHash());
+        long start = System.nanoTime();
+        inTransaction(() -> applyChanges(target.getId(), posting, contentHash));
+        crawlMetrics.record(CrawlMetrics.Stage.PERSIST, System.nanoTime() - start);
+        if (contentChanged) {
+            eventPublisher.publishEvent(EmbeddingSourceChangedEvent.jobPosting(target.getId()));
+        }
+        return contentChanged ? CrawlOutcome.UPDATED : CrawlOutcome.UNCHANGED;
+    }
+
+    // 값이 다른 필드만 세팅 → @DynamicUpdate 로 바뀐 컬럼만 UPDATE
+    private JobPosting applyChanges(Long id, WantedPosting posting, String contentHash) {
+        JobPosting job = jobPostingRepository.findById(id).orElse(null);
+        if (job == null) {
+            return null;
+        }
+        setIfChanged(job::getTitle, job::setTitle, posting.getTitle());
+        setIfChanged(job::getDescription, job::setDescription, posting.getDescription());
+        setIfChanged(job::getPosition, job::setPosition, posting.getPosition());
+        setIfChanged(job::getRequiredSkills, job::setRequiredSkills, posting.getRequiredSkills());
+        setIfChanged(job::getExperienceLevel, job::setExperienceLevel, posting.getExperienceLevel());
+        setIfChanged(job::getLocation, job::setLocation, posting.getLocation());
+        setIfChanged(job::getSalary, job::setSalary, posting.getSalary());
+        setIfChanged(job::getDeadline, job::setDeadline, posting.getDeadline());
+        job.setContentHash(contentHash);
+        job.setEtag(posting.getEtag());
+        job.setLastModified(posting.getLastModified());
+        job.setLastCrawledAt(LocalDateTime.now());
+        return job;
+    }
+
+    private static <T> void setIfChanged(Supplier<T> getter, Consumer<T> setter, T value) {
+        if (!Objects.equals(getter.get(), value)) {
+            setter.accept(value);
+        }
+    }
+
+    private Consumer<HttpHeaders> conditionalHeaders(JobPostingRepository.RefreshView target) {
+        return headers -> {
+            if (target.getEtag() != null) {
+                headers.setIfNoneMatch(target.getEtag());
+            }
+            if (target.getLastModified() != null) {
+                headers.set(HttpHeaders.IF_MODIFIED_SINCE, target.getLastModified());
+            }
+        };
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    private record Fetched(boolean notModified, WantedPosting posting) {
+    }
+}
@@ -1,185 +1,156 @@
 // JobPostingService.java
 package com.jobbridge.jobbridge_backend.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobbridge.jobbridge_backend.crawler.CrawlMetrics;
+import com.jobbridge.jobbridge_backend.crawler.CrawlOutcome;
+import com.jobbridge.jobbridge_backend.crawler.CrawlPipeline;
+import com.jobbridge.jobbridge_backend.crawler.CrawlReport;
+import com.jobbridge.jobbridge_backend.crawler.CrawlerEngine;
+import com.jobbridge.jobbridge_backend.crawler.PostingUrlIndex;
+import com.jobbridge.jobbridge_backend.crawler.WantedPageExtractor;
+import com.jobbridge.jobbridge_backend.crawler.WantedPosting;
 import com.jobbridge.jobbridge_backend.dto.JobPostingDto;
 import com.jobbridge.jobbridge_backend.entity.JobPosting;
 import com.jobbridge.jobbridge_backend.entity.User;
+import com.jobbridge.jobbridge_backend.match.EmbeddingSourceChangedEvent;
 import com.jobbridge.jobbridge_backend.repository.JobPostingRepository;
 import com.jobbridge.jobbridge_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
-// Apache POI imports
-import java.util.regex.Pattern;
-import java.util.regex.Matcher;
-import java.util.ArrayList;
-
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class JobPostingService {
 
     private final JobPostingRepository jobPostingRepository;
     private final UserRepository userRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final CrawlerEngine crawlerEngine;
+    private final WantedPageExtractor wantedPageExtractor;
+    private final CrawlFrontierService crawlFrontierService;
+    private final PostingUrlIndex postingUrlIndex;
+    private final CrawlPipeline crawlPipeline;
+    private final CrawlMetrics crawlMetrics;
+    private final ApplicationEventPublisher eventPublisher;
     // DTO 응답 시 사용할 날짜 포맷 (예: "2025-04-16 19:20")
     private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-    private static final Pattern JSON_LD_PATTERN =
-            Pattern.compile("<script type=\"application/ld\\+json\">(.*?)</script>", Pattern.DOTALL);
 
-    @Transactional
-    @Scheduled(initialDelay = 0, fixedRate = 1_800_000)
-    public void fetchJobPostingsFromWanted() {
-        // 1) DB에 이미 저장된 Wanted 공고 URL 집합 조회
-        List<JobPosting> storedJobs = jobPostingRepository.findAll();
-        Set<String> existingUrls = storedJobs.stream().map(JobPosting::getUrl).collect(Collectors.toSet());
+    private static final String WANTED_SOURCE = "wanted";
 
-        // 2) ID 범위 하드코딩 (283223 ~ 283323)
-        for (int id = 284223; id <= 284323; id++) {
-            String url = "https://www.wanted.co.kr/wd/" + id;
+    // 공고 상세 페이지 주소 (재현 하네스 등 로컬 대체 서버로 바꿔 끼울 수 있다)
+    @Value("${crawler.wanted.base-url:https://www.wanted.co.kr}")
+    private String wantedBaseUrl;
 
-            // 3) 중복 URL 스킵
-            if (existingUrls.contains(url)) {
-                System.out.println("[스킵] 이미 존재하는 URL: " + url);
-                continue;
-            }
+    // 프론티어가 없을 때 시작할 Wanted 공고 ID
+    @Value("${crawler.wanted.seed-id:284222}")
+    private long wantedSeedId;
 
-            try {
-                // 4) HTML 요청
-                String html = restTemplate.getForObject(url, String.class);
+    // 전진 탐색 배치 크기 / 연속 miss 허용 개수 / 1회 실행 최대 전진 ID 수
+    @Value("${crawler.wanted.probe-batch:50}")
+    private int probeBatchSize;
 
-                // 5) JSON-LD 스크립트 블록 추출
-                Matcher matcher = JSON_LD_PATTERN.matcher(html);
-                JsonNode jobNode = null;
-                ObjectMapper mapper = new ObjectMapper();
-                while (matcher.find()) {
-                    String jsonText = matcher.group(1);
-                    JsonNode root = mapper.readTree(jsonText);
-                    if ("JobPosting".equals(root.path("@type").asText())) {
-                        jobNode = root;
-                        break;
-                    }
-                }
-                if (jobNode == null) {
-                    System.out.println("[스킵] JobPosting 데이터 없음: " + url);
-                    continue;
-                }
+    @Value("${crawler.wanted.max-consecutive-misses:100}")
+    private int maxConsecutiveMisses;
 
-                // 6) JSON-LD에서 필드 추출
-                String company = jobNode.path("hiringOrganization").path("name").asText("");
-                String position = jobNode.path("title").asText("");
-                String title = (company + " " + position).trim();
+    @Value("${crawler.wanted.max-ids-per-run:5000}")
+    private int maxIdsPerRun;
 
-                String description = fetchFullWantedJobDescription(url);
+    // 1회 실행에서 재시도할 빈 ID 최대 개수
+    @Value("${crawler.gap.batch:500}")
+    private int gapBatchSize;
 
-                // 경력 요건
-                JsonNode expNode = jobNode.path("experienceRequirements");
-                String experienceLevel;
-                if (expNode.isArray()) {
-                    List<String> exps = new ArrayList<>();
-                    expNode.forEach(e -> exps.add(e.asText()));
-                    experienceLevel = String.join(", ", exps);
-                } else {
-                    experienceLevel = expNode.asText("");
-                }
-
-                // 근무 지역
-                JsonNode addr = jobNode.path("jobLocation").path("address");
-                String location = "";
-                if (!addr.isMissingNode()) {
-                    String region   = addr.path("addressRegion").asText("");
-                    String locality = addr.path("addressLocality").asText("");
-                    location = (region + " " + locality).trim();
-                }
-
-                // 필요 역량
-                JsonNode occNode = jobNode.path("occupationalCategory");
-                String requiredSkills;
-                if (occNode.isArray()) {
-                    List<String> occs = new ArrayList<>();
-                    occNode.forEach(o -> occs.add(o.asText()));
-                    requiredSkills = String.join(", ", occs);
-                } else {
-                    requiredSkills = occNode.asText("");
-                }
+    /**
+     * Wanted 공고 수집
+     * 트랜잭션 없이 실행되며, 저장은 {@link CrawlPipeline} writer 가 묶음마다 짧은 트랜잭션으로 처리한다.
+     * 실행 주기와 노드 간 배타 실행은 {@link com.jobbridge.jobbridge_backend.crawler.CrawlScheduler} 가 관리한다.
+     */
+    public void fetchJobPostingsFromWanted() {
+        CrawlMetrics.Run run = crawlMetrics.startRun("wanted-crawl");
+        CrawlPipeline.Session pipeline = crawlPipeline.open();
+        try (pipeline) {
+            crawlWanted(pipeline);
+        }
+        run.finish(pipeline.getInserted());
+    }
 
-                // 연봉
-                JsonNode salaryNode = jobNode.path("baseSalary").path("value");
-                String salary = "";
-                if (!salaryNode.isMissingNode()) {
-                    double minv = salaryNode.path("minValue").asDouble(0);
-                    double maxv = salaryNode.path("maxValue").asDouble(0);
-                    String unit = salaryNode.path("unitText").asText("");
-                    if (minv > 0 || maxv > 0) {
-                        salary = (minv != maxv)
-                                ? String.format("%.0f-%.0f %s", minv, maxv, unit).trim()
-                                : String.format("%.0f %s", minv, unit).trim();
-                    }
-                }
+    private void crawlWanted(CrawlPipeline.Session pipeline) {
+        // 1) 재시도 시각이 된 빈 ID 재시도
+        List<Long> dueGaps = crawlFrontierService.findDueGaps(WANTED_SOURCE, gapBatchSize);
+        if (!dueGaps.isEmpty()) {
+            CrawlReport<Long> gapReport = crawlChunk(dueGaps, pipeline);
+            crawlFrontierService.recordGapResults(WANTED_SOURCE, gapReport.getOutcomes());
+        }
 
-                // 마감일 파싱 (시간 포함/미포함 모두 처리)
-                String deadlineStr = jobNode.path("validThrough").asText("").trim();
-                LocalDateTime deadline = null;
-                if (!deadlineStr.isBlank()) {
-                    try {
-                        deadline = LocalDateTime.parse(deadlineStr, DateTimeFormatter.ISO_DATE_TIME);
-                    } catch (DateTimeParseException ex) {
-                        LocalDate date = LocalDate.parse(deadlineStr, DateTimeFormatter.ISO_DATE);
-                        deadline = date.atStartOfDay();
-                    }
+        // 2) 프론티어 전진 탐색: 마지막 확인 ID 이후를 배치 단위로 탐색하다가 연속 miss 가 N개 쌓이면 중단
+        long lastConfirmedId = crawlFrontierService.getLastConfirmedId(WANTED_SOURCE, wantedSeedId);
+        long lastHitId = lastConfirmedId;
+        long cursor = lastConfirmedId;
+        Map<Long, CrawlOutcome> probed = new HashMap<>();
+
+        while (cursor - lastHitId < maxConsecutiveMisses
+                && cursor - lastConfirmedId < maxIdsPerRun
+                && !Thread.currentThread().isInterrupted()) {
+            List<Long> batch = LongStream.rangeClosed(cursor + 1, cursor + probeBatchSize)
+                    .boxed()
+                    .collect(Collectors.toList());
+            CrawlReport<Long> report = crawlChunk(batch, pipeline);
+            probed.putAll(report.getOutcomes());
+            for (Map.Entry<Long, CrawlOutcome> entry : report.getOutcomes().entrySet()) {
+                if (entry.getValue().isHit()) {
+                    lastHitId = Math.max(lastHitId, entry.getKey());
                 }
+            }
+            cursor += probeBatchSize;
+        }
 
-                // company_id 추출
-                String companyIdStr = jobNode.path("identifier").path("propertyID").asText("").trim();
-                Long companyId = null;
-                if (!companyIdStr.isBlank()) {
-                    try {
-                        companyId = Long.valueOf(companyIdStr);
-                    } catch (NumberFormatException ignored) {}
-                }
+        // 3) high-water mark 갱신 및 빈 ID 등록
+        crawlFrontierService.advance(WANTED_SOURCE, lastHitId, probed);
+    }
 
-                // 7) 엔티티 매핑 및 저장
-                JobPosting job = new JobPosting();
-                job.setUrl(url);
-                job.setTitle(title);
-                job.setDescription(description);
-                job.setPosition(position);
-                job.setRequiredSkills(requiredSkills);
-                job.setExperienceLevel(experienceLevel);
-                job.setLocation(location);
-                job.setSalary(salary);
-                job.setSource("wanted");
-                if (deadline != null) job.setDeadline(deadline);
-                job.setCreatedAt(LocalDateTime.now());
-                job.setUpdatedAt(LocalDateTime.now());
+    // ID 묶음 단위 크롤링: 이미 저장된 URL 을 한 번에 확인한 뒤 워커 풀에서 처리
+    private CrawlReport<Long> crawlChunk(List<Long> ids, CrawlPipeline.Session pipeline) {
+        List<String> urls = ids.stream().map(this::wantedUrl).collect(Collectors.toList());
+        Set<String> existingUrls = postingUrlIndex.findExisting(urls);
+        return crawlerEngine.crawl(ids, id -> crawlWantedPosting(id, existingUrls, pipeline));
+    }
 
+    // Wanted 공고 1건 크롤링 후 저장 파이프라인으로 전달
+    private CrawlOutcome crawlWantedPosting(long id, Set<String> existingUrls, CrawlPipeline.Session pipeline) throws Exception {
+        String url = wantedUrl(id);
 
-                jobPostingRepository.save(job);
-                System.out.println("[DB 저장] URL=" + url + " / title=" + title);
+        // 중복 URL 스킵
+        if (existingUrls.contains(url)) {
+            log.debug("[스킵] 이미 존재하는 URL: {}", url);
+            return CrawlOutcome.DUPLICATE;
+        }
 
-                // 저장 후 URL 집합에 추가하여 동일 세션 내 중복 방지
-                existingUrls.add(url);
+        // HTML 요청 + 추출 (응답 스트림 1회 읽기)
+        WantedPosting posting = crawlerEngine.fetch(url, response -> wantedPageExtractor.extract(url, response));
+        if (posting == null) {
+            log.debug("[스킵] JobPosting 데이터 없음: {}", url);
+            return CrawlOutcome.NO_JSON_LD;
+        }
 
-            } catch (Exception e) {
-                System.out.println("[에러] " + url + " → " + e.getMessage());
-            }
+        // 저장 대기열로 전달 (같은 URL 이 이미 있으면 writer 가 걸러내고, 저장 결과는 writer 가 집계한다)
+        pipeline.submit(posting);
+        log.debug("[수집] URL={} / title={}", url, posting.getTitle());
+        return CrawlOutcome.QUEUED;
+    }
 
-            // 1초 대기 (서버 부하 경감)
-            try { Thread.sleep(1000); } catch (InterruptedException ignored) {}
-        }
+    private String wantedUrl(long id) {
+        return wantedBaseUrl + "/wd/" + id;
     }
 
 
@@ -203,6 +174,7 @@ public class JobPostingService {
                 .source("USER")
                 .build();
         JobPosting savedJobPosting = jobPostingRepository.save(jobPosting);
+        eventPublisher.publishEvent(EmbeddingSourceChangedEvent.jobPosting(savedJobPosting.getId()));
         return convertToDto(savedJobPosting);
     }
 
@@ -238,6 +210,7 @@ public class JobPostingService {
         jobPosting.setSalary(request.getSalary());
         jobPosting.setDeadline(request.getDeadline());
         JobPosting updatedJobPosting = jobPostingRepository.save(jobPosting);
+        eventPublisher.publishEvent(EmbeddingSourceChangedEvent.jobPosting(updatedJobPosting.getId()));
         return convertToDto(updatedJobPosting);
     }
 
@@ -249,6 +222,7 @@ public class JobPostingService {
             throw new IllegalArgumentException("자신의 회사 채용공고만 삭제할 수 있습니다.");
         }
         jobPostingRepository.delete(jobPosting);
+        eventPublisher.publishEvent(EmbeddingSourceChangedEvent.jobPosting(id));
     }
 
     public List<JobPosting> getAllJobPostings() {
@@ -284,65 +258,4 @@ public class JobPostingService {
         response.setCreatedAt(jobPosting.getCreatedAt().format(formatter));
         return response;
     }
-
-    // Wanted 상세공고 전체 내용 (HTML 파싱 기반) 추출 함수
-    public String fetchFullWantedJobDescription(String url) {
-        try {
-            String html = restTemplate.getForObject(url, String.class);
-            StringBuilder fullText = new StringBuilder();
-
-            // 1. <span class="wds-h4ga6o">
-            String spanClass = "wds-h4ga6o";
-            String spanStart = "<span class=\"" + spanClass + "\">";
-            String spanEnd = "</span>";
-
-            int spanIdx = 0;
-            while ((spanIdx = html.indexOf(spanStart, spanIdx)) != -1) {
-                int start = spanIdx + spanStart.length();
-                int end = html.indexOf(spanEnd, start);
-                if (end == -1) break;
-
-                String raw = html.substring(start, end);
-                fullText.append(cleanHtml(raw)).append("\n\n");
-                spanIdx = end + spanEnd.length();
-            }
-
-            // 2. <div class="JobDescription_JobDescription__paragraph__87w8I">
-            String divClass = "JobDescription_JobDescription__paragraph__87w8I";
-            String divStart = "<div class=\"" + divClass + "\">";
-            String divEnd = "</div>";
-
-            int divIdx = 0;
-            while ((divIdx = html.indexOf(divStart, divIdx)) != -1) {
-                int start = divIdx + divStart.length();
-                int end = html.indexOf(divEnd, start);
-                if (end == -1) break;
-
-                String raw = html.substring(start, end);
-                fullText.append(cleanHtml(raw)).append("\n\n");
-                divIdx = end + divEnd.length();
-            }
-
-            return fullText.toString().trim();
-
-        } catch (Exception e) {
-            System.out.println("[상세공고 크롤링 실패] " + url + " → " + e.getMessage());
-            return "";
-        }
-    }
-
-    // HTML 태그 및 특수문자 정제용 내부 메서드
-    private String cleanHtml(String html) {
-        return html.replaceAll("(?i)<br\\s*/?>", "\n")
-                .replaceAll("(?i)<li>", "• ")
-                .replaceAll("(?i)</li>", "\n")
-                .replaceAll("<[^>]+>", "")
-                .replace("&nbsp;", " ")
-                .replace("&lt;", "<")
-                .replace("&gt;", ">")
-                .replace("&amp;", "&")
-                .replace("&quot;", "\"")
-                .replace("&#39;", "'")
-                .trim();
-    }
 }
@@ -0,0 +1,166 @@
+package com.jobbridge.jobbridge_backend.service;
+
+import com.jobbridge.jobbridge_backend.dto.MatchJobDto;
+import com.jobbridge.jobbridge_backend.util.AiRequestContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 매칭 작업 (제출 → 폴링 또는 SSE 로 결과 수신)
+ * 요청 스레드는 작업만 등록하고 바로 반환하며, 계산은 전용 풀에서 한다.
+ * 같은 대상의 동시 요청은 MatchResultCache 에서 하나의 계산으로 합쳐지므로 AI 호출도 한 번이다.
+ * 작업은 이 노드 메모리에만 있고 match.async.retention 이 지나면 지운다.
+ */
+@Slf4j
+@Service
+public class MatchJobService {
+
+    private final JobMatchService jobMatchService;
+    private final ResumeMatchService resumeMatchService;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, MatchJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${match.async.retention:PT10M}")
+    private Duration retention;
+
+    @Value("${match.async.sse-timeout:PT60S}")
+    private Duration sseTimeout;
+
+    public MatchJobService(JobMatchService jobMatchService,
+                           ResumeMatchService resumeMatchService,
+                           MeterRegistry registry,
+                           @Value("${match.async.concurrency:8}") int concurrency,
+                           @Value("${match.async.queue-capacity:200}") int queueCapacity) {
+        this.jobMatchService = jobMatchService;
+        this.resumeMatchService = resumeMatchService;
+        AtomicInteger sequence = new AtomicInteger();
+        // 가득 차면 RejectedExecutionException → 컨트롤러가 503 으로 응답
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "match-async-" + sequence.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        Gauge.builder("match.async.jobs", jobs, Map::size)
+                .description("보관 중인 비동기 매칭 작업 수")
+                .register(registry);
+        Gauge.builder("match.async.queue", executor, e -> e.getQueue().size())
+                .description("계산 대기 중인 비동기 매칭 수")
+                .register(registry);
+    }
+
+    /**
+     * 이력서 → 추천 공고 작업 등록
+     */
+    public MatchJobDto.Status submitJobs(Long resumeId, String owner) {
+        return register(owner, jobMatchService.findTopMatchingJobsAsync(resumeId, ownerExecutor(owner)));
+    }
+
+    /**
+     * 공고 → 추천 이력서 작업 등록
+     */
+    public MatchJobDto.Status submitResumes(Long jobPostingId, String owner) {
+        return register(owner, resumeMatchService.findTopMatchingResumesAsync(jobPostingId, ownerExecutor(owner)));
+    }
+
+    /**
+     * 작업 상태 조회 (없거나 다른 사용자의 작업이면 NoSuchElementException)
+     */
+    public MatchJobDto.Status status(String jobId, String owner) {
+        return find(jobId, owner).toStatus();
+    }
+
+    /**
+     * 작업이 끝나면 "result" 이벤트 하나를 보내고 닫는 SSE 스트림
+     */
+    public SseEmitter subscribe(String jobId, String owner) {
+        MatchJob job = find(jobId, owner);
+        SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
+        job.future.whenComplete((value, error) -> {
+            try {
+                emitter.send(SseEmitter.event().name("result").data(job.toStatus()));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 먼저 끊었거나 시간 초과로 이미 닫힘 - 폴링으로 다시 조회 가능
+                log.debug("[비동기 매칭] SSE 전송 실패 jobId={}: {}", jobId, e.getMessage());
+            }
+        });
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 작업 스레드에서도 요청한 사용자 몫으로 AI 호출 자리를 받도록
+    private Executor ownerExecutor(String owner) {
+        return AiRequestContext.interactive(owner).wrap(executor);
+    }
+
+    private MatchJobDto.Status register(String owner, CompletableFuture<? extends List<?>> future) {
+        purgeExpired();
+        MatchJob job = new MatchJob(UUID.randomUUID().toString(), owner, LocalDateTime.now(), future);
+        jobs.put(job.id, job);
+        return job.toStatus();
+    }
+
+    private MatchJob find(String jobId, String owner) {
+        MatchJob job = jobs.get(jobId);
+        if (job == null || !Objects.equals(job.owner, owner)) {
+            throw new NoSuchElementException("Match job not found: " + jobId);
+        }
+        return job;
+    }
+
+    private void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.submittedAt.isBefore(cutoff));
+    }
+
+    private record MatchJob(String id, String owner, LocalDateTime submittedAt,
+                            CompletableFuture<? extends List<?>> future) {
+
+        MatchJobDto.Status toStatus() {
+            MatchJobDto.Status status = new MatchJobDto.Status();
+            status.setJobId(id);
+            status.setSubmittedAt(submittedAt.toString());
+            if (!future.isDone()) {
+                status.setState("PENDING");
+                return status;
+            }
+            try {
+                status.setResults(future.join());
+                status.setState("DONE");
+            } catch (CompletionException | CancellationException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                status.setState("FAILED");
+                status.setError(cause.getMessage());
+            }
+            return status;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.jobbridge.jobbridge_backend.service;
+
+import com.jobbridge.jobbridge_backend.util.AiRequestContext;
+import com.jobbridge.jobbridge_backend.util.AiUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 논블로킹 매칭의 준비 단계 전용 풀 (대상 조회, 저장된 목록/후보 조회, 이력서 임베딩 계산)
+ * 요청 스레드는 여기에 넘기고 바로 반환하므로 DB 나 동기 임베딩 호출을 기다리지 않는다.
+ * AI 점수 계산은 비동기 HTTP 클라이언트로 보내므로 이 풀의 스레드도 응답을 기다리지 않는다.
+ */
+@Component
+class MatchLookupExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    MatchLookupExecutor(MeterRegistry registry,
+                        @Value("${match.lookup.concurrency:8}") int concurrency,
+                        @Value("${match.lookup.queue-capacity:500}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "match-lookup-" + sequence.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        Gauge.builder("match.lookup.queue", executor, e -> e.getQueue().size())
+                .description("준비 단계를 기다리는 논블로킹 매칭 수")
+                .register(registry);
+    }
+
+    /**
+     * 호출 스레드의 AiRequestContext 로 action 실행 (대기열이 가득 차면 503 으로 실패한 future)
+     */
+    <T> CompletableFuture<T> supply(Supplier<T> action) {
+        try {
+            return CompletableFuture.supplyAsync(action, AiRequestContext.current().wrap(executor));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new AiUnavailableException("매칭 준비 대기열 가득 참"));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
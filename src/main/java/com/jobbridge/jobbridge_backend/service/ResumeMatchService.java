@@ -1,17 +1,26 @@
 package com.jobbridge.jobbridge_backend.service;
 
-import com.jobbridge.jobbridge_backend.dto.MatchDto;
 import com.jobbridge.jobbridge_backend.dto.ResumeDto;
+import com.jobbridge.jobbridge_backend.entity.Embedding;
 import com.jobbridge.jobbridge_backend.entity.JobPosting;
 import com.jobbridge.jobbridge_backend.entity.Resume;
+import com.jobbridge.jobbridge_backend.match.LexicalMatchIndex;
+import com.jobbridge.jobbridge_backend.match.MatchResultCache;
+import com.jobbridge.jobbridge_backend.match.ShardedAiMatcher;
+import com.jobbridge.jobbridge_backend.match.TopK;
 import com.jobbridge.jobbridge_backend.repository.JobPostingRepository;
+import com.jobbridge.jobbridge_backend.repository.MatchScoreRepository;
 import com.jobbridge.jobbridge_backend.repository.ResumeRepository;
-import com.jobbridge.jobbridge_backend.util.AiHttpClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -21,89 +30,185 @@ public class ResumeMatchService {
 
     private final JobPostingRepository jobPostingRepository;
     private final ResumeRepository resumeRepository;
-    private final AiHttpClient aiHttpClient;
+    private final ShardedAiMatcher shardedAiMatcher;
+    private final MatchResultCache matchResultCache;
+    private final LexicalMatchIndex lexicalMatchIndex;
+    private final MatchScoreRepository matchScoreRepository;
+    private final MatchLookupExecutor matchLookupExecutor;
 
     /**
      * 채용공고 ID로 상위 5개 이력서를 추천
+     * 공고와 이력서 집합이 그대로면 이전 결과를 캐시에서 바로 돌려준다.
+     * AI 서버가 실패하거나 마감 시간을 넘기면 BM25 점수로 대신 순위 매긴다.
      */
     public List<ResumeDto.Response> findTopMatchingResumes(Long jobPostingId) {
         // 1) 채용공고 조회
         JobPosting jobPost = jobPostingRepository.findById(jobPostingId)
                 .orElseThrow(() -> new NoSuchElementException("Job posting not found: " + jobPostingId));
+        return matchResultCache.get(MatchResultCache.Kind.RESUMES, jobPostingId, jobPost.getUpdatedAt(),
+                () -> matchResumes(jobPost));
+    }
+
+    /**
+     * 비동기 버전: 캐시에 없으면 executor 에서 계산 (같은 공고의 동시 요청은 진행 중인 계산 하나를 공유)
+     */
+    public CompletableFuture<List<ResumeDto.Response>> findTopMatchingResumesAsync(Long jobPostingId, Executor executor) {
+        JobPosting jobPost = jobPostingRepository.findById(jobPostingId)
+                .orElseThrow(() -> new NoSuchElementException("Job posting not found: " + jobPostingId));
+        return matchResultCache.getAsync(MatchResultCache.Kind.RESUMES, jobPostingId, jobPost.getUpdatedAt(),
+                () -> matchResumes(jobPost), executor);
+    }
+
+    /**
+     * 논블로킹 버전: 요청 스레드는 바로 반환한다
+     * 공고/후보 조회는 MatchLookupExecutor 에서, AI 점수는 비동기 클라이언트로 기다린다.
+     */
+    public CompletableFuture<List<ResumeDto.Response>> findTopMatchingResumesNonBlocking(Long jobPostingId) {
+        return matchLookupExecutor.supply(() -> {
+            JobPosting jobPost = jobPostingRepository.findById(jobPostingId)
+                    .orElseThrow(() -> new NoSuchElementException("Job posting not found: " + jobPostingId));
+            return matchResultCache.getAsync(MatchResultCache.Kind.RESUMES, jobPostingId, jobPost.getUpdatedAt(),
+                    () -> matchResumesNonBlocking(jobPost));
+        }).thenCompose(result -> result);
+    }
+
+    private CompletableFuture<MatchResultCache.Result<ResumeDto.Response>> matchResumesNonBlocking(JobPosting jobPost) {
+        List<ResumeDto.Response> materialized = findMaterialized(jobPost);
+        if (materialized != null) {
+            return CompletableFuture.completedFuture(MatchResultCache.Result.of(materialized));
+        }
+        List<ResumeRepository.MatchSourceView> sources = candidateSources(jobPost);
+        if (sources.isEmpty()) {
+            return CompletableFuture.completedFuture(MatchResultCache.Result.of(Collections.emptyList()));
+        }
+        String jobContent = jobPost.getDescription();
+        return shardedAiMatcher.matchAsync(
+                        jobContent,
+                        sources.stream().map(ResumeRepository.MatchSourceView::getId).collect(Collectors.toList()),
+                        sources.stream().map(ResumeRepository.MatchSourceView::getContent).collect(Collectors.toList()),
+                        5)
+                .handle((top, error) -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        RuntimeException e = cause instanceof RuntimeException re ? re : new RuntimeException(cause);
+                        top = lexicalMatchIndex.fallback(Embedding.TargetType.RESUME, jobContent, 5, null, e);
+                    }
+                    return toResult(top);
+                });
+    }
+
+    private MatchResultCache.Result<ResumeDto.Response> matchResumes(JobPosting jobPost) {
         String jobContent = jobPost.getDescription();  // JobPosting 엔티티의 description 필드 사용
 
-        // 2) 이력서 전체 조회
-        List<Resume> allResumes = resumeRepository.findAll();
-        if (allResumes.isEmpty()) {
-            return Collections.emptyList();
+        // 미리 계산된 목록이 공고 수정 이후 것이면 그대로 사용 (match_score 인덱스 조회 1회)
+        List<ResumeDto.Response> materialized = findMaterialized(jobPost);
+        if (materialized != null) {
+            return MatchResultCache.Result.of(materialized);
         }
 
-        // 3) AI 요청 DTO 구성
-        List<MatchDto.Item> items = allResumes.stream()
-                .map(r -> new MatchDto.Item(r.getId(), r.getContent()))
-                .collect(Collectors.toList());
-        MatchDto requestDto = new MatchDto(jobContent, items);
+        List<ResumeRepository.MatchSourceView> sources = candidateSources(jobPost);
+        if (sources.isEmpty()) {
+            return MatchResultCache.Result.of(Collections.emptyList());
+        }
 
-        // 4) AI 서버 호출 (/api/match) - 기존 AiHttpClient.getMatches 사용
+        // 3) AI 서버 호출 (/api/match) - 샤드별 병렬 요청 후 상위 5개로 병합
         // 'resume' 파라미터로 채용공고, 'job_listings'로 이력서 내용, 'job_ids'로 이력서 ID 리스트 전달
-        List<Map<String, Object>> responses = aiHttpClient.getMatches(
-                jobContent,
-                allResumes.stream().map(Resume::getContent).collect(Collectors.toList()),
-                allResumes.stream().map(Resume::getId).collect(Collectors.toList())
-        );
-
-        // 🐛 디버깅: AI 응답 로그 추가
-        log.info("AI 서버 응답 수: {}", responses.size());
-        for (int i = 0; i < Math.min(responses.size(), 3); i++) {
-            Map<String, Object> response = responses.get(i);
-            log.info("응답 {}번: resumeId={}, score={}, scoreType={}",
-                    i+1,
-                    response.get("job_id"),
-                    response.get("score"),
-                    response.get("score") != null ? response.get("score").getClass().getSimpleName() : "null"
+        TopK top;
+        try {
+            top = shardedAiMatcher.match(
+                    jobContent,
+                    sources.stream().map(ResumeRepository.MatchSourceView::getId).collect(Collectors.toList()),
+                    sources.stream().map(ResumeRepository.MatchSourceView::getContent).collect(Collectors.toList()),
+                    5
             );
+        } catch (RuntimeException e) {
+            top = lexicalMatchIndex.fallback(Embedding.TargetType.RESUME, jobContent, 5, null, e);
         }
 
-        // 5) 유사도 내림차순 정렬 후 상위 5개 추출
-        List<Map<String, Object>> top5 = responses.stream()
-                .sorted((a, b) -> Double.compare(
-                        ((Number) b.get("score")).doubleValue(),
-                        ((Number) a.get("score")).doubleValue()
-                ))
-                .limit(5)
-                .collect(Collectors.toList());
-
-        // 6) Resume 엔티티에 matchRate 주입 및 결과 리스트 구성 - 🔧 점수 정규화 추가
-        Map<Long, Resume> resumeMap = allResumes.stream()
+        return toResult(top);
+    }
+
+    /**
+     * AI 서버로 보낼 이력서 id/본문 (BM25 사전 순위로 줄인 뒤)
+     */
+    private List<ResumeRepository.MatchSourceView> candidateSources(JobPosting jobPost) {
+        // 2) 이력서 전체의 id/본문만 조회
+        List<ResumeRepository.MatchSourceView> sources = resumeRepository.findMatchSources();
+        if (sources.isEmpty()) {
+            return sources;
+        }
+
+        // (선택) BM25 사전 순위로 AI 서버에 보낼 이력서 줄이기
+        List<Long> candidateIds = lexicalMatchIndex.prerank(Embedding.TargetType.RESUME, jobPost.getDescription(),
+                sources.stream().map(ResumeRepository.MatchSourceView::getId).collect(Collectors.toList()));
+        if (candidateIds.size() < sources.size()) {
+            Set<Long> kept = new HashSet<>(candidateIds);
+            sources = sources.stream().filter(s -> kept.contains(s.getId())).collect(Collectors.toList());
+        }
+        return sources;
+    }
+
+    // 부분 결과(샤드 시간 초과)나 BM25 대체 결과는 캐시하지 않는다
+    private MatchResultCache.Result<ResumeDto.Response> toResult(TopK top) {
+        List<ResumeDto.Response> result = hydrate(top);
+        return top.isDegraded() ? MatchResultCache.Result.degraded(result) : MatchResultCache.Result.of(result);
+    }
+
+    /**
+     * 4) 상위 5개 이력서만 조회해 결과 리스트 구성 - 🔧 점수 정규화 추가
+     */
+    private List<ResumeDto.Response> hydrate(TopK top) {
+        Map<Long, Resume> resumeMap = resumeRepository.findWithUserByIdIn(Arrays.stream(top.ids()).boxed().toList())
+                .stream()
                 .collect(Collectors.toMap(Resume::getId, r -> r));
 
         List<ResumeDto.Response> result = new ArrayList<>();
-        for (Map<String, Object> entry : top5) {
-            Long resumeId = ((Number) entry.get("job_id")).longValue();
-            Double rawScore = ((Number) entry.get("score")).doubleValue();
+        for (int rank = 0; rank < top.size(); rank++) {
+            Long resumeId = top.id(rank);
+            Double rawScore = top.score(rank);
 
             // 🔧 점수 정규화: 0~1 범위를 0~100으로 변환
             Double matchRate = normalizeScore(rawScore);
 
-            log.info("resumeId={}, rawScore={}, normalizedScore={}", resumeId, rawScore, matchRate);
+            log.debug("resumeId={}, rawScore={}, normalizedScore={}", resumeId, rawScore, matchRate);
 
             Resume r = resumeMap.get(resumeId);
             if (r != null) {
-                ResumeDto.Response dto = new ResumeDto.Response();
-                dto.setId(r.getId());
-                dto.setTitle(r.getTitle());
-                dto.setContent(r.getContent());
-                dto.setUserName(r.getUser().getName()); // user가 null일 가능성 주의
-                dto.setCreatedAt(r.getCreatedAt().toString());
-                dto.setUpdatedAt(r.getUpdatedAt().toString());
-                dto.setMatchRate(matchRate);
-                result.add(dto);
+                result.add(toResponse(r, matchRate));
             }
         }
 
         return result;
     }
 
+    /**
+     * MatchScoreMaterializer 가 저장해 둔 목록 (없거나 공고가 그 뒤에 바뀌었으면 null)
+     */
+    private List<ResumeDto.Response> findMaterialized(JobPosting jobPost) {
+        List<Object[]> rows = matchScoreRepository.findMaterializedResumes(jobPost.getId(), PageRequest.of(0, 5));
+        if (rows.isEmpty() || ((LocalDateTime) rows.get(0)[2]).isBefore(jobPost.getUpdatedAt())) {
+            return null;
+        }
+        List<ResumeDto.Response> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            result.add(toResponse((Resume) row[0], normalizeScore((Double) row[1])));
+        }
+        return result;
+    }
+
+    private ResumeDto.Response toResponse(Resume r, Double matchRate) {
+        ResumeDto.Response dto = new ResumeDto.Response();
+        dto.setId(r.getId());
+        dto.setTitle(r.getTitle());
+        dto.setContent(r.getContent());
+        dto.setUserName(r.getUser().getName()); // user가 null일 가능성 주의
+        dto.setCreatedAt(r.getCreatedAt().toString());
+        dto.setUpdatedAt(r.getUpdatedAt().toString());
+        dto.setMatchRate(matchRate);
+        return dto;
+    }
+
     /**
      * 점수 정규화 메서드
      * AI에서 받은 점수를 의미있는 퍼센트로 변환
@@ -3,9 +3,11 @@ package com.jobbridge.jobbridge_backend.service;
 import com.jobbridge.jobbridge_backend.dto.ResumeDto;
 import com.jobbridge.jobbridge_backend.entity.Resume;
 import com.jobbridge.jobbridge_backend.entity.User;
+import com.jobbridge.jobbridge_backend.match.EmbeddingSourceChangedEvent;
 import com.jobbridge.jobbridge_backend.repository.ResumeRepository;
 import com.jobbridge.jobbridge_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +21,7 @@ public class ResumeService {
 
     private final ResumeRepository resumeRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
     @Transactional
@@ -37,6 +40,7 @@ public class ResumeService {
                 .build();
 
         Resume savedResume = resumeRepository.save(resume);
+        eventPublisher.publishEvent(EmbeddingSourceChangedEvent.resume(savedResume.getId()));
         return convertToDto(savedResume);
     }
 
@@ -71,6 +75,7 @@ public class ResumeService {
         resume.setContent(request.getContent());
 
         Resume updatedResume = resumeRepository.save(resume);
+        eventPublisher.publishEvent(EmbeddingSourceChangedEvent.resume(updatedResume.getId()));
         return convertToDto(updatedResume);
     }
 
@@ -84,6 +89,7 @@ public class ResumeService {
         }
 
         resumeRepository.delete(resume);
+        eventPublisher.publishEvent(EmbeddingSourceChangedEvent.resume(id));
     }
 
     private ResumeDto.Response convertToDto(Resume resume) {
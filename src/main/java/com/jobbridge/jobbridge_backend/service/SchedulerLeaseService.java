@@ -0,0 +1,127 @@
+package com.jobbridge.jobbridge_backend.service;
+
+import com.jobbridge.jobbridge_backend.repository.SchedulerLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DB 테이블(scheduler_lease) 기반 임대 락
+ * 여러 인스턴스가 같은 주기 작업을 동시에 실행하지 않도록, 락을 잡은 한 노드만 작업을 수행한다.
+ * 작업이 길어지면 만료 전에 주기적으로 연장하고, 노드가 죽으면 만료 시각 이후 다른 노드가 가져간다.
+ * 연장하려는데 이미 다른 노드가 가져갔으면(연장 0건) 실행 중인 작업 스레드를 interrupt 해 멈추게 한다.
+ */
+@Slf4j
+@Service
+public class SchedulerLeaseService {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner;
+
+    public SchedulerLeaseService(SchedulerLeaseRepository schedulerLeaseRepository,
+                                 TransactionTemplate transactionTemplate) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.owner = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 락을 잡은 경우에만 task 실행 (다른 노드가 실행 중이면 건너뛴다)
+     * task 는 스레드 interrupt 를 확인해 락을 잃으면 멈춰야 한다.
+     * @param renewer 작업 도중 락 연장을 예약할 스케줄러
+     * @return 락을 끝까지 유지한 채 실행을 마쳤는지
+     */
+    public boolean runExclusively(String name, Duration leaseDuration, TaskScheduler renewer, Runnable task) {
+        if (!tryAcquire(name, leaseDuration)) {
+            log.info("[lease] {} 은(는) 다른 인스턴스가 실행 중이라 건너뜀", name);
+            return false;
+        }
+
+        Thread worker = Thread.currentThread();
+        AtomicBoolean lost = new AtomicBoolean();
+        Duration renewInterval = leaseDuration.dividedBy(3);
+        ScheduledFuture<?> renewal = renewer.scheduleWithFixedDelay(() -> {
+            if (!lost.get() && !extend(name, leaseDuration)) {
+                log.warn("[lease] {} 을(를) 다른 인스턴스가 가져가 실행을 중단합니다", name);
+                lost.set(true);
+                worker.interrupt();
+            }
+        }, Instant.now().plus(renewInterval), renewInterval);
+        try {
+            task.run();
+            return !lost.get();
+        } finally {
+            renewal.cancel(false);
+            if (lost.get()) {
+                // 스케줄러 스레드를 재사용하므로 락을 잃어 건 interrupt 는 지운다
+                Thread.interrupted();
+            } else {
+                release(name);
+            }
+        }
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    private boolean tryAcquire(String name, Duration leaseDuration) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(leaseDuration);
+        Integer updated = transactionTemplate.execute(status ->
+                schedulerLeaseRepository.tryAcquire(name, owner, now, until));
+        if (updated != null && updated > 0) {
+            return true;
+        }
+        // 행이 없으면(처음 실행되는 작업) INSERT 로 만든다. 행이 있으면(다른 노드가 보유 중)
+        // PK 충돌로 실패하므로, 동시에 시도한 노드 중 한쪽만 성공한다. (save 는 merge 라 덮어쓸 수 있어 쓰지 않는다)
+        try {
+            Integer inserted = transactionTemplate.execute(status ->
+                    schedulerLeaseRepository.insert(name, owner, now, until));
+            return inserted != null && inserted > 0;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    // 연장 0건 = 락이 만료되어 다른 노드가 가져감 (DB 오류는 일시적인 것으로 보고 다음 주기에 다시 시도)
+    private boolean extend(String name, Duration leaseDuration) {
+        try {
+            Integer updated = transactionTemplate.execute(status ->
+                    schedulerLeaseRepository.extend(name, owner, LocalDateTime.now().plus(leaseDuration)));
+            return updated != null && updated > 0;
+        } catch (RuntimeException e) {
+            log.warn("[lease] {} 연장 실패: {}", name, e.getMessage());
+            return true;
+        }
+    }
+
+    private void release(String name) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLeaseRepository.release(name, owner, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("[lease] {} 해제 실패: {}", name, e.getMessage());
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
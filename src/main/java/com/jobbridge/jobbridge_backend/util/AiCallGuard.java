@@ -0,0 +1,288 @@
+package com.jobbridge.jobbridge_backend.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * AI 서버 호출 보호 (AiHttpClient 의 모든 요청이 거친다)
+ * - 자리 배분: AiRequestScheduler 에서 우선순위/사용자별로 자리를 받아야 호출 (전체 동시 호출 상한)
+ * - 회로 차단기: 5xx / 연결·시간 초과 비율이 높으면 ai.circuit.open-duration 동안 즉시 거절, 이후 시험 호출로 복구 확인
+ * - 재시도: 멱등 요청만, 지수 백오프 + full jitter, 전체 재시도 예산 안에서
+ * 거절되면 AiUnavailableException (503) 을 던지므로 요청 스레드가 AI 서버 앞에 쌓이지 않는다.
+ */
+@Slf4j
+@Component
+public class AiCallGuard {
+
+    private final AiRequestScheduler scheduler;
+    private final CircuitBreaker circuitBreaker;
+    private final RetryBudget retryBudget;
+    private final MeterRegistry registry;
+    private final Counter rejectedOpen;
+    private final Counter retryBudgetExhausted;
+    private final Map<String, Counter> retries = new ConcurrentHashMap<>();
+    private final Map<CircuitBreaker.State, Counter> transitions = new EnumMap<>(CircuitBreaker.State.class);
+
+    @Value("${ai.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${ai.retry.base-delay:PT0.1S}")
+    private Duration baseDelay;
+
+    @Value("${ai.retry.max-delay:PT1S}")
+    private Duration maxDelay;
+
+    public AiCallGuard(MeterRegistry registry,
+                       AiRequestScheduler scheduler,
+                       @Value("${ai.circuit.window:50}") int window,
+                       @Value("${ai.circuit.min-calls:20}") int minCalls,
+                       @Value("${ai.circuit.failure-rate:0.5}") double failureRate,
+                       @Value("${ai.circuit.open-duration:PT30S}") Duration openDuration,
+                       @Value("${ai.circuit.half-open-probes:3}") int probes,
+                       @Value("${ai.retry.budget-ratio:0.1}") double budgetRatio,
+                       @Value("${ai.retry.budget-min-per-second:1}") double budgetMinPerSecond) {
+        this.registry = registry;
+        this.scheduler = scheduler;
+        for (CircuitBreaker.State to : CircuitBreaker.State.values()) {
+            transitions.put(to, Counter.builder("ai.circuit.transitions")
+                    .tag("to", to.name().toLowerCase(Locale.ROOT))
+                    .description("AI 회로 차단기 상태 전환")
+                    .register(registry));
+        }
+        this.circuitBreaker = new CircuitBreaker(window, minCalls, failureRate, openDuration, probes,
+                System::nanoTime, (from, to) -> {
+                    transitions.get(to).increment();
+                    log.warn("[AI 보호] 회로 {} → {}", from, to);
+                });
+        this.retryBudget = new RetryBudget(budgetRatio, budgetMinPerSecond,
+                Math.max(10, budgetMinPerSecond * 10), System::nanoTime);
+
+        this.rejectedOpen = rejectedCounter(registry, "circuit_open");
+        this.retryBudgetExhausted = Counter.builder("ai.retry.budget.exhausted")
+                .description("재시도 예산이 없어 재시도하지 않은 횟수")
+                .register(registry);
+        Gauge.builder("ai.circuit.state", circuitBreaker, cb -> cb.state().ordinal())
+                .description("AI 회로 차단기 상태 (0=closed, 1=open, 2=half_open)")
+                .register(registry);
+        Gauge.builder("ai.retry.budget", retryBudget, RetryBudget::available)
+                .description("남은 재시도 예산")
+                .register(registry);
+    }
+
+    /**
+     * 보호 아래에서 호출
+     * @param operation  지표 태그 (match, career, embed 등)
+     * @param idempotent 재시도해도 되는 요청인지
+     * @throws AiUnavailableException 회로가 열렸거나 자리 대기 시간 초과 / 대기열 가득 참
+     */
+    public <T> T call(String operation, boolean idempotent, Supplier<T> action) {
+        AiRequestContext context = AiRequestContext.current();
+        retryBudget.onCall();
+        int attempt = 1;
+        while (true) {
+            try {
+                return attempt(context, action);
+            } catch (RuntimeException e) {
+                if (!idempotent || !retryable(e) || attempt >= maxAttempts) {
+                    throw e;
+                }
+                if (!retryBudget.tryRetry()) {
+                    retryBudgetExhausted.increment();
+                    throw e;
+                }
+                retryCounter(operation).increment();
+                sleep(backoff(attempt));
+                attempt++;
+            }
+        }
+    }
+
+    /**
+     * call 의 논블로킹 버전 - 자리 대기와 재시도 대기 모두 스레드를 재우지 않는다
+     * 자리는 응답 도착(또는 실패) 시점까지 유지된다. 우선순위/사용자는 호출 시점의 AiRequestContext.
+     * 반환된 future 를 취소하면 진행 중인 시도(자리 대기 또는 HTTP 교환)도 취소하고 더 재시도하지 않는다.
+     */
+    public <T> CompletableFuture<T> callAsync(String operation, boolean idempotent,
+                                              Supplier<CompletableFuture<T>> action) {
+        AiRequestContext context = AiRequestContext.current();
+        retryBudget.onCall();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicReference<Future<?>> current = new AtomicReference<>();
+        result.whenComplete((value, error) -> {
+            Future<?> inFlight = current.get();
+            if (result.isCancelled() && inFlight != null) {
+                inFlight.cancel(true);
+            }
+        });
+        attemptAsync(context, operation, idempotent, action, 1, result, current);
+        return result;
+    }
+
+    private <T> void attemptAsync(AiRequestContext context, String operation, boolean idempotent,
+                                  Supplier<CompletableFuture<T>> action, int attempt, CompletableFuture<T> result,
+                                  AtomicReference<Future<?>> current) {
+        if (result.isDone()) {
+            return; // 재시도 대기 중 취소됨
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            rejectedOpen.increment();
+            result.completeExceptionally(new AiUnavailableException("AI 서버 일시 차단 중 (회로 열림)"));
+            return;
+        }
+        CompletableFuture<AiRequestScheduler.Permit> waiting = scheduler.acquireAsync(context);
+        track(current, waiting, result);
+        waiting.whenComplete((permit, rejected) -> {
+            if (rejected != null) {
+                circuitBreaker.onIgnored();
+                result.completeExceptionally(rejected);
+                return;
+            }
+            CompletableFuture<T> call;
+            try {
+                call = context.call(action);
+            } catch (RuntimeException e) {
+                call = CompletableFuture.failedFuture(e);
+            }
+            track(current, call, result);
+            call.whenComplete((value, error) -> {
+                permit.release();
+                onAttemptDone(context, operation, idempotent, action, attempt, result, current, value, error);
+            });
+        });
+    }
+
+    // 진행 중인 단계 기록 (그사이 호출자가 취소했으면 바로 취소)
+    private static void track(AtomicReference<Future<?>> current, Future<?> step, CompletableFuture<?> result) {
+        current.set(step);
+        if (result.isCancelled()) {
+            step.cancel(true);
+        }
+    }
+
+    private <T> void onAttemptDone(AiRequestContext context, String operation, boolean idempotent,
+                                   Supplier<CompletableFuture<T>> action, int attempt, CompletableFuture<T> result,
+                                   AtomicReference<Future<?>> current, T value, Throwable error) {
+        if (result.isDone()) {
+            circuitBreaker.onIgnored(); // 호출자가 취소함 - 서버 상태와 무관
+            return;
+        }
+        if (error == null) {
+            circuitBreaker.onSuccess();
+            result.complete(value);
+            return;
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause() : error;
+        if (!(cause instanceof RuntimeException e)) {
+            circuitBreaker.onIgnored();
+            result.completeExceptionally(cause);
+            return;
+        }
+        if (countsAsFailure(e)) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onIgnored();
+        }
+        if (!idempotent || !retryable(e) || attempt >= maxAttempts) {
+            result.completeExceptionally(e);
+            return;
+        }
+        if (!retryBudget.tryRetry()) {
+            retryBudgetExhausted.increment();
+            result.completeExceptionally(e);
+            return;
+        }
+        retryCounter(operation).increment();
+        CompletableFuture.delayedExecutor(backoff(attempt), TimeUnit.MILLISECONDS)
+                .execute(() -> attemptAsync(context, operation, idempotent, action, attempt + 1, result, current));
+    }
+
+    private <T> T attempt(AiRequestContext context, Supplier<T> action) {
+        if (!circuitBreaker.tryAcquire()) {
+            rejectedOpen.increment();
+            throw new AiUnavailableException("AI 서버 일시 차단 중 (회로 열림)");
+        }
+        AiRequestScheduler.Permit permit;
+        try {
+            permit = scheduler.acquire(context);
+        } catch (AiUnavailableException e) {
+            circuitBreaker.onIgnored();
+            throw e;
+        }
+        try {
+            T result = action.get();
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            if (countsAsFailure(e)) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onIgnored();
+            }
+            throw e;
+        } finally {
+            permit.release();
+        }
+    }
+
+    // 서버 상태를 나타내는 실패: 5xx, 429, 연결 실패/시간 초과
+    private static boolean countsAsFailure(RuntimeException e) {
+        return e instanceof HttpServerErrorException
+                || e instanceof HttpClientErrorException.TooManyRequests
+                || e instanceof ResourceAccessException;
+    }
+
+    // 회로/자리 배분 거절과 4xx 는 바로 다시 보내도 결과가 같다
+    private static boolean retryable(RuntimeException e) {
+        return countsAsFailure(e);
+    }
+
+    // full jitter: [0, min(max, base * 2^(attempt-1))) 중 무작위
+    private long backoff(int attempt) {
+        long cap = Math.min(maxDelay.toMillis(), baseDelay.toMillis() << Math.min(attempt - 1, 20));
+        return cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiUnavailableException("AI 호출 재시도 중 중단됨");
+        }
+    }
+
+    private Counter retryCounter(String operation) {
+        return retries.computeIfAbsent(operation, op -> Counter.builder("ai.calls.retries")
+                .tag("operation", op)
+                .description("AI 호출 재시도")
+                .register(registry));
+    }
+
+    private static Counter rejectedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("ai.calls.rejected")
+                .tag("reason", reason)
+                .description("AI 서버 호출 전에 거절한 횟수")
+                .register(registry);
+    }
+}
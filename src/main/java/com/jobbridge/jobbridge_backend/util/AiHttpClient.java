@@ -1,38 +1,123 @@
 package com.jobbridge.jobbridge_backend.util;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobbridge.jobbridge_backend.config.PooledHttpClients;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.zip.GZIPOutputStream;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class AiHttpClient {
     private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final AiCallGuard aiCallGuard;
+    private final PooledHttpClients.AsyncHttp asyncHttp;
+    private final ShippedHashCache shippedHashes;
+    private final Counter textsUploaded;
+    private final Counter textsSkipped;
+    private final DistributionSummary uploadBytes;
 
-    private static final String AI_MATCH_URL = "http://localhost:5001/api/match";
-    private static final String AI_CAREER_URL = "http://localhost:5001/api/career-path";
+    // AI 서버 주소 (ai.base-url, 기본 http://localhost:5001) - 로컬 대역 서버로 바꿔 부하 테스트 가능
+    private final String aiMatchUrl;
+    private final String aiCareerUrl;
+    private final String aiEmbedUrl;
+    private final String aiMatchByHashUrl;
+    private final String aiTextsMissingUrl;
+    private final String aiTextsUrl;
 
-    @SuppressWarnings("unchecked")
-    public List<Map<String, Object>> getMatches(String resume, List<String> jobListings, List<Long> jobIds) {
-        Map<String, Object> req = Map.of(
-                "resume", resume,
-                "job_listings", jobListings,
-                "job_ids", jobIds
-        );
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(req, headers);
+    // plain: 매 요청에 후보 본문 전체 전송 / content-addressed: 해시만 보내고 AI 서버에 없는 본문만 업로드
+    @Value("${ai.match.protocol:plain}")
+    private String matchProtocol;
+
+    // 요청 본문 gzip 압축 (Content-Encoding: gzip, AI 서버가 지원해야 함)
+    @Value("${ai.request.gzip:false}")
+    private boolean gzipRequests;
 
+    public AiHttpClient(@Qualifier("aiRestTemplate") RestTemplate restTemplate,
+                        ObjectMapper objectMapper,
+                        AiCallGuard aiCallGuard,
+                        PooledHttpClients.AsyncHttp asyncHttp,
+                        MeterRegistry registry,
+                        @Value("${ai.base-url:http://localhost:5001}") String baseUrl,
+                        @Value("${ai.match.shipped-cache-size:100000}") int shippedCacheSize) {
+        String base = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.aiMatchUrl = base + "/api/match";
+        this.aiCareerUrl = base + "/api/career-path";
+        this.aiEmbedUrl = base + "/api/embed";
+        this.aiMatchByHashUrl = base + "/api/match/by-hash";
+        this.aiTextsMissingUrl = base + "/api/texts/missing";
+        this.aiTextsUrl = base + "/api/texts";
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.aiCallGuard = aiCallGuard;
+        this.asyncHttp = asyncHttp;
+        this.shippedHashes = new ShippedHashCache(shippedCacheSize);
+        this.textsUploaded = Counter.builder("ai.match.texts").tag("result", "uploaded")
+                .description("content-addressed 매칭에서 후보 본문 처리").register(registry);
+        this.textsSkipped = Counter.builder("ai.match.texts").tag("result", "skipped")
+                .description("content-addressed 매칭에서 후보 본문 처리").register(registry);
+        this.uploadBytes = DistributionSummary.builder("ai.match.upload.bytes")
+                .baseUnit("bytes")
+                .description("요청 1건에서 새로 업로드한 후보 본문 크기 (UTF-8)")
+                .register(registry);
+    }
+
+    /**
+     * 후보별 매칭 점수 (응답을 스트리밍으로 읽어 원시 배열로 반환, 순서는 AI 서버 응답 순서)
+     * @throws AiUnavailableException AI 서버 보호로 호출하지 않고 거절한 경우
+     */
+    public MatchScores getMatches(String resume, List<String> jobListings, List<Long> jobIds) {
         try {
-            ResponseEntity<Map> resp = restTemplate.postForEntity(AI_MATCH_URL, entity, Map.class);
-            return (List<Map<String, Object>>) resp.getBody().get("results");
+            // 점수 계산만 하는 요청이므로 재시도해도 안전
+            return aiCallGuard.call("match", true, () -> {
+                if ("content-addressed".equals(matchProtocol)) {
+                    return getMatchesByHash(resume, jobListings, jobIds);
+                }
+                Map<String, Object> req = Map.of(
+                        "resume", resume,
+                        "job_listings", jobListings,
+                        "job_ids", jobIds
+                );
+                return post(aiMatchUrl, req, scoresExtractor(jobIds.size()));
+            });
+        } catch (AiUnavailableException ex) {
+            throw ex;
         } catch (HttpClientErrorException | HttpServerErrorException ex) {
             throw new RuntimeException("AI 매칭 오류: " + ex.getResponseBodyAsString());
         } catch (ResourceAccessException ex) {
@@ -42,6 +127,326 @@ public class AiHttpClient {
         }
     }
 
+    /**
+     * content-addressed 매칭
+     * 1) 이미 올린 적 없는 해시만 /api/texts/missing 으로 물어 AI 서버에 없는 것만 /api/texts 로 업로드
+     * 2) /api/match/by-hash 에는 해시만 전송
+     * 3) AI 서버가 그사이 본문을 잃었으면 409 {"missing": [...]} → 해당 본문 업로드 후 한 번만 재시도
+     */
+    private MatchScores getMatchesByHash(String resume, List<String> jobListings, List<Long> jobIds) {
+        Map<String, String> textsByHash = new LinkedHashMap<>();
+        List<String> hashes = new ArrayList<>(jobListings.size());
+        for (String text : jobListings) {
+            String hash = ContentHash.of(text);
+            hashes.add(hash);
+            textsByHash.putIfAbsent(hash, text);
+        }
+
+        List<String> unknown = textsByHash.keySet().stream().filter(h -> !shippedHashes.contains(h)).toList();
+        int uploaded = 0;
+        if (!unknown.isEmpty()) {
+            uploaded = upload(fetchMissing(unknown), textsByHash);
+            shippedHashes.addAll(unknown);
+        }
+        textsSkipped.increment(textsByHash.size() - uploaded);
+
+        Map<String, Object> req = Map.of(
+                "resume", resume,
+                "job_hashes", hashes,
+                "job_ids", jobIds
+        );
+        try {
+            return post(aiMatchByHashUrl, req, scoresExtractor(jobIds.size()));
+        } catch (HttpClientErrorException.Conflict ex) {
+            List<String> lost = readHashes(ex.getResponseBodyAsByteArray(), "missing");
+            log.info("[AI 매칭] AI 서버에 없는 본문 {}건 재업로드", lost.size());
+            shippedHashes.removeAll(lost);
+            upload(lost, textsByHash);
+            shippedHashes.addAll(lost);
+            return post(aiMatchByHashUrl, req, scoresExtractor(jobIds.size()));
+        }
+    }
+
+    private List<String> fetchMissing(List<String> hashes) {
+        return post(aiTextsMissingUrl, Map.of("hashes", hashes),
+                response -> readHashes(response.getBody().readAllBytes(), "missing"));
+    }
+
+    // 업로드한 본문 수 반환
+    private int upload(List<String> hashes, Map<String, String> textsByHash) {
+        Map<String, String> texts = new LinkedHashMap<>();
+        long bytes = 0;
+        for (String hash : hashes) {
+            String text = textsByHash.get(hash);
+            if (text != null) {
+                texts.put(hash, text);
+                bytes += text.getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        if (texts.isEmpty()) {
+            return 0;
+        }
+        post(aiTextsUrl, Map.of("texts", texts), response -> null);
+        textsUploaded.increment(texts.size());
+        uploadBytes.record(bytes);
+        return texts.size();
+    }
+
+    private List<String> readHashes(byte[] body, String field) {
+        try {
+            JsonNode node = objectMapper.readTree(body).path(field);
+            Set<String> hashes = new LinkedHashSet<>();
+            node.forEach(h -> hashes.add(h.asText()));
+            return new ArrayList<>(hashes);
+        } catch (IOException e) {
+            throw new IllegalStateException("AI 서버 응답 해석 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private ResponseExtractor<MatchScores> scoresExtractor(int expected) {
+        return response -> {
+            try (JsonParser parser = objectMapper.getFactory().createParser(response.getBody())) {
+                return MatchScores.read(parser, expected);
+            }
+        };
+    }
+
+    /**
+     * JSON 본문을 요청 스트림에 바로 직렬화 (ai.request.gzip 이면 gzip 압축, 매칭 관련 요청만 사용)
+     */
+    private <T> T post(String url, Object body, ResponseExtractor<T> extractor) {
+        RequestCallback callback = request -> {
+            request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+            if (gzipRequests) {
+                request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+                try (OutputStream out = new GZIPOutputStream(request.getBody())) {
+                    objectMapper.writeValue(out, body);
+                }
+            } else {
+                objectMapper.writeValue(request.getBody(), body);
+            }
+        };
+        return restTemplate.execute(url, HttpMethod.POST, callback, extractor);
+    }
+
+    // ---- 논블로킹 버전: 응답을 기다리는 동안 호출 스레드를 점유하지 않는다 (비동기 HTTP 클라이언트 사용) ----
+
+    /**
+     * getMatches 의 논블로킹 버전 (실패 메시지와 재시도/회로 차단 동작은 동일)
+     */
+    public CompletableFuture<MatchScores> getMatchesAsync(String resume, List<String> jobListings, List<Long> jobIds) {
+        CompletableFuture<MatchScores> future = aiCallGuard.callAsync("match", true, () -> {
+            if ("content-addressed".equals(matchProtocol)) {
+                return getMatchesByHashAsync(resume, jobListings, jobIds);
+            }
+            Map<String, Object> req = Map.of(
+                    "resume", resume,
+                    "job_listings", jobListings,
+                    "job_ids", jobIds
+            );
+            CompletableFuture<byte[]> post = postAsync(aiMatchUrl, req);
+            return cancelling(post.thenApply(body -> parseScores(body, jobIds.size())), post);
+        });
+        return translated(future, "AI 매칭 오류");
+    }
+
+    /**
+     * getCareerPath 의 논블로킹 버전
+     */
+    public CompletableFuture<List<String>> getCareerPathAsync(String resume, String jobDescription) {
+        Map<String, Object> req = Map.of(
+                "resume", resume,
+                "job_description", jobDescription
+        );
+        CompletableFuture<List<String>> future = aiCallGuard.callAsync("career", true, () -> {
+            CompletableFuture<byte[]> post = postAsync(aiCareerUrl, req);
+            return cancelling(post.thenApply(body -> {
+                List<String> recommendations = new ArrayList<>();
+                readTree(body).path("recommendations").forEach(node -> recommendations.add(node.asText()));
+                return recommendations;
+            }), post);
+        });
+        return translated(future, "경력 추천 오류");
+    }
+
+    // getMatchesByHash 와 같은 순서를 비동기로 연결 (취소하면 그때 진행 중인 요청을 취소)
+    private CompletableFuture<MatchScores> getMatchesByHashAsync(String resume, List<String> jobListings, List<Long> jobIds) {
+        AtomicReference<Future<?>> step = new AtomicReference<>();
+        BiFunction<String, Object, CompletableFuture<byte[]>> post = (url, body) -> {
+            CompletableFuture<byte[]> exchange = postAsync(url, body);
+            step.set(exchange);
+            return exchange;
+        };
+        Map<String, String> textsByHash = new LinkedHashMap<>();
+        List<String> hashes = new ArrayList<>(jobListings.size());
+        for (String text : jobListings) {
+            String hash = ContentHash.of(text);
+            hashes.add(hash);
+            textsByHash.putIfAbsent(hash, text);
+        }
+        List<String> unknown = textsByHash.keySet().stream().filter(h -> !shippedHashes.contains(h)).toList();
+        CompletableFuture<Integer> uploaded = unknown.isEmpty()
+                ? CompletableFuture.completedFuture(0)
+                : post.apply(aiTextsMissingUrl, Map.of("hashes", unknown))
+                        .thenCompose(body -> uploadAsync(readHashes(body, "missing"), textsByHash, post))
+                        .thenApply(count -> {
+                            shippedHashes.addAll(unknown);
+                            return count;
+                        });
+
+        Map<String, Object> req = Map.of(
+                "resume", resume,
+                "job_hashes", hashes,
+                "job_ids", jobIds
+        );
+        CompletableFuture<MatchScores> result = uploaded
+                .thenCompose(count -> {
+                    textsSkipped.increment(textsByHash.size() - count);
+                    return post.apply(aiMatchByHashUrl, req);
+                })
+                .exceptionallyCompose(error -> {
+                    if (!(unwrap(error) instanceof HttpClientErrorException.Conflict conflict)) {
+                        return CompletableFuture.failedFuture(unwrap(error));
+                    }
+                    List<String> lost = readHashes(conflict.getResponseBodyAsByteArray(), "missing");
+                    log.info("[AI 매칭] AI 서버에 없는 본문 {}건 재업로드", lost.size());
+                    shippedHashes.removeAll(lost);
+                    return uploadAsync(lost, textsByHash, post).thenCompose(count -> {
+                        shippedHashes.addAll(lost);
+                        return post.apply(aiMatchByHashUrl, req);
+                    });
+                })
+                .thenApply(body -> parseScores(body, jobIds.size()));
+        result.whenComplete((value, error) -> {
+            Future<?> inFlight = step.get();
+            if (result.isCancelled() && inFlight != null) {
+                inFlight.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private CompletableFuture<Integer> uploadAsync(List<String> hashes, Map<String, String> textsByHash,
+                                                   BiFunction<String, Object, CompletableFuture<byte[]>> post) {
+        Map<String, String> texts = new LinkedHashMap<>();
+        long bytes = 0;
+        for (String hash : hashes) {
+            String text = textsByHash.get(hash);
+            if (text != null) {
+                texts.put(hash, text);
+                bytes += text.getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        if (texts.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+        long uploadedBytes = bytes;
+        return post.apply(aiTextsUrl, Map.of("texts", texts)).thenApply(body -> {
+            textsUploaded.increment(texts.size());
+            uploadBytes.record(uploadedBytes);
+            return texts.size();
+        });
+    }
+
+    /**
+     * JSON POST (ai.request.gzip 이면 gzip 압축) → 2xx 면 응답 본문, 아니면 RestTemplate 과 같은 HttpStatusCodeException
+     */
+    private CompletableFuture<byte[]> postAsync(String url, Object body) {
+        SimpleHttpRequest request;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            if (gzipRequests) {
+                try (OutputStream out = new GZIPOutputStream(buffer)) {
+                    objectMapper.writeValue(out, body);
+                }
+            } else {
+                objectMapper.writeValue(buffer, body);
+            }
+            SimpleRequestBuilder builder = SimpleRequestBuilder.post(url)
+                    .setHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                    .setBody(buffer.toByteArray(), ContentType.APPLICATION_JSON);
+            if (gzipRequests) {
+                builder.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            request = builder.build();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new IllegalStateException("AI 요청 직렬화 실패: " + e.getMessage(), e));
+        }
+        CompletableFuture<SimpleHttpResponse> exchange = asyncHttp.execute(request);
+        return cancelling(exchange.thenApply(AiHttpClient::bodyOrThrow), exchange);
+    }
+
+    /**
+     * thenApply 등으로 만든 future 는 취소해도 원래 future 에 전달되지 않으므로,
+     * derived 가 취소되면 source(진행 중인 HTTP 교환 또는 그 앞 단계)도 취소한다.
+     */
+    private static <T> CompletableFuture<T> cancelling(CompletableFuture<T> derived, Future<?> source) {
+        derived.whenComplete((value, error) -> {
+            if (derived.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return derived;
+    }
+
+    private static byte[] bodyOrThrow(SimpleHttpResponse response) {
+        byte[] body = response.getBodyBytes() != null ? response.getBodyBytes() : new byte[0];
+        int code = response.getCode();
+        if (code < 400) {
+            return body;
+        }
+        HttpStatusCode status = HttpStatusCode.valueOf(code);
+        String reason = response.getReasonPhrase();
+        if (code < 500) {
+            throw HttpClientErrorException.create(status, reason, new HttpHeaders(), body, StandardCharsets.UTF_8);
+        }
+        throw HttpServerErrorException.create(status, reason, new HttpHeaders(), body, StandardCharsets.UTF_8);
+    }
+
+    private MatchScores parseScores(byte[] body, int expected) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            return MatchScores.read(parser, expected);
+        } catch (IOException e) {
+            throw new IllegalStateException("AI 서버 응답 해석 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private JsonNode readTree(byte[] body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("AI 서버 응답 해석 실패: " + e.getMessage(), e);
+        }
+    }
+
+    // 동기 버전의 catch 블록과 같은 메시지로 변환 (결과를 취소하면 AiCallGuard 를 거쳐 HTTP 교환까지 취소)
+    private static <T> CompletableFuture<T> translated(CompletableFuture<T> future, String errorPrefix) {
+        CompletableFuture<T> result = cancelling(new CompletableFuture<>(), future);
+        future.whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable cause = unwrap(error);
+            if (cause instanceof AiUnavailableException) {
+                result.completeExceptionally(cause);
+            } else if (cause instanceof HttpClientErrorException || cause instanceof HttpServerErrorException) {
+                result.completeExceptionally(new RuntimeException(errorPrefix + ": "
+                        + ((HttpStatusCodeException) cause).getResponseBodyAsString()));
+            } else if (cause instanceof ResourceAccessException) {
+                result.completeExceptionally(new RuntimeException("AI 서버 연결 실패: " + cause.getMessage()));
+            } else {
+                result.completeExceptionally(new RuntimeException("예기치 못한 오류 발생: " + cause.getMessage()));
+            }
+        });
+        return result;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
     @SuppressWarnings("unchecked")
     public List<String> getCareerPath(String resume, String jobDescription) {
         Map<String, Object> req = Map.of(
@@ -53,8 +458,11 @@ public class AiHttpClient {
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(req, headers);
 
         try {
-            ResponseEntity<Map> resp = restTemplate.postForEntity(AI_CAREER_URL, entity, Map.class);
+            ResponseEntity<Map> resp = aiCallGuard.call("career", true,
+                    () -> restTemplate.postForEntity(aiCareerUrl, entity, Map.class));
             return (List<String>) resp.getBody().get("recommendations");
+        } catch (AiUnavailableException ex) {
+            throw ex;
         } catch (HttpClientErrorException | HttpServerErrorException ex) {
             throw new RuntimeException("경력 추천 오류: " + ex.getResponseBodyAsString());
         } catch (ResourceAccessException ex) {
@@ -63,4 +471,38 @@ public class AiHttpClient {
             throw new RuntimeException("예기치 못한 오류 발생: " + ex.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 텍스트 임베딩 (요청 순서대로 벡터 반환)
+     */
+    @SuppressWarnings("unchecked")
+    public List<float[]> embed(List<String> texts) {
+        Map<String, Object> req = Map.of("texts", texts);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(req, headers);
+
+        try {
+            ResponseEntity<Map> resp = aiCallGuard.call("embed", true,
+                    () -> restTemplate.postForEntity(aiEmbedUrl, entity, Map.class));
+            List<List<Number>> embeddings = (List<List<Number>>) resp.getBody().get("embeddings");
+            List<float[]> vectors = new ArrayList<>(embeddings.size());
+            for (List<Number> embedding : embeddings) {
+                float[] vector = new float[embedding.size()];
+                for (int i = 0; i < vector.length; i++) {
+                    vector[i] = embedding.get(i).floatValue();
+                }
+                vectors.add(vector);
+            }
+            return vectors;
+        } catch (AiUnavailableException ex) {
+            throw ex;
+        } catch (HttpClientErrorException | HttpServerErrorException ex) {
+            throw new RuntimeException("임베딩 오류: " + ex.getResponseBodyAsString());
+        } catch (ResourceAccessException ex) {
+            throw new RuntimeException("AI 서버 연결 실패: " + ex.getMessage());
+        } catch (Exception ex) {
+            throw new RuntimeException("예기치 못한 오류 발생: " + ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.jobbridge.jobbridge_backend.util;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * AI 호출의 우선순위 등급과 공정 분배 단위(사용자)
+ * AiRequestScheduler 가 이 값으로 대기열을 고른다. 스레드에 지정된 값이 없으면
+ * 현재 인증 사용자의 INTERACTIVE 요청으로 본다 (인증 정보가 없으면 "anonymous").
+ * 다른 스레드로 작업을 넘길 때는 current() 로 잡아 두었다가 call / wrap 으로 이어 준다.
+ */
+public record AiRequestContext(Priority priority, String owner) {
+
+    public enum Priority {
+        INTERACTIVE, // 사용자가 응답을 기다리는 요청
+        BACKGROUND   // 백필, 표본 측정 등 남는 처리량만 쓰는 작업
+    }
+
+    private static final ThreadLocal<AiRequestContext> CURRENT = new ThreadLocal<>();
+
+    public static AiRequestContext interactive(String owner) {
+        return new AiRequestContext(Priority.INTERACTIVE, owner != null ? owner : "anonymous");
+    }
+
+    public static AiRequestContext background(String job) {
+        return new AiRequestContext(Priority.BACKGROUND, job);
+    }
+
+    public static AiRequestContext current() {
+        AiRequestContext context = CURRENT.get();
+        if (context != null) {
+            return context;
+        }
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        boolean authenticated = auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken);
+        return interactive(authenticated ? auth.getName() : null);
+    }
+
+    /**
+     * 이 컨텍스트로 action 실행 (끝나면 이전 값 복원)
+     */
+    public <T> T call(Supplier<T> action) {
+        AiRequestContext previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * executor 에 넘기는 작업이 이 컨텍스트로 실행되도록 감싼다
+     */
+    public Executor wrap(Executor executor) {
+        return task -> executor.execute(() -> run(task));
+    }
+}
@@ -0,0 +1,163 @@
+package com.jobbridge.jobbridge_backend.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * AI 서버 호출 자리 배분 (AiCallGuard 가 매 시도마다 자리를 받고 끝나면 돌려준다)
+ * - 전체 동시 호출 ai.scheduler.max-concurrent 건 (AI 서버 처리 용량에 맞춘다)
+ * - INTERACTIVE 가 먼저, BACKGROUND 는 남는 자리 중 ai.scheduler.background-max 건까지
+ * - 같은 등급 안에서는 사용자별로 돌아가며 배분
+ * - 등급별 최대 대기(ai.scheduler.{interactive|background}-max-wait)를 넘기거나 대기열이 가득 차면 AiUnavailableException
+ * 지표: ai.scheduler.queue.time{priority}, ai.scheduler.queued{priority}, ai.scheduler.running{priority}
+ */
+@Component
+public class AiRequestScheduler {
+
+    private final FairScheduler scheduler;
+    private final Map<AiRequestContext.Priority, Duration> maxWait = new EnumMap<>(AiRequestContext.Priority.class);
+    private final Map<AiRequestContext.Priority, Timer> queueTime = new EnumMap<>(AiRequestContext.Priority.class);
+    private final Counter rejectedTimeout;
+    private final Counter rejectedFull;
+
+    public AiRequestScheduler(MeterRegistry registry,
+                              @Value("${ai.scheduler.max-concurrent:${ai.bulkhead.max-concurrent:32}}") int maxConcurrent,
+                              @Value("${ai.scheduler.background-max:16}") int backgroundMax,
+                              @Value("${ai.scheduler.queue-capacity:1000}") int queueCapacity,
+                              @Value("${ai.scheduler.interactive-max-wait:PT1S}") Duration interactiveMaxWait,
+                              @Value("${ai.scheduler.background-max-wait:PT30S}") Duration backgroundMaxWait) {
+        maxWait.put(AiRequestContext.Priority.INTERACTIVE, interactiveMaxWait);
+        maxWait.put(AiRequestContext.Priority.BACKGROUND, backgroundMaxWait);
+        for (AiRequestContext.Priority priority : AiRequestContext.Priority.values()) {
+            queueTime.put(priority, Timer.builder("ai.scheduler.queue.time")
+                    .tag("priority", tag(priority))
+                    .description("AI 호출 자리를 받기까지 기다린 시간")
+                    .publishPercentiles(0.5, 0.99)
+                    .register(registry));
+        }
+        this.scheduler = new FairScheduler(maxConcurrent, backgroundMax, queueCapacity, System::nanoTime,
+                (priority, waited) -> queueTime.get(priority).record(waited, TimeUnit.NANOSECONDS));
+        for (AiRequestContext.Priority priority : AiRequestContext.Priority.values()) {
+            Gauge.builder("ai.scheduler.queued", scheduler, s -> s.queued(priority))
+                    .tag("priority", tag(priority))
+                    .description("AI 호출 자리를 기다리는 요청 수")
+                    .register(registry);
+            Gauge.builder("ai.scheduler.running", scheduler, s -> s.running(priority))
+                    .tag("priority", tag(priority))
+                    .description("AI 서버에 보내는 중인 요청 수")
+                    .register(registry);
+        }
+        this.rejectedTimeout = Counter.builder("ai.calls.rejected").tag("reason", "queue_timeout")
+                .description("AI 서버 호출 전에 거절한 횟수").register(registry);
+        this.rejectedFull = Counter.builder("ai.calls.rejected").tag("reason", "queue_full")
+                .description("AI 서버 호출 전에 거절한 횟수").register(registry);
+    }
+
+    /**
+     * 자리를 받을 때까지 대기 (등급별 최대 대기 시간까지)
+     * @throws AiUnavailableException 대기열이 가득 찼거나 시간 안에 자리를 받지 못함
+     */
+    public Permit acquire(AiRequestContext context) {
+        FairScheduler.Ticket ticket = enqueue(context);
+        try {
+            ticket.granted.get(maxWait.get(context.priority()).toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            giveUp(ticket);
+            throw timedOut(context);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            giveUp(ticket);
+            throw new AiUnavailableException("AI 호출 대기 중 중단됨");
+        } catch (ExecutionException e) {
+            giveUp(ticket);
+            throw new IllegalStateException(e.getCause());
+        }
+        return new Permit(context.priority());
+    }
+
+    /**
+     * acquire 의 논블로킹 버전 (기다리는 동안 스레드를 점유하지 않는다)
+     */
+    public CompletableFuture<Permit> acquireAsync(AiRequestContext context) {
+        FairScheduler.Ticket ticket;
+        try {
+            ticket = enqueue(context);
+        } catch (AiUnavailableException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (ticket.granted.isDone()) {
+            return CompletableFuture.completedFuture(new Permit(context.priority()));
+        }
+        CompletableFuture<Permit> result = new CompletableFuture<>();
+        ticket.granted.thenRun(() -> {
+            Permit permit = new Permit(context.priority());
+            if (!result.complete(permit)) {
+                permit.release(); // 호출자가 이미 포기함
+            }
+        });
+        CompletableFuture.delayedExecutor(maxWait.get(context.priority()).toNanos(), TimeUnit.NANOSECONDS)
+                .execute(() -> {
+                    if (scheduler.cancel(ticket)) {
+                        result.completeExceptionally(timedOut(context));
+                    }
+                });
+        return result;
+    }
+
+    private FairScheduler.Ticket enqueue(AiRequestContext context) {
+        FairScheduler.Ticket ticket = scheduler.acquire(context);
+        if (ticket == null) {
+            rejectedFull.increment();
+            throw new AiUnavailableException("AI 호출 대기열 가득 참");
+        }
+        return ticket;
+    }
+
+    // 대기를 포기 - 그사이 자리를 받았으면 바로 돌려준다
+    private void giveUp(FairScheduler.Ticket ticket) {
+        if (!scheduler.cancel(ticket)) {
+            scheduler.release(ticket.context.priority());
+        }
+    }
+
+    private AiUnavailableException timedOut(AiRequestContext context) {
+        rejectedTimeout.increment();
+        return new AiUnavailableException("AI 호출 대기 시간 초과 (" + tag(context.priority()) + ")");
+    }
+
+    private static String tag(AiRequestContext.Priority priority) {
+        return priority.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 받은 자리 (여러 번 release 해도 한 번만 반환)
+     */
+    public final class Permit {
+        private final AiRequestContext.Priority priority;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(AiRequestContext.Priority priority) {
+            this.priority = priority;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                scheduler.release(priority);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.jobbridge.jobbridge_backend.util;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * AI 서버 호출을 시도하지 않고 바로 거절함 (회로 열림 / 동시 호출 한도 초과)
+ * 컨트롤러까지 올라가면 503 으로 응답한다.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class AiUnavailableException extends RuntimeException {
+
+    public AiUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,143 @@
+package com.jobbridge.jobbridge_backend.util;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 N건 결과 기반 회로 차단기
+ * - CLOSED: 최근 window 건 중 실패 비율이 failureRate 이상이면 (최소 minCalls 건) OPEN
+ * - OPEN: openDuration 동안 모든 호출 거절, 이후 HALF_OPEN
+ * - HALF_OPEN: 동시에 probes 건까지만 시험 호출 허용, probes 건이 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+final class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    interface Listener {
+        void onTransition(State from, State to);
+    }
+
+    private final boolean[] outcomes; // true = 실패
+    private final int minCalls;
+    private final double failureRate;
+    private final long openNanos;
+    private final int probes;
+    private final LongSupplier clock;
+    private final Listener listener;
+
+    private State state = State.CLOSED;
+    private int recorded;
+    private int cursor;
+    private int failures;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    CircuitBreaker(int window, int minCalls, double failureRate, Duration openDuration, int probes,
+                   LongSupplier clock, Listener listener) {
+        if (window <= 0 || minCalls <= 0 || probes <= 0 || failureRate <= 0 || failureRate > 1) {
+            throw new IllegalArgumentException("회로 차단기 설정이 올바르지 않습니다");
+        }
+        this.outcomes = new boolean[window];
+        this.minCalls = Math.min(minCalls, window);
+        this.failureRate = failureRate;
+        this.openNanos = openDuration.toNanos();
+        this.probes = probes;
+        this.clock = clock;
+        this.listener = listener;
+    }
+
+    /**
+     * 호출 허용 여부 (허용했으면 반드시 onSuccess / onFailure / onIgnored 중 하나를 호출)
+     */
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openNanos) {
+                return false;
+            }
+            transition(State.HALF_OPEN);
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight + probeSuccesses >= probes) {
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+            if (++probeSuccesses >= probes) {
+                reset();
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minCalls && failures >= failureRate * recorded) {
+                open();
+            }
+        }
+    }
+
+    // 서버 상태와 무관한 결과 (4xx 등) - 시험 호출 자리만 돌려준다
+    synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recorded == outcomes.length) {
+            if (outcomes[cursor]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[cursor] = failed;
+        if (failed) {
+            failures++;
+        }
+        cursor = (cursor + 1) % outcomes.length;
+    }
+
+    private void open() {
+        openedAt = clock.getAsLong();
+        reset();
+        transition(State.OPEN);
+    }
+
+    private void reset() {
+        recorded = 0;
+        cursor = 0;
+        failures = 0;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+    }
+
+    private void transition(State to) {
+        State from = state;
+        if (from != to) {
+            state = to;
+            listener.onTransition(from, to);
+        }
+    }
+}
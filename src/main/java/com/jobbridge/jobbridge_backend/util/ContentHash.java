@@ -0,0 +1,39 @@
+package com.jobbridge.jobbridge_backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 내용 변경 감지용 SHA-256 해시 (64자리 hex)
+ */
+public final class ContentHash {
+
+    private ContentHash() {
+    }
+
+    /**
+     * 필드 값들을 순서대로 이어 해시 (필드 경계가 섞이지 않도록 구분자 포함, null 은 빈 값과 구분)
+     */
+    public static String of(Object... parts) {
+        MessageDigest digest = newDigest();
+        for (Object part : parts) {
+            if (part == null) {
+                digest.update((byte) 1);
+            } else {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.jobbridge.jobbridge_backend.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+
+/**
+ * 우선순위 등급 + 등급 안에서 사용자별 공정 분배하는 동시 실행 자리 배분
+ * - 전체 동시 실행은 maxConcurrent 건
+ * - INTERACTIVE 대기가 있으면 항상 먼저, BACKGROUND 는 남는 자리 중 backgroundMax 건까지만
+ *   (BACKGROUND 가 자리를 다 차지해 INTERACTIVE 가 기다리는 일이 없도록)
+ * - 같은 등급 안에서는 사용자(owner)별 대기열을 돌아가며 하나씩 꺼낸다 (한 사용자가 몰아 보내도 다른 사용자가 밀리지 않음)
+ * 자리를 받은 티켓의 future 는 잠금 밖에서 완료한다.
+ */
+final class FairScheduler {
+
+    interface Listener {
+        void onGranted(AiRequestContext.Priority priority, long waitedNanos);
+    }
+
+    static final class Ticket {
+        final AiRequestContext context;
+        final long enqueuedAt;
+        final CompletableFuture<Void> granted = new CompletableFuture<>();
+
+        private Ticket(AiRequestContext context, long enqueuedAt) {
+            this.context = context;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    private final int maxConcurrent;
+    private final int backgroundMax;
+    private final int queueCapacity;
+    private final LongSupplier clock;
+    private final Listener listener;
+    private final Map<AiRequestContext.Priority, OwnerQueues> queues = new EnumMap<>(AiRequestContext.Priority.class);
+    private final Map<AiRequestContext.Priority, Integer> running = new EnumMap<>(AiRequestContext.Priority.class);
+    private int runningTotal;
+    private int queuedTotal;
+
+    FairScheduler(int maxConcurrent, int backgroundMax, int queueCapacity, LongSupplier clock, Listener listener) {
+        if (maxConcurrent <= 0 || backgroundMax < 0 || queueCapacity < 0) {
+            throw new IllegalArgumentException("AI 스케줄러 설정이 올바르지 않습니다");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.backgroundMax = Math.min(backgroundMax, maxConcurrent);
+        this.queueCapacity = queueCapacity;
+        this.clock = clock;
+        this.listener = listener;
+        for (AiRequestContext.Priority priority : AiRequestContext.Priority.values()) {
+            queues.put(priority, new OwnerQueues());
+            running.put(priority, 0);
+        }
+    }
+
+    /**
+     * 자리가 있으면 바로 받은 티켓, 없으면 대기 중인 티켓 (대기열이 가득 찼으면 null)
+     */
+    Ticket acquire(AiRequestContext context) {
+        Ticket ticket = new Ticket(context, clock.getAsLong());
+        synchronized (this) {
+            if (canStartNow(context.priority())) {
+                start(context.priority());
+            } else if (queuedTotal >= queueCapacity) {
+                return null;
+            } else {
+                queues.get(context.priority()).add(ticket);
+                queuedTotal++;
+                return ticket;
+            }
+        }
+        grant(ticket);
+        return ticket;
+    }
+
+    /**
+     * 아직 대기 중이면 대기열에서 빼고 true (이미 자리를 받았으면 false - 호출자가 release 해야 함)
+     */
+    boolean cancel(Ticket ticket) {
+        synchronized (this) {
+            if (!queues.get(ticket.context.priority()).remove(ticket)) {
+                return false;
+            }
+            queuedTotal--;
+        }
+        return true;
+    }
+
+    void release(AiRequestContext.Priority priority) {
+        List<Ticket> next = new ArrayList<>(1);
+        synchronized (this) {
+            running.merge(priority, -1, Integer::sum);
+            runningTotal--;
+            Ticket ticket;
+            while ((ticket = poll()) != null) {
+                start(ticket.context.priority());
+                next.add(ticket);
+            }
+        }
+        next.forEach(this::grant);
+    }
+
+    synchronized int running(AiRequestContext.Priority priority) {
+        return running.get(priority);
+    }
+
+    synchronized int queued(AiRequestContext.Priority priority) {
+        return queues.get(priority).size;
+    }
+
+    private boolean canStartNow(AiRequestContext.Priority priority) {
+        if (runningTotal >= maxConcurrent || queues.get(AiRequestContext.Priority.INTERACTIVE).size > 0) {
+            return false;
+        }
+        return priority == AiRequestContext.Priority.INTERACTIVE
+                || (queues.get(priority).size == 0 && running.get(priority) < backgroundMax);
+    }
+
+    // 다음에 자리를 줄 티켓 (잠금 안에서)
+    private Ticket poll() {
+        if (runningTotal >= maxConcurrent) {
+            return null;
+        }
+        Ticket ticket = queues.get(AiRequestContext.Priority.INTERACTIVE).poll();
+        if (ticket == null && running.get(AiRequestContext.Priority.BACKGROUND) < backgroundMax) {
+            ticket = queues.get(AiRequestContext.Priority.BACKGROUND).poll();
+        }
+        if (ticket != null) {
+            queuedTotal--;
+        }
+        return ticket;
+    }
+
+    private void start(AiRequestContext.Priority priority) {
+        running.merge(priority, 1, Integer::sum);
+        runningTotal++;
+    }
+
+    // 지표 기록이 실패해도 티켓은 자리를 받아야 한다 (안 그러면 잡은 자리가 돌아오지 않는다)
+    private void grant(Ticket ticket) {
+        try {
+            listener.onGranted(ticket.context.priority(), clock.getAsLong() - ticket.enqueuedAt);
+        } finally {
+            ticket.granted.complete(null);
+        }
+    }
+
+    // 사용자별 FIFO 를 돌아가며 꺼내는 대기열
+    private static final class OwnerQueues {
+        private final Map<String, ArrayDeque<Ticket>> byOwner = new HashMap<>();
+        private final ArrayDeque<String> turn = new ArrayDeque<>();
+        private int size;
+
+        void add(Ticket ticket) {
+            ArrayDeque<Ticket> queue = byOwner.get(ticket.context.owner());
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                byOwner.put(ticket.context.owner(), queue);
+                turn.addLast(ticket.context.owner());
+            }
+            queue.addLast(ticket);
+            size++;
+        }
+
+        Ticket poll() {
+            String owner = turn.pollFirst();
+            if (owner == null) {
+                return null;
+            }
+            ArrayDeque<Ticket> queue = byOwner.get(owner);
+            Ticket ticket = queue.pollFirst();
+            if (queue.isEmpty()) {
+                byOwner.remove(owner);
+            } else {
+                turn.addLast(owner);
+            }
+            size--;
+            return ticket;
+        }
+
+        boolean remove(Ticket ticket) {
+            ArrayDeque<Ticket> queue = byOwner.get(ticket.context.owner());
+            if (queue == null || !queue.remove(ticket)) {
+                return false;
+            }
+            if (queue.isEmpty()) {
+                byOwner.remove(ticket.context.owner());
+                turn.remove(ticket.context.owner());
+            }
+            size--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.jobbridge.jobbridge_backend.util;
+
+/**
+ * HTML 조각 → 일반 텍스트 변환 (단일 패스)
+ * 문자열을 한 번만 훑으면서 태그 제거, &lt;br&gt; 줄바꿈, &lt;li&gt; 글머리표, 엔티티 디코딩을 함께 처리하고
+ * 결과를 호출자가 넘긴 StringBuilder 에 바로 붙인다. (기존 cleanHtml: replaceAll 4회 + replace 6회, 호출마다 String 생성)
+ */
+public final class HtmlTextConverter {
+
+    // 이름순 정렬 (이진 탐색용) - &nbsp; 는 기존 동작대로 일반 공백으로 바꾼다
+    private static final String[] ENTITY_NAMES = {
+            "AElig", "Aacute", "Acirc", "Agrave", "Alpha", "Aring", "Atilde", "Auml", "Beta", "Ccedil",
+            "Chi", "Dagger", "Delta", "ETH", "Eacute", "Ecirc", "Egrave", "Epsilon", "Eta", "Euml",
+            "Gamma", "Iacute", "Icirc", "Igrave", "Iota", "Iuml", "Kappa", "Lambda", "Mu", "Ntilde",
+            "Nu", "OElig", "Oacute", "Ocirc", "Ograve", "Omega", "Omicron", "Oslash", "Otilde", "Ouml",
+            "Phi", "Pi", "Prime", "Psi", "Rho", "Scaron", "Sigma", "THORN", "Tau", "Theta",
+            "Uacute", "Ucirc", "Ugrave", "Upsilon", "Uuml", "Xi", "Yacute", "Yuml", "Zeta", "aacute",
+            "acirc", "acute", "aelig", "agrave", "alefsym", "alpha", "amp", "and", "ang", "apos",
+            "aring", "asymp", "atilde", "auml", "bdquo", "beta", "brvbar", "bull", "cap", "ccedil",
+            "cedil", "cent", "chi", "circ", "clubs", "cong", "copy", "crarr", "cup", "curren",
+            "dArr", "dagger", "darr", "deg", "delta", "diams", "divide", "eacute", "ecirc", "egrave",
+            "empty", "emsp", "ensp", "epsilon", "equiv", "eta", "eth", "euml", "euro", "exist",
+            "fnof", "forall", "frac12", "frac14", "frac34", "frasl", "gamma", "ge", "gt", "hArr",
+            "harr", "hearts", "hellip", "iacute", "icirc", "iexcl", "igrave", "image", "infin", "int",
+            "iota", "iquest", "isin", "iuml", "kappa", "lArr", "lambda", "lang", "laquo", "larr",
+            "lceil", "ldquo", "le", "lfloor", "lowast", "loz", "lrm", "lsaquo", "lsquo", "lt",
+            "macr", "mdash", "micro", "middot", "minus", "mu", "nabla", "nbsp", "ndash", "ne",
+            "ni", "not", "notin", "nsub", "ntilde", "nu", "oacute", "ocirc", "oelig", "ograve",
+            "oline", "omega", "omicron", "oplus", "or", "ordf", "ordm", "oslash", "otilde", "otimes",
+            "ouml", "para", "part", "permil", "perp", "phi", "pi", "piv", "plusmn", "pound",
+            "prime", "prod", "prop", "psi", "quot", "rArr", "radic", "rang", "raquo", "rarr",
+            "rceil", "rdquo", "real", "reg", "rfloor", "rho", "rlm", "rsaquo", "rsquo", "sbquo",
+            "scaron", "sdot", "sect", "shy", "sigma", "sigmaf", "sim", "spades", "sub", "sube",
+            "sum", "sup", "sup1", "sup2", "sup3", "supe", "szlig", "tau", "there4", "theta",
+            "thetasym", "thinsp", "thorn", "tilde", "times", "trade", "uArr", "uacute", "uarr", "ucirc",
+            "ugrave", "uml", "upsih", "upsilon", "uuml", "weierp", "xi", "yacute", "yen", "yuml",
+            "zeta", "zwj", "zwnj"
+    };
+
+    private static final int[] ENTITY_CODE_POINTS = {
+            198, 193, 194, 192, 913, 197, 195, 196, 914, 199,
+            935, 8225, 916, 208, 201, 202, 200, 917, 919, 203,
+            915, 205, 206, 204, 921, 207, 922, 923, 924, 209,
+            925, 338, 211, 212, 210, 937, 927, 216, 213, 214,
+            934, 928, 8243, 936, 929, 352, 931, 222, 932, 920,
+            218, 219, 217, 933, 220, 926, 221, 376, 918, 225,
+            226, 180, 230, 224, 8501, 945, 38, 8743, 8736, 39,
+            229, 8776, 227, 228, 8222, 946, 166, 8226, 8745, 231,
+            184, 162, 967, 710, 9827, 8773, 169, 8629, 8746, 164,
+            8659, 8224, 8595, 176, 948, 9830, 247, 233, 234, 232,
+            8709, 8195, 8194, 949, 8801, 951, 240, 235, 8364, 8707,
+            402, 8704, 189, 188, 190, 8260, 947, 8805, 62, 8660,
+            8596, 9829, 8230, 237, 238, 161, 236, 8465, 8734, 8747,
+            953, 191, 8712, 239, 954, 8656, 955, 9001, 171, 8592,
+            8968, 8220, 8804, 8970, 8727, 9674, 8206, 8249, 8216, 60,
+            175, 8212, 181, 183, 8722, 956, 8711, ' ', 8211, 8800,
+            8715, 172, 8713, 8836, 241, 957, 243, 244, 339, 242,
+            8254, 969, 959, 8853, 8744, 170, 186, 248, 245, 8855,
+            246, 182, 8706, 8240, 8869, 966, 960, 982, 177, 163,
+            8242, 8719, 8733, 968, 34, 8658, 8730, 9002, 187, 8594,
+            8969, 8221, 8476, 174, 8971, 961, 8207, 8250, 8217, 8218,
+            353, 8901, 167, 173, 963, 962, 8764, 9824, 8834, 8838,
+            8721, 8835, 185, 178, 179, 8839, 223, 964, 8756, 952,
+            977, 8201, 254, 732, 215, 8482, 8657, 250, 8593, 251,
+            249, 168, 978, 965, 252, 8472, 958, 253, 165, 255,
+            950, 8205, 8204
+    };
+
+    private static final int MAX_ENTITY_LENGTH = 10; // "&#x10FFFF;" 기준
+
+    private HtmlTextConverter() {
+    }
+
+    public static String toText(CharSequence html) {
+        StringBuilder out = new StringBuilder(html.length());
+        appendText(html, out);
+        return out.toString();
+    }
+
+    /**
+     * html 을 텍스트로 변환해 out 뒤에 붙인다 (앞뒤 공백은 기존 trim() 과 같이 제거)
+     * - &lt;br&gt; → 줄바꿈, &lt;li&gt; → "• ", &lt;/li&gt; → 줄바꿈, 나머지 태그 제거
+     * - &lt;script&gt; / &lt;style&gt; 는 내용까지 제거
+     * - 이름/숫자 엔티티 디코딩 (알 수 없는 엔티티는 그대로 둔다)
+     */
+    public static void appendText(CharSequence html, StringBuilder out) {
+        int start = out.length();
+        int len = html.length();
+        int i = 0;
+        while (i < len) {
+            char c = html.charAt(i);
+            if (c == '<') {
+                int close = findTagEnd(html, i + 1, len);
+                if (close > i + 1) {
+                    int skipTo = skipRawText(html, i + 1, close, len);
+                    if (skipTo > 0) {
+                        i = skipTo;
+                        continue;
+                    }
+                    appendTag(html, i + 1, close, out, start);
+                    i = close + 1;
+                    continue;
+                }
+            } else if (c == '&') {
+                int next = appendEntity(html, i, len, out, start);
+                if (next > i) {
+                    i = next;
+                    continue;
+                }
+            }
+            append(out, start, c);
+            i++;
+        }
+        // 뒤쪽 공백 제거
+        int end = out.length();
+        while (end > start && out.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        out.setLength(end);
+    }
+
+    // '>' 위치 (중간에 '<' 가 나오면 그 앞까지는 태그가 아닌 것으로 본다)
+    private static int findTagEnd(CharSequence html, int from, int len) {
+        for (int j = from; j < len; j++) {
+            char c = html.charAt(j);
+            if (c == '>') return j;
+            if (c == '<') return -1;
+        }
+        return -1;
+    }
+
+    // <script>/<style> 여는 태그면 닫는 태그 다음 위치 (닫는 태그가 없으면 끝까지), 아니면 -1
+    private static int skipRawText(CharSequence html, int from, int to, int len) {
+        String name;
+        if (startsWithIgnoreCase(html, from, "script")) {
+            name = "script";
+        } else if (startsWithIgnoreCase(html, from, "style")) {
+            name = "style";
+        } else {
+            return -1;
+        }
+        int nameEnd = from + name.length();
+        if (nameEnd < to && html.charAt(nameEnd) > ' ' && html.charAt(nameEnd) != '/') {
+            return -1; // <scripts> 등 다른 이름
+        }
+        for (int j = to + 1; j + 1 < len; j++) {
+            if (html.charAt(j) == '<' && html.charAt(j + 1) == '/' && startsWithIgnoreCase(html, j + 2, name)) {
+                int end = findTagEnd(html, j + 2, len);
+                return end > 0 ? end + 1 : len;
+            }
+        }
+        return len;
+    }
+
+    private static boolean startsWithIgnoreCase(CharSequence html, int from, String lowerName) {
+        if (from + lowerName.length() > html.length()) {
+            return false;
+        }
+        for (int k = 0; k < lowerName.length(); k++) {
+            if ((html.charAt(from + k) | 0x20) != lowerName.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void appendTag(CharSequence html, int from, int to, StringBuilder out, int start) {
+        boolean closing = html.charAt(from) == '/';
+        int nameStart = closing ? from + 1 : from;
+        int nameEnd = nameStart;
+        while (nameEnd < to) {
+            char c = html.charAt(nameEnd);
+            if (c <= ' ' || c == '/') break;
+            nameEnd++;
+        }
+        int nameLength = nameEnd - nameStart;
+        if (nameLength != 2) {
+            return;
+        }
+        char a = (char) (html.charAt(nameStart) | 0x20);
+        char b = (char) (html.charAt(nameStart + 1) | 0x20);
+        if (a == 'b' && b == 'r') {
+            append(out, start, '\n');
+        } else if (a == 'l' && b == 'i') {
+            if (closing) {
+                append(out, start, '\n');
+            } else {
+                append(out, start, '•');
+                append(out, start, ' ');
+            }
+        }
+    }
+
+    // 엔티티를 디코딩해 붙이고 다음 위치 반환 (엔티티가 아니면 from 그대로 반환)
+    private static int appendEntity(CharSequence html, int from, int len, StringBuilder out, int start) {
+        int limit = Math.min(len, from + MAX_ENTITY_LENGTH + 1);
+        int semi = -1;
+        for (int j = from + 1; j < limit; j++) {
+            char c = html.charAt(j);
+            if (c == ';') {
+                semi = j;
+                break;
+            }
+            if (!Character.isLetterOrDigit(c) && c != '#') break;
+        }
+        if (semi <= from + 1) {
+            return from;
+        }
+
+        int codePoint;
+        if (html.charAt(from + 1) == '#') {
+            codePoint = parseNumeric(html, from + 2, semi);
+        } else {
+            int index = lookup(html, from + 1, semi);
+            codePoint = index >= 0 ? ENTITY_CODE_POINTS[index] : -1;
+        }
+        if (codePoint < 0) {
+            return from;
+        }
+
+        if (Character.isBmpCodePoint(codePoint)) {
+            append(out, start, (char) codePoint);
+        } else {
+            append(out, start, Character.highSurrogate(codePoint));
+            append(out, start, Character.lowSurrogate(codePoint));
+        }
+        return semi + 1;
+    }
+
+    private static int parseNumeric(CharSequence html, int from, int to) {
+        int radix = 10;
+        if (from < to && (html.charAt(from) | 0x20) == 'x') {
+            radix = 16;
+            from++;
+        }
+        if (from >= to) {
+            return -1;
+        }
+        int value = 0;
+        for (int j = from; j < to; j++) {
+            int digit = Character.digit(html.charAt(j), radix);
+            if (digit < 0) return -1;
+            value = value * radix + digit;
+            if (value > Character.MAX_CODE_POINT) return -1;
+        }
+        return Character.isValidCodePoint(value) && !Character.isSurrogate((char) value) ? value : -1;
+    }
+
+    // 문자열 생성 없이 html[from, to) 구간을 정렬된 엔티티 이름과 비교
+    private static int lookup(CharSequence html, int from, int to) {
+        int low = 0;
+        int high = ENTITY_NAMES.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(ENTITY_NAMES[mid], html, from, to);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static int compare(String name, CharSequence html, int from, int to) {
+        int length = to - from;
+        int n = Math.min(name.length(), length);
+        for (int k = 0; k < n; k++) {
+            int diff = name.charAt(k) - html.charAt(from + k);
+            if (diff != 0) return diff;
+        }
+        return name.length() - length;
+    }
+
+    // 앞쪽 공백은 붙이지 않는다 (trim 과 동일)
+    private static void append(StringBuilder out, int start, char c) {
+        if (c <= ' ' && out.length() == start) {
+            return;
+        }
+        out.append(c);
+    }
+}
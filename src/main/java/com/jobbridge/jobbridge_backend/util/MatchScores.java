@@ -0,0 +1,89 @@
+package com.jobbridge.jobbridge_backend.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * AI 서버 /api/match 응답 ({"results":[{"job_id":..,"score":..}, ...]})
+ * Jackson 스트리밍으로 읽어 id/점수를 병렬 원시 배열에 담는다 (Map/박싱 객체를 만들지 않는다).
+ */
+public final class MatchScores {
+
+    private long[] ids;
+    private double[] scores;
+    private int size;
+
+    private MatchScores(int capacity) {
+        this.ids = new long[capacity];
+        this.scores = new double[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long id(int i) {
+        return ids[i];
+    }
+
+    public double score(int i) {
+        return scores[i];
+    }
+
+    /**
+     * @param expected 예상 결과 수 (요청한 후보 수, 배열 초기 크기)
+     */
+    public static MatchScores read(JsonParser parser, int expected) throws IOException {
+        MatchScores result = new MatchScores(Math.max(expected, 8));
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("AI 매칭 응답 형식 오류: 객체가 아님");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("results".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    result.readEntry(parser);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    // 항목 하나 ({"job_id":..,"score":..}) - id 또는 점수가 없으면 버린다
+    private void readEntry(JsonParser parser) throws IOException {
+        long id = 0;
+        double score = 0;
+        boolean hasId = false;
+        boolean hasScore = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value.isNumeric()) {
+                if ("job_id".equals(field)) {
+                    id = parser.getLongValue();
+                    hasId = true;
+                } else if ("score".equals(field)) {
+                    score = parser.getDoubleValue();
+                    hasScore = true;
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (hasId && hasScore) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            ids[size] = id;
+            scores[size] = score;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.jobbridge.jobbridge_backend.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 전체 재시도 예산 (토큰 버킷)
+ * 첫 시도마다 ratio 만큼, 그리고 초당 minPerSecond 만큼 적립되고 재시도 1회에 1 을 쓴다.
+ * 장애 중에도 재시도가 원래 호출량의 ratio 배 + 최소량을 넘지 않아 AI 서버에 부하를 더 얹지 않는다.
+ */
+final class RetryBudget {
+
+    private final double ratio;
+    private final double minPerSecond;
+    private final double capacity;
+    private final LongSupplier clock;
+
+    private double tokens;
+    private long refilledAt;
+
+    RetryBudget(double ratio, double minPerSecond, double capacity, LongSupplier clock) {
+        this.ratio = ratio;
+        this.minPerSecond = minPerSecond;
+        this.capacity = capacity;
+        this.clock = clock;
+        this.tokens = capacity;
+        this.refilledAt = clock.getAsLong();
+    }
+
+    synchronized void onCall() {
+        refill();
+        tokens = Math.min(capacity, tokens + ratio);
+    }
+
+    synchronized boolean tryRetry() {
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    synchronized double available() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = clock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) / 1e9 * minPerSecond);
+        refilledAt = now;
+    }
+}
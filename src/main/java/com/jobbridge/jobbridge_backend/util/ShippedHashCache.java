@@ -0,0 +1,44 @@
+package com.jobbridge.jobbridge_backend.util;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * AI 서버에 이미 올린 텍스트의 해시 (LRU, 크기 제한)
+ * 여기 있는 해시는 업로드 여부를 묻지 않고 해시만 보낸다.
+ * AI 서버가 재시작 등으로 텍스트를 잃으면 매칭 요청이 409 로 알려 주므로 그때 지운다.
+ */
+final class ShippedHashCache {
+
+    private final LinkedHashMap<String, Boolean> hashes;
+
+    ShippedHashCache(int maxEntries) {
+        this.hashes = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    synchronized boolean contains(String hash) {
+        return hashes.get(hash) != null;
+    }
+
+    synchronized void addAll(Collection<String> shipped) {
+        for (String hash : shipped) {
+            hashes.put(hash, Boolean.TRUE);
+        }
+    }
+
+    synchronized void removeAll(Collection<String> lost) {
+        for (String hash : lost) {
+            hashes.remove(hash);
+        }
+    }
+
+    synchronized int size() {
+        return hashes.size();
+    }
+}
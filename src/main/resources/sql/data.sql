@@ -48,6 +48,10 @@ CREATE TABLE job_posting (
                                 updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
                                 source VARCHAR(20) NOT NULL DEFAULT 'USER', -- ✅ USER or SARAMIN
                                 url VARCHAR(255), -- ✅ 사람인 공고 URL
+                                content_hash CHAR(64), -- 크롤링 공고 내용 해시 (변경 감지용)
+                                etag VARCHAR(255), -- 조건부 재요청용 ETag
+                                last_modified VARCHAR(64), -- 조건부 재요청용 Last-Modified
+                                last_crawled_at TIMESTAMP NULL, -- 마지막 크롤링(재확인) 시각
                                 FOREIGN KEY (company_id) REFERENCES user(id)
 );
 
@@ -55,6 +59,8 @@ CREATE TABLE job_posting (
 CREATE INDEX idx_job_posting_company_id ON job_posting(company_id);
 CREATE INDEX idx_job_posting_created_at ON job_posting(created_at);
 CREATE INDEX idx_job_posting_deadline ON job_posting(deadline);
+CREATE UNIQUE INDEX uk_job_posting_url ON job_posting(url); -- 크롤링 중복 확인용 (NULL 은 중복 허용)
+CREATE INDEX idx_job_posting_source_crawled ON job_posting(source, last_crawled_at); -- 재크롤링 대상 조회용
 
 CREATE TABLE job_application (
                                  id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -95,4 +101,61 @@ CREATE TABLE IF NOT EXISTS password_reset_tokens (
                             expiry_date TIMESTAMP NOT NULL
 );
 
+-- 크롤링 프론티어 (소스별 마지막 확인 공고 ID)
+CREATE TABLE IF NOT EXISTS crawl_frontier (
+                            source VARCHAR(20) PRIMARY KEY,
+                            last_confirmed_id BIGINT NOT NULL,
+                            updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- 프론티어 아래쪽 빈 ID 재시도 상태
+CREATE TABLE IF NOT EXISTS crawl_gap (
+                            id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                            source VARCHAR(20) NOT NULL,
+                            post_id BIGINT NOT NULL,
+                            attempts INT NOT NULL DEFAULT 0,
+                            next_attempt_at TIMESTAMP NOT NULL,
+                            last_outcome VARCHAR(20),
+                            UNIQUE KEY uk_crawl_gap_source_post (source, post_id)
+);
+
+CREATE INDEX idx_crawl_gap_next_attempt ON crawl_gap(source, next_attempt_at);
+
+-- 주기 작업 노드 간 배타 실행용 임대 락
+CREATE TABLE IF NOT EXISTS scheduler_lease (
+                            name VARCHAR(50) PRIMARY KEY,
+                            owner VARCHAR(100) NOT NULL,
+                            locked_at TIMESTAMP NOT NULL,
+                            locked_until TIMESTAMP NOT NULL
+);
+
+-- 공고/이력서 임베딩 (float32 little-endian BLOB, 내용 해시가 같으면 재계산하지 않음)
+CREATE TABLE IF NOT EXISTS embedding (
+                            id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                            target_type VARCHAR(20) NOT NULL,
+                            target_id BIGINT NOT NULL,
+                            content_hash VARCHAR(64) NOT NULL,
+                            dimension INT NOT NULL,
+                            vector_data MEDIUMBLOB NOT NULL,
+                            updated_at TIMESTAMP NOT NULL,
+                            UNIQUE KEY uk_embedding_target (target_type, target_id)
+);
+
+-- 미리 계산한 매칭 목록 (MatchScoreMaterializer)
+CREATE TABLE IF NOT EXISTS match_score (
+                            id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                            direction VARCHAR(20) NOT NULL,
+                            subject_id BIGINT NOT NULL,
+                            candidate_id BIGINT NOT NULL,
+                            score DOUBLE NOT NULL,
+                            computed_at TIMESTAMP NOT NULL,
+                            INDEX idx_match_score_subject (direction, subject_id, score),
+                            INDEX idx_match_score_candidate (direction, candidate_id)
+);
+
+CREATE TABLE IF NOT EXISTS match_score_cursor (
+                            target_type VARCHAR(20) PRIMARY KEY,
+                            processed_until TIMESTAMP NOT NULL
+);
+
 TRUNCATE TABLE jobbridge.user;
\ No newline at end of file
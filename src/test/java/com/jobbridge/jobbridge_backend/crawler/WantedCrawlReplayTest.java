@@ -0,0 +1,201 @@
+package com.jobbridge.jobbridge_backend.crawler;
+
+import com.jobbridge.jobbridge_backend.repository.CrawlFrontierRepository;
+import com.jobbridge.jobbridge_backend.repository.CrawlGapRepository;
+import com.jobbridge.jobbridge_backend.repository.JobPostingRepository;
+import com.jobbridge.jobbridge_backend.service.JobPostingRefreshService;
+import com.jobbridge.jobbridge_backend.service.JobPostingService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 녹화된 원티드 페이지로 크롤링 경로 전체(fetch → 추출 → 저장 파이프라인 → 프론티어)를 오프라인 재현
+ * 실행마다 처리량(공고/초), 공고당 할당 바이트, 공고당 DB 쓰기 횟수를 기록해 크롤러 성능 작업의 기준선으로 쓴다.
+ * 대상 공고 수는 -Dreplay.postings 로 조절한다.
+ */
+@SpringBootTest
+@ActiveProfiles("replay")
+class WantedCrawlReplayTest {
+
+    private static final Logger log = LoggerFactory.getLogger(WantedCrawlReplayTest.class);
+
+    private static final WantedReplayServer SERVER = WantedReplayServer.start();
+    private static final long SEED_ID = 1_000_000L;
+    private static final int POSTINGS = Integer.getInteger("replay.postings", 400);
+
+    @DynamicPropertySource
+    static void replayProperties(DynamicPropertyRegistry registry) {
+        registry.add("crawler.wanted.base-url", SERVER::getBaseUrl);
+        registry.add("crawler.wanted.seed-id", () -> SEED_ID);
+        registry.add("crawler.refresh.batch", () -> POSTINGS);
+    }
+
+    @TestConfiguration
+    static class WriteCountingConfig {
+        @Bean
+        static BeanPostProcessor writeCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource ds && !(bean instanceof WriteCountingDataSource)
+                            ? new WriteCountingDataSource(ds) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private JobPostingService jobPostingService;
+
+    @Autowired
+    private JobPostingRefreshService jobPostingRefreshService;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private CrawlGapRepository crawlGapRepository;
+
+    @Autowired
+    private CrawlFrontierRepository crawlFrontierRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void resetState() {
+        SERVER.reset();
+        SERVER.serve(SEED_ID + 1, POSTINGS);
+        jobPostingRepository.deleteAllInBatch();
+        crawlGapRepository.deleteAllInBatch();
+        crawlFrontierRepository.deleteAllInBatch();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.close();
+    }
+
+    @Test
+    void replaysCorpusWithoutFaults() {
+        ReplayResult result = replay("baseline");
+
+        assertEquals(POSTINGS, result.stored());
+        assertEquals(POSTINGS, SERVER.getServed());
+    }
+
+    @Test
+    void replaysCorpusWithLatencyErrorsAndThrottling() {
+        SERVER.latency(Duration.ofMillis(20), Duration.ofMillis(30))
+                .errorRate(0.05)
+                .tooManyRequestsRate(0.01, 1);
+
+        ReplayResult result = replay("faults");
+
+        // 실패한 ID 는 저장되지 않고, 마지막 성공 ID 아래쪽은 재시도 대상(gap)으로 남는다
+        assertTrue(result.stored() > 0);
+        assertTrue(result.stored() + crawlGapRepository.count() <= POSTINGS);
+        assertEquals(result.stored(), SERVER.getServed());
+    }
+
+    @Test
+    void refreshClosesRemovedPostings() {
+        replay("refresh-seed");
+        int live = POSTINGS / 2;
+        SERVER.serve(SEED_ID + 1, live); // 뒤쪽 절반은 404
+
+        jobPostingRefreshService.refreshWantedPostings();
+
+        // 404 공고는 마감 처리되어 다음 재확인 대상에서 빠진다
+        assertEquals(live, jobPostingRepository
+                .findRefreshTargets("wanted", LocalDateTime.now(), PageRequest.of(0, POSTINGS)).size());
+    }
+
+    private ReplayResult replay(String scenario) {
+        WriteCountingDataSource counter = (WriteCountingDataSource) dataSource;
+        long writesBefore = counter.getWrites();
+        Map<Long, Long> allocatedBefore = crawlerThreadAllocations();
+        long start = System.nanoTime();
+
+        jobPostingService.fetchJobPostingsFromWanted();
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        long allocated = allocatedSince(allocatedBefore);
+        long writes = counter.getWrites() - writesBefore;
+        long stored = jobPostingRepository.count();
+
+        ReplayResult result = new ReplayResult(stored, elapsed, allocated, writes);
+        log.info("[재현 하네스:{}] 요청={}, 응답={}, 500={}, 429={}, 저장={}, 소요={}ms, {}",
+                scenario, SERVER.getRequests(), SERVER.getServed(), SERVER.getErrors(), SERVER.getThrottled(),
+                stored, elapsed.toMillis(), result.summary());
+        return result;
+    }
+
+    /**
+     * 크롤링 경로를 실행하는 스레드(테스트 스레드, crawler-worker-*, crawler-writer)별 누적 할당 바이트
+     * 로컬 서버 스레드는 제외한다.
+     */
+    private static Map<Long, Long> crawlerThreadAllocations() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long testThread = Thread.currentThread().getId();
+        Map<Long, Long> allocations = new HashMap<>();
+        for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (info == null) {
+                continue;
+            }
+            long id = info.getThreadId();
+            if (id == testThread || info.getThreadName().startsWith("crawler-")) {
+                long bytes = threads.getThreadAllocatedBytes(id);
+                if (bytes >= 0) {
+                    allocations.put(id, bytes);
+                }
+            }
+        }
+        return allocations;
+    }
+
+    private static long allocatedSince(Map<Long, Long> before) {
+        long total = 0;
+        for (Map.Entry<Long, Long> entry : crawlerThreadAllocations().entrySet()) {
+            total += entry.getValue() - before.getOrDefault(entry.getKey(), 0L);
+        }
+        return total;
+    }
+
+    private record ReplayResult(long stored, Duration elapsed, long allocatedBytes, long dbWrites) {
+
+        double postingsPerSecond() {
+            double seconds = elapsed.toNanos() / 1_000_000_000.0;
+            return seconds > 0 ? stored / seconds : 0.0;
+        }
+
+        String summary() {
+            long perPosting = Math.max(stored, 1);
+            return String.format("처리량=%.1f건/초, 공고당 할당=%dB, 공고당 DB 쓰기=%.3f회",
+                    postingsPerSecond(), allocatedBytes / perPosting, (double) dbWrites / perPosting);
+        }
+    }
+}
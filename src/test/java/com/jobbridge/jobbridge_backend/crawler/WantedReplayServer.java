@@ -0,0 +1,242 @@
+package com.jobbridge.jobbridge_backend.crawler;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 원티드 상세 페이지 녹화본(src/test/resources/wanted)을 내려주는 로컬 HTTP 서버
+ * 실제 사이트에 요청하지 않고 크롤링 처리량/파싱 비용을 재현 가능하게 측정하기 위한 테스트 전용 대역.
+ *
+ * - /wd/{id} 요청 중 [firstId, firstId + postings) 범위는 녹화본을 돌려가며 응답, 나머지는 404
+ * - 지연(latency + 0~jitter), 500 오류 비율, 429 비율(Retry-After 포함)을 설정할 수 있다
+ */
+public class WantedReplayServer implements AutoCloseable {
+
+    private static final String CORPUS_DIR = "/wanted/";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "wanted-replay");
+        t.setDaemon(true);
+        return t;
+    });
+    private final List<byte[]> pages;
+
+    private volatile long firstId;
+    private volatile int postings;
+    private volatile Duration latency = Duration.ZERO;
+    private volatile Duration jitter = Duration.ZERO;
+    private volatile double errorRate;
+    private volatile double tooManyRequestsRate;
+    private volatile int retryAfterSeconds = 1;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong served = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong bytesServed = new AtomicLong();
+
+    private WantedReplayServer(List<byte[]> pages) throws IOException {
+        this.pages = pages;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/wd/", this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    /**
+     * corpus.txt 에 나열된 녹화본을 읽어 임의 포트로 서버 시작
+     */
+    public static WantedReplayServer start() {
+        try {
+            WantedReplayServer replay = new WantedReplayServer(loadCorpus());
+            replay.server.start();
+            return replay;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * firstId 부터 postings 개의 ID 에 공고 페이지를 내려준다 (녹화본이 적으면 돌려 쓴다)
+     */
+    public WantedReplayServer serve(long firstId, int postings) {
+        this.firstId = firstId;
+        this.postings = postings;
+        return this;
+    }
+
+    public WantedReplayServer latency(Duration latency, Duration jitter) {
+        this.latency = latency;
+        this.jitter = jitter;
+        return this;
+    }
+
+    public WantedReplayServer errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    public WantedReplayServer tooManyRequestsRate(double rate, int retryAfterSeconds) {
+        this.tooManyRequestsRate = rate;
+        this.retryAfterSeconds = retryAfterSeconds;
+        return this;
+    }
+
+    /**
+     * 장애 설정과 요청 통계 초기화
+     */
+    public void reset() {
+        latency = Duration.ZERO;
+        jitter = Duration.ZERO;
+        errorRate = 0;
+        tooManyRequestsRate = 0;
+        requests.set(0);
+        served.set(0);
+        errors.set(0);
+        throttled.set(0);
+        bytesServed.set(0);
+    }
+
+    public int getCorpusSize() {
+        return pages.size();
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getServed() {
+        return served.get();
+    }
+
+    public long getErrors() {
+        return errors.get();
+    }
+
+    public long getThrottled() {
+        return throttled.get();
+    }
+
+    public long getBytesServed() {
+        return bytesServed.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            sleep();
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (random.nextDouble() < tooManyRequestsRate) {
+                throttled.incrementAndGet();
+                exchange.getResponseHeaders().set("Retry-After", String.valueOf(retryAfterSeconds));
+                sendEmpty(exchange, 429);
+                return;
+            }
+            if (random.nextDouble() < errorRate) {
+                errors.incrementAndGet();
+                sendEmpty(exchange, 500);
+                return;
+            }
+
+            long id = parseId(exchange.getRequestURI().getPath());
+            if (id < firstId || id >= firstId + postings) {
+                sendEmpty(exchange, 404);
+                return;
+            }
+
+            byte[] body = pages.get((int) ((id - firstId) % pages.size()));
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+            served.incrementAndGet();
+            bytesServed.addAndGet(body.length);
+        }
+    }
+
+    // 본문 없는 응답 후 JDK HttpServer 는 연결을 닫으므로 클라이언트가 재사용하지 않도록 알린다
+    private static void sendEmpty(HttpExchange exchange, int status) throws IOException {
+        exchange.getResponseHeaders().set("Connection", "close");
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    private void sleep() {
+        long millis = latency.toMillis();
+        if (!jitter.isZero()) {
+            millis += ThreadLocalRandom.current().nextLong(jitter.toMillis() + 1);
+        }
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long parseId(String path) {
+        try {
+            return Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static List<byte[]> loadCorpus() throws IOException {
+        List<byte[]> pages = new ArrayList<>();
+        for (String line : readResource(CORPUS_DIR + "corpus.txt").split("\n")) {
+            String id = line.trim();
+            if (id.isEmpty() || id.startsWith("#")) {
+                continue;
+            }
+            try (InputStream in = resource(CORPUS_DIR + id + ".html")) {
+                pages.add(in.readAllBytes());
+            }
+        }
+        if (pages.isEmpty()) {
+            throw new IllegalStateException("녹화된 원티드 페이지가 없습니다: " + CORPUS_DIR);
+        }
+        return pages;
+    }
+
+    private static String readResource(String path) throws IOException {
+        try (InputStream in = resource(path)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static InputStream resource(String path) throws IOException {
+        InputStream in = WantedReplayServer.class.getResourceAsStream(path);
+        if (in == null) {
+            throw new IOException("리소스 없음: " + path);
+        }
+        return in;
+    }
+}
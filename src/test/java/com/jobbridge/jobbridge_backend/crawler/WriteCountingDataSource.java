@@ -0,0 +1,90 @@
+package com.jobbridge.jobbridge_backend.crawler;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * INSERT/UPDATE/DELETE 문 실행 횟수(DB 왕복 기준)를 세는 DataSource 래퍼
+ * JDBC 배치(executeBatch)는 한 번의 쓰기로 센다. JPA 와 JdbcTemplate 경로를 모두 잡기 위해 커넥션 단에서 센다.
+ */
+public class WriteCountingDataSource extends DelegatingDataSource {
+
+    private final AtomicLong writes = new AtomicLong();
+
+    public WriteCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    public long getWrites() {
+        return writes.get();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof PreparedStatement ps && method.getName().startsWith("prepare")) {
+                return statement(PreparedStatement.class, ps, (String) args[0]);
+            }
+            if (result instanceof Statement st && method.getName().equals("createStatement")) {
+                return statement(Statement.class, st, null);
+            }
+            return result;
+        });
+    }
+
+    private <S extends Statement> S statement(Class<S> type, S target, String preparedSql) {
+        return proxy(type, target, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                if (name.equals("executeBatch") || name.equals("executeLargeBatch") || isWrite(sql)) {
+                    writes.incrementAndGet();
+                }
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private static boolean isWrite(String sql) {
+        if (sql == null) {
+            return false;
+        }
+        String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return head.startsWith("insert") || head.startsWith("update")
+                || head.startsWith("delete") || head.startsWith("merge");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(WriteCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BM25 점수 순서와 문서 단위 추가/교체/삭제
+ */
+class Bm25IndexTest {
+
+    private final Bm25Index index = new Bm25Index();
+
+    @Test
+    void ranksDocumentsMatchingMoreAndRarerTerms() {
+        index.upsert(1, "Java Spring Boot 백엔드 개발자");
+        index.upsert(2, "Java Android Kotlin 모바일 개발자");
+        index.upsert(3, "Python Django 데이터 분석가");
+        index.upsert(4, "React TypeScript 웹 퍼블리셔");
+
+        TopK top = index.search("Java Spring 백엔드", 10, null);
+
+        // 1 은 세 단어 모두, 2 는 java 만, 3/4 는 겹치는 단어 없음
+        assertArrayEquals(new long[]{1, 2}, top.ids());
+        assertTrue(top.score(0) > top.score(1));
+    }
+
+    @Test
+    void higherTermFrequencyScoresHigher() {
+        index.upsert(1, "java python go rust");
+        index.upsert(2, "java java java rust");
+        index.upsert(3, "kotlin swift dart ruby");
+
+        TopK top = index.search("java", 10, null);
+
+        assertArrayEquals(new long[]{2, 1}, top.ids());
+    }
+
+    @Test
+    void upsertReplacesPreviousText() {
+        index.upsert(1, "Java Spring 백엔드");
+        index.upsert(2, "Python Django");
+
+        index.upsert(1, "Python FastAPI");
+
+        assertEquals(2, index.size());
+        assertEquals(0, index.search("java spring", 10, null).size());
+        assertArrayEquals(new long[]{1}, index.search("fastapi", 10, null).ids());
+        assertEquals(2, index.search("python", 10, null).size());
+    }
+
+    @Test
+    void removeDropsDocumentAndReusesSlot() {
+        for (long id = 1; id <= 100; id++) {
+            index.upsert(id, "java 공고" + id);
+        }
+        for (long id = 1; id <= 50; id++) {
+            index.remove(id);
+        }
+        index.remove(1); // 없는 id 는 무시
+
+        assertEquals(50, index.size());
+        for (long id : index.search("java", 100, null).ids()) {
+            assertTrue(id > 50, "삭제된 id " + id);
+        }
+
+        index.upsert(1000, "kotlin");
+        assertEquals(51, index.size());
+        assertArrayEquals(new long[]{1000}, index.search("kotlin", 10, null).ids());
+        assertEquals(50, index.search("java", 100, null).size());
+    }
+
+    @Test
+    void filterLimitsCandidates() {
+        index.upsert(1, "java spring");
+        index.upsert(2, "java");
+        index.upsert(3, "java");
+
+        TopK top = index.search("java spring", 10, id -> id != 1);
+
+        assertEquals(2, top.size());
+        assertTrue(top.id(0) != 1 && top.id(1) != 1);
+    }
+
+    @Test
+    void textWithoutTokensIsNotIndexed() {
+        index.upsert(1, "!!");
+
+        assertEquals(0, index.size());
+        assertEquals(0, index.search("java", 10, null).size());
+    }
+}
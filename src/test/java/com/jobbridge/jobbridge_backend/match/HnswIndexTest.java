@@ -0,0 +1,219 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import com.jobbridge.jobbridge_backend.entity.Embedding;
+import com.jobbridge.jobbridge_backend.repository.EmbeddingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * HNSW 근사 검색을 전수 비교 결과와 대조하고, 교체/삭제(tombstone)와 재구성 기준을 확인한다
+ * 벡터는 고정 시드 난수라 매번 같은 그래프가 만들어진다.
+ */
+class HnswIndexTest {
+
+    private static final int DIMENSION = 32;
+    private static final int K = 10;
+
+    private final Random random = new Random(7);
+
+    @Test
+    void recallAgainstFlatScan() {
+        FlatVectorIndex flat = new FlatVectorIndex(DIMENSION, 16);
+        HnswIndex hnsw = new HnswIndex(DIMENSION, 16, 200, 128, 16);
+        for (long id = 1; id <= 3000; id++) {
+            float[] vector = randomVector();
+            flat.upsert(id, vector);
+            hnsw.upsert(id, vector);
+        }
+
+        int hits = 0;
+        int queries = 100;
+        for (int q = 0; q < queries; q++) {
+            float[] query = VectorMath.normalize(randomVector());
+            Set<Long> exact = ids(flat.search(query, K));
+            for (long id : hnsw.search(query, K).ids()) {
+                if (exact.contains(id)) {
+                    hits++;
+                }
+            }
+        }
+
+        double recall = (double) hits / (queries * K);
+        assertTrue(recall >= 0.95, "recall@10 = " + recall);
+    }
+
+    @Test
+    void upsertOfExistingIdReplacesVector() {
+        HnswIndex hnsw = new HnswIndex(DIMENSION, 8, 50, 50, 16);
+        FlatVectorIndex flat = new FlatVectorIndex(DIMENSION, 16);
+        for (long id = 1; id <= 200; id++) {
+            float[] vector = randomVector();
+            hnsw.upsert(id, vector);
+            flat.upsert(id, vector);
+        }
+        float[] target = randomVector();
+
+        hnsw.upsert(5, target);
+        flat.upsert(5, target);
+
+        for (VectorIndex index : List.of(hnsw, flat)) {
+            assertEquals(200, index.size());
+            TopK top = index.search(VectorMath.normalize(target), K);
+            assertEquals(5, top.id(0));
+            assertEquals(1.0, top.score(0), 1e-5);
+            assertEquals(1, countOf(top, 5));
+        }
+        // 교체 전 노드는 tombstone 으로 남는다
+        assertEquals(1.0 / 201, hnsw.deletedRatio(), 1e-9);
+    }
+
+    @Test
+    void removedIdsAreExcludedFromSearch() {
+        HnswIndex hnsw = new HnswIndex(DIMENSION, 8, 50, 50, 16);
+        FlatVectorIndex flat = new FlatVectorIndex(DIMENSION, 16);
+        List<float[]> vectors = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            float[] vector = randomVector();
+            vectors.add(vector);
+            hnsw.upsert(id, vector);
+            flat.upsert(id, vector);
+        }
+
+        for (long id = 1; id <= 50; id++) {
+            hnsw.remove(id);
+            flat.remove(id);
+        }
+
+        for (VectorIndex index : List.of(hnsw, flat)) {
+            assertEquals(150, index.size());
+            assertFalse(index.contains(1));
+            for (int i = 0; i < 50; i++) {
+                // 지운 벡터 자신으로 검색해도 나오지 않는다
+                TopK top = index.search(VectorMath.normalize(vectors.get(i)), K);
+                assertEquals(K, top.size());
+                for (long id : top.ids()) {
+                    assertTrue(id > 50, "삭제된 id " + id);
+                }
+            }
+        }
+        assertEquals(0.25, hnsw.deletedRatio(), 1e-9);
+    }
+
+    @Test
+    void rebuildsGraphOnceDeletedRatioExceedsThreshold() {
+        EmbeddingRepository repository = mock(EmbeddingRepository.class);
+        List<Embedding> embeddings = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            embeddings.add(Embedding.builder()
+                    .targetType(Embedding.TargetType.JOB_POSTING)
+                    .targetId(id)
+                    .dimension(DIMENSION)
+                    .vectorData(VectorCodec.encode(randomVector()))
+                    .updatedAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                    .build());
+        }
+        when(repository.findByTargetTypeAndTargetIdIn(any(), anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(1);
+            return embeddings.stream().filter(e -> ids.contains(e.getTargetId())).toList();
+        });
+        JobVectorIndex index = new JobVectorIndex(repository,
+                new MatchResultCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10)));
+        ReflectionTestUtils.setField(index, "hnswThreshold", 50);
+        ReflectionTestUtils.setField(index, "hnswM", 8);
+        ReflectionTestUtils.setField(index, "hnswEfConstruction", 50);
+        ReflectionTestUtils.setField(index, "hnswEfSearch", 50);
+        ReflectionTestUtils.setField(index, "hnswRebuildDeletedRatio", 0.2);
+        ReflectionTestUtils.setField(index, "loadBatchSize", 500);
+
+        try {
+            sync(index, repository, embeddings.subList(0, 100));
+            HnswIndex first = hnsw(index);
+            assertNotNull(first);
+
+            // 100건 중 15건 삭제: 비율 0.15 라 그대로 둔다
+            sync(index, repository, embeddings.subList(15, 100));
+            assertSame(first, hnsw(index));
+            assertEquals(0.15, first.deletedRatio(), 1e-9);
+
+            // 누적 25건: 0.25 > 0.2 라 살아있는 벡터로 새로 만든다
+            sync(index, repository, embeddings.subList(25, 100));
+            HnswIndex rebuilt = hnsw(index);
+            assertNotSame(first, rebuilt);
+            assertEquals(75, rebuilt.size());
+            assertEquals(0.0, rebuilt.deletedRatio());
+            for (long id : index.search(randomVector(), K).ids()) {
+                assertTrue(id > 25, "삭제된 id " + id);
+            }
+        } finally {
+            index.shutdown();
+        }
+    }
+
+    private static void sync(JobVectorIndex index, EmbeddingRepository repository, List<Embedding> live) {
+        List<EmbeddingRepository.VersionView> versions = live.stream()
+                .map(e -> (EmbeddingRepository.VersionView) new EmbeddingRepository.VersionView() {
+                    @Override
+                    public Long getTargetId() {
+                        return e.getTargetId();
+                    }
+
+                    @Override
+                    public LocalDateTime getUpdatedAt() {
+                        return e.getUpdatedAt();
+                    }
+                })
+                .toList();
+        when(repository.findVersions(Embedding.TargetType.JOB_POSTING)).thenReturn(versions);
+        index.sync();
+    }
+
+    private static HnswIndex hnsw(JobVectorIndex index) {
+        return (HnswIndex) ReflectionTestUtils.getField(index, "hnsw");
+    }
+
+    private static Set<Long> ids(TopK top) {
+        Set<Long> ids = new HashSet<>();
+        for (long id : top.ids()) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private static int countOf(TopK top, long id) {
+        int count = 0;
+        for (long candidate : top.ids()) {
+            if (candidate == id) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private float[] randomVector() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}
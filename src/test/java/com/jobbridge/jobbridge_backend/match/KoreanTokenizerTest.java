@@ -0,0 +1,46 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 한국어/영문 혼합 텍스트 토큰화 (조사 제거, 글자 bigram, 기호가 붙은 기술 이름)
+ */
+class KoreanTokenizerTest {
+
+    @Test
+    void stripsJosaAndAddsBigrams() {
+        assertEquals(List.of("java", "spring", "boot",
+                        "백엔드개발자", "백엔", "엔드", "드개", "개발", "발자",
+                        "찾습니다", "찾습", "습니", "니다"),
+                KoreanTokenizer.tokenize("Java와 Spring Boot 백엔드개발자를 찾습니다."));
+    }
+
+    @Test
+    void keepsTwoCharacterStemWithoutBigrams() {
+        assertEquals(List.of("서울"), KoreanTokenizer.tokenize("서울에서"));
+        // 떼고 나면 한 글자만 남는 조사는 떼지 않는다
+        assertEquals(List.of("나는"), KoreanTokenizer.tokenize("나는"));
+    }
+
+    @Test
+    void keepsSymbolsInTechNames() {
+        assertEquals(List.of("c++", "c#", "node.js", "개발"), KoreanTokenizer.tokenize("C++ 와 C#, Node.js 개발."));
+    }
+
+    @Test
+    void dropsSingleCharactersAndTrailingDots() {
+        assertEquals(List.of("go", "java"), KoreanTokenizer.tokenize("a b Go java."));
+    }
+
+    @Test
+    void emptyInput() {
+        assertTrue(KoreanTokenizer.tokenize(null).isEmpty());
+        assertTrue(KoreanTokenizer.tokenize("").isEmpty());
+        assertTrue(KoreanTokenizer.tokenize("!! -- ??").isEmpty());
+    }
+}
@@ -0,0 +1,170 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import com.jobbridge.jobbridge_backend.entity.Embedding;
+import com.jobbridge.jobbridge_backend.repository.JobPostingRepository;
+import com.jobbridge.jobbridge_backend.repository.ResumeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * AI 매칭 실패 시 BM25 대체 점수와 사전 순위
+ * 색인 구성/갱신은 원래 전용 스레드에서 돌지만 여기서는 같은 스레드에서 바로 실행한다.
+ */
+class LexicalMatchIndexTest {
+
+    private static final Embedding.TargetType JOBS = Embedding.TargetType.JOB_POSTING;
+
+    private final JobPostingRepository jobPostingRepository = mock(JobPostingRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Map<Long, String> descriptions = new LinkedHashMap<>();
+    private LexicalMatchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        descriptions.put(1L, "Java Spring Boot 백엔드");
+        descriptions.put(2L, "Java Android 모바일");
+        descriptions.put(3L, "Python Django 데이터");
+        descriptions.put(4L, "React TypeScript 웹");
+        descriptions.put(5L, "Java Spring Batch 정산 백엔드");
+        when(jobPostingRepository.findMatchSourcesAfter(anyLong(), any())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            return descriptions.keySet().stream().filter(id -> id > afterId).map(this::source).toList();
+        });
+        when(jobPostingRepository.findMatchSourcesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            List<Long> ids = new ArrayList<>(invocation.getArgument(0));
+            return ids.stream().filter(descriptions::containsKey).map(this::source).toList();
+        });
+
+        index = new LexicalMatchIndex(jobPostingRepository, mock(ResumeRepository.class), registry, 100);
+        ReflectionTestUtils.setField(index, "loadBatchSize", 500);
+        ReflectionTestUtils.setField(index, "scoreHalf", 10.0);
+        ReflectionTestUtils.setField(index, "prerankEnabled", true);
+        ReflectionTestUtils.setField(index, "prerankSize", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    void fallbackRethrowsCauseUntilIndexIsReady() {
+        RuntimeException cause = new IllegalStateException("AI 서버 응답 없음");
+
+        RuntimeException thrown = assertThrows(RuntimeException.class,
+                () -> index.fallback(JOBS, "java", 10, null, cause));
+
+        assertSame(cause, thrown);
+    }
+
+    @Test
+    void fallbackRanksCandidatesByBm25AndMarksDegraded() {
+        rebuild();
+
+        TopK top = index.fallback(JOBS, "Java Spring 백엔드", 10, List.of(1L, 2L, 3L, 5L),
+                new IllegalStateException("AI 서버 응답 없음"));
+
+        assertTrue(top.isDegraded());
+        assertEquals(3, top.size());
+        assertEquals(2, top.id(2));
+        assertTrue(top.ids()[0] == 1 || top.ids()[0] == 5);
+        for (int rank = 0; rank < top.size(); rank++) {
+            assertTrue(top.score(rank) > 0 && top.score(rank) < 1, "유사도 " + top.score(rank));
+        }
+        assertEquals(1.0, registry.get("match.lexical.fallback").tag("corpus", "job_posting").counter().count());
+    }
+
+    @Test
+    void prerankKeepsTopCandidatesOnlyWhenItCanHelp() {
+        List<Long> all = List.of(1L, 2L, 3L, 4L, 5L);
+
+        // 색인 준비 전
+        assertEquals(all, index.prerank(JOBS, "java spring 백엔드", all));
+
+        rebuild();
+        List<Long> kept = index.prerank(JOBS, "java spring 백엔드", all);
+        assertEquals(2, kept.size());
+        assertTrue(kept.containsAll(List.of(1L, 5L)));
+        // 후보가 prerank.size 이하
+        assertEquals(List.of(3L, 4L), index.prerank(JOBS, "java spring 백엔드", List.of(3L, 4L)));
+        // 겹치는 단어가 없으면 줄이지 않는다
+        assertEquals(all, index.prerank(JOBS, "golang kubernetes", all));
+
+        ReflectionTestUtils.setField(index, "prerankEnabled", false);
+        assertEquals(all, index.prerank(JOBS, "java spring 백엔드", all));
+    }
+
+    @Test
+    void sourceChangesUpdateIndexedDocuments() {
+        rebuild();
+
+        descriptions.remove(1L);
+        descriptions.put(3L, "Java Spring 백엔드 전환");
+        ReflectionTestUtils.invokeMethod(index, "apply", JOBS, List.of(1L, 3L));
+
+        long[] ids = index.search(JOBS, "spring 백엔드", 10, null).ids();
+        assertEquals(2, ids.length);
+        assertFalse(contains(ids, 1));
+        assertTrue(contains(ids, 3) && contains(ids, 5));
+        assertArrayEquals(new long[0], index.search(JOBS, "python django", 10, null).ids());
+    }
+
+    private void rebuild() {
+        ReflectionTestUtils.invokeMethod(index, "rebuild", JOBS);
+        assertTrue(index.isReady(JOBS));
+    }
+
+    private static boolean contains(long[] ids, long id) {
+        for (long candidate : ids) {
+            if (candidate == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private JobPostingRepository.MatchSourceView source(Long id) {
+        String description = descriptions.get(id);
+        return new JobPostingRepository.MatchSourceView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getPosition() {
+                return "개발자";
+            }
+
+            @Override
+            public String getRequiredSkills() {
+                return "";
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import com.jobbridge.jobbridge_backend.entity.Embedding;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 부분/대체 결과는 요청한 쪽에만 돌려주고 저장하지 않는지
+ */
+class MatchResultCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MatchResultCache cache = new MatchResultCache(registry, 100, Duration.ofMinutes(10));
+
+    @Test
+    void reusesCompleteResults() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            List<String> value = cache.get(MatchResultCache.Kind.JOBS, 1L, "v1", () -> {
+                loads.incrementAndGet();
+                return MatchResultCache.Result.of(List.of("a", "b"));
+            });
+            assertEquals(List.of("a", "b"), value);
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void recomputesDegradedResults() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            List<String> value = cache.get(MatchResultCache.Kind.JOBS, 1L, "v1", () -> {
+                loads.incrementAndGet();
+                return MatchResultCache.Result.degraded(List.of("partial"));
+            });
+            assertEquals(List.of("partial"), value);
+        }
+
+        assertEquals(3, loads.get());
+        assertEquals(0, cache.size());
+        assertEquals(3.0, registry.get("match.cache.uncached").tag("cache", "jobs").counter().count());
+    }
+
+    @Test
+    void degradedResultDoesNotReplaceCachedEntry() {
+        cache.get(MatchResultCache.Kind.RESUMES, 7L, "v1", () -> MatchResultCache.Result.of(List.of("full")));
+        cache.bump(Embedding.TargetType.RESUME);
+
+        List<String> degraded = cache.get(MatchResultCache.Kind.RESUMES, 7L, "v1",
+                () -> MatchResultCache.Result.degraded(List.of("bm25")));
+        List<String> next = cache.get(MatchResultCache.Kind.RESUMES, 7L, "v1",
+                () -> MatchResultCache.Result.of(List.of("recomputed")));
+
+        assertEquals(List.of("bm25"), degraded);
+        assertEquals(List.of("recomputed"), next);
+    }
+}
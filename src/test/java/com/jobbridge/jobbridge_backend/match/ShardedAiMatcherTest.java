@@ -0,0 +1,63 @@
+package com.jobbridge.jobbridge_backend.match;
+
+import com.jobbridge.jobbridge_backend.util.AiHttpClient;
+import com.jobbridge.jobbridge_backend.util.AiUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 샤드 대기열이 가득 차면 쌓지 않고 503 으로 거절하는지 (스레드 1개, 대기열 1칸)
+ */
+class ShardedAiMatcherTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AiHttpClient aiHttpClient = mock(AiHttpClient.class);
+    private final ShardedAiMatcher matcher = new ShardedAiMatcher(aiHttpClient, registry, 1, 1, Duration.ofSeconds(10), 1);
+
+    @AfterEach
+    void tearDown() {
+        matcher.shutdown();
+    }
+
+    @Test
+    void rejectsWhenShardQueueIsFull() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(aiHttpClient.getMatches(any(), any(), any())).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await();
+            return null;
+        });
+
+        // 유일한 스레드를 점유
+        CompletableFuture<TopK> busy = CompletableFuture.supplyAsync(
+                () -> matcher.match("java", List.of(1L), List.of("java"), 5));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        // 샤드 2개: 첫 번째는 대기열 1칸에 들어가고 두 번째에서 거절 → 넣었던 첫 번째도 취소
+        assertThrows(AiUnavailableException.class,
+                () -> matcher.match("java", List.of(2L, 3L), List.of("java", "spring"), 5));
+        assertEquals(2.0, registry.get("match.ai.shards").tag("result", "rejected").counter().count());
+
+        release.countDown();
+        assertEquals(0, busy.get(5, TimeUnit.SECONDS).size());
+        // 취소된 샤드는 스레드가 비어도 AI 서버로 보내지 않는다
+        verify(aiHttpClient, after(200).times(1)).getMatches(any(), any(), any());
+    }
+}
@@ -0,0 +1,200 @@
+package com.jobbridge.jobbridge_backend.service;
+
+import com.jobbridge.jobbridge_backend.dto.JobDto;
+import com.jobbridge.jobbridge_backend.entity.JobPosting;
+import com.jobbridge.jobbridge_backend.entity.Resume;
+import com.jobbridge.jobbridge_backend.entity.User;
+import com.jobbridge.jobbridge_backend.repository.JobPostingRepository;
+import com.jobbridge.jobbridge_backend.repository.MatchScoreRepository;
+import com.jobbridge.jobbridge_backend.repository.ResumeRepository;
+import com.jobbridge.jobbridge_backend.repository.UserRepository;
+import com.jobbridge.jobbridge_backend.util.AiHttpClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ai.match.protocol=content-addressed 로 AiStandInServer 를 상대로 매칭
+ * - 바뀌지 않은 공고는 두 번째 매칭부터 본문을 다시 올리지 않는다
+ * - AI 서버가 본문을 잃으면 (409) 잃은 본문만 한 번 다시 올리고 성공한다
+ * - ai.request.gzip 이면 AI 서버가 받는 바이트가 줄어든다
+ * 후보 전체가 요청 1건에 실리도록 샤드를 크게 둔다. 업로드 여부는 AiHttpClient 가 기억하는 해시에
+ * 달려 있으므로, 테스트마다 공고 본문에 고유한 단어를 넣어 이전 테스트의 본문과 겹치지 않게 한다.
+ */
+@SpringBootTest
+@ActiveProfiles("replay")
+class AiStandInContentAddressedTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AiStandInContentAddressedTest.class);
+
+    private static final AiStandInServer SERVER = AiStandInServer.start();
+    private static final int POSTINGS = 25;
+
+    private static int run;
+
+    @DynamicPropertySource
+    static void standInProperties(DynamicPropertyRegistry registry) {
+        registry.add("ai.base-url", SERVER::getBaseUrl);
+        registry.add("ai.match.protocol", () -> "content-addressed");
+        registry.add("match.shard.size", () -> 100);
+        registry.add("match.materialize.enabled", () -> false);
+        registry.add("match.cache.ttl", () -> "PT0S");
+    }
+
+    @Autowired
+    private JobMatchService jobMatchService;
+
+    @Autowired
+    private AiHttpClient aiHttpClient;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private MatchScoreRepository matchScoreRepository;
+
+    private User user;
+
+    @BeforeEach
+    void clean() {
+        SERVER.reset();
+        matchScoreRepository.deleteAllInBatch();
+        resumeRepository.deleteAllInBatch();
+        jobPostingRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        user = userRepository.save(User.builder()
+                .pw("stand-in")
+                .name("대역")
+                .email("content-addressed@example.com")
+                .userType(User.UserType.INDIVIDUAL)
+                .build());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.close();
+    }
+
+    @Test
+    void secondMatchAgainstUnchangedCorpusUploadsNothing() {
+        Corpus corpus = seed();
+
+        assertBest(corpus);
+        assertEquals(1, SERVER.getRequests("/api/texts/missing"));
+        assertEquals(1, SERVER.getRequests("/api/texts"));
+        assertEquals(POSTINGS, SERVER.getStoredTexts());
+        long missingBytes = SERVER.getBytesReceived("/api/texts/missing");
+        long uploadBytes = SERVER.getBytesReceived("/api/texts");
+        long firstMatchBytes = SERVER.getBytesReceived("/api/match/by-hash");
+        log.info("[content-addressed:첫 매칭] {}", SERVER.summary());
+
+        assertBest(corpus);
+
+        assertEquals(1, SERVER.getRequests("/api/texts/missing"));
+        assertEquals(1, SERVER.getRequests("/api/texts"));
+        assertEquals(missingBytes, SERVER.getBytesReceived("/api/texts/missing"));
+        assertEquals(uploadBytes, SERVER.getBytesReceived("/api/texts"));
+        assertEquals(2, SERVER.getRequests("/api/match/by-hash"));
+        // 두 번째 요청도 해시만 보낸다
+        assertEquals(2 * firstMatchBytes, SERVER.getBytesReceived("/api/match/by-hash"));
+        assertEquals(0, SERVER.getRequests("/api/match"));
+    }
+
+    @Test
+    void reuploadsLostTextsOnceAfterConflict() {
+        Corpus corpus = seed();
+        assertBest(corpus);
+        long uploadBytes = SERVER.getBytesReceived("/api/texts");
+
+        SERVER.loseTexts();
+        assertBest(corpus);
+
+        assertEquals(1, SERVER.getConflicts());
+        assertEquals(3, SERVER.getRequests("/api/match/by-hash"));
+        assertEquals(2, SERVER.getRequests("/api/texts"));
+        // 확인 요청 없이 409 응답에 담긴 본문만 다시 올린다
+        assertEquals(1, SERVER.getRequests("/api/texts/missing"));
+        assertEquals(2 * uploadBytes, SERVER.getBytesReceived("/api/texts"));
+        assertEquals(POSTINGS, SERVER.getStoredTexts());
+        log.info("[content-addressed:409] {}", SERVER.summary());
+    }
+
+    @Test
+    void gzipReducesBytesReceived() {
+        Corpus plain = seed();
+        assertBest(plain);
+        long plainUpload = SERVER.getBytesReceived("/api/texts");
+        long plainMatch = SERVER.getBytesReceived("/api/match/by-hash");
+
+        ReflectionTestUtils.setField(aiHttpClient, "gzipRequests", true);
+        try {
+            clean();
+            Corpus gzipped = seed();
+            assertBest(gzipped);
+
+            long gzipUpload = SERVER.getBytesReceived("/api/texts");
+            long gzipMatch = SERVER.getBytesReceived("/api/match/by-hash");
+            log.info("[content-addressed:gzip] 업로드 {}B → {}B, 매칭 {}B → {}B",
+                    plainUpload, gzipUpload, plainMatch, gzipMatch);
+            assertEquals(POSTINGS, SERVER.getStoredTexts());
+            assertTrue(gzipUpload < plainUpload, "업로드 " + plainUpload + "B → " + gzipUpload + "B");
+            assertTrue(gzipMatch < plainMatch, "매칭 " + plainMatch + "B → " + gzipMatch + "B");
+        } finally {
+            ReflectionTestUtils.setField(aiHttpClient, "gzipRequests", false);
+        }
+    }
+
+    private Corpus seed() {
+        String marker = "run" + (++run);
+        Resume resume = resumeRepository.save(Resume.builder()
+                .title("백엔드 이력서 " + marker)
+                .content("Java Spring Boot JPA MySQL 백엔드 개발 3년")
+                .user(user)
+                .build());
+        List<JobPosting> postings = new ArrayList<>();
+        postings.add(posting("백엔드 개발자", "Java Spring Boot JPA 백엔드 개발자 채용 " + marker, "Java, Spring"));
+        for (int i = 1; i < POSTINGS; i++) {
+            postings.add(posting("공고 " + i,
+                    "Python Django 데이터 분석 " + i + " Docker Kubernetes " + marker, "Python"));
+        }
+        return new Corpus(resume, jobPostingRepository.saveAll(postings).get(0));
+    }
+
+    private void assertBest(Corpus corpus) {
+        List<JobDto.Response> jobs = jobMatchService.findTopMatchingJobs(corpus.resume().getId());
+        assertEquals(corpus.best().getId(), jobs.get(0).getId());
+    }
+
+    private static JobPosting posting(String title, String description, String skills) {
+        return JobPosting.builder()
+                .title(title)
+                .description(description)
+                .position(title)
+                .requiredSkills(skills)
+                .source("USER")
+                .build();
+    }
+
+    private record Corpus(Resume resume, JobPosting best) {
+    }
+}
@@ -0,0 +1,273 @@
+package com.jobbridge.jobbridge_backend.service;
+
+import com.jobbridge.jobbridge_backend.dto.JobDto;
+import com.jobbridge.jobbridge_backend.dto.ResumeDto;
+import com.jobbridge.jobbridge_backend.entity.JobPosting;
+import com.jobbridge.jobbridge_backend.entity.MatchScore;
+import com.jobbridge.jobbridge_backend.entity.Resume;
+import com.jobbridge.jobbridge_backend.entity.User;
+import com.jobbridge.jobbridge_backend.repository.JobPostingRepository;
+import com.jobbridge.jobbridge_backend.repository.MatchScoreRepository;
+import com.jobbridge.jobbridge_backend.repository.ResumeRepository;
+import com.jobbridge.jobbridge_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AiStandInServer 를 AI 서버로 두고 매칭/경력 추천 서비스를 실행
+ * 점수가 결정적이므로 순위를 검증할 수 있고, 실행마다 엔드포인트별 요청 수/바이트를 기록한다.
+ * 후보 공고 수는 -Dstandin.postings 로 조절한다.
+ */
+@SpringBootTest
+@ActiveProfiles("replay")
+class AiStandInMatchTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AiStandInMatchTest.class);
+
+    private static final AiStandInServer SERVER = AiStandInServer.start();
+    private static final int POSTINGS = Integer.getInteger("standin.postings", 25);
+    private static final int SHARD_SIZE = 10;
+
+    private static final String RESUME_TEXT = "Java Spring Boot JPA MySQL 백엔드 개발 3년";
+    private static final String BEST_POSTING_TEXT = "Java Spring Boot JPA 백엔드 개발자 채용";
+
+    @DynamicPropertySource
+    static void standInProperties(DynamicPropertyRegistry registry) {
+        registry.add("ai.base-url", SERVER::getBaseUrl);
+        registry.add("match.shard.size", () -> SHARD_SIZE);
+        // 저장된 목록/캐시 없이 매번 AI 서버 경로를 타게 한다
+        registry.add("match.materialize.enabled", () -> false);
+        registry.add("match.cache.ttl", () -> "PT0S");
+    }
+
+    @Autowired
+    private JobMatchService jobMatchService;
+
+    @Autowired
+    private ResumeMatchService resumeMatchService;
+
+    @Autowired
+    private CareerRecommendationService careerRecommendationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private MatchScoreRepository matchScoreRepository;
+
+    private Resume resume;
+    private JobPosting bestPosting;
+
+    @BeforeEach
+    void seed() {
+        SERVER.reset();
+        matchScoreRepository.deleteAllInBatch();
+        resumeRepository.deleteAllInBatch();
+        jobPostingRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+
+        User user = userRepository.save(User.builder()
+                .pw("stand-in")
+                .name("대역")
+                .email("stand-in@example.com")
+                .userType(User.UserType.INDIVIDUAL)
+                .build());
+        resume = resumeRepository.save(Resume.builder()
+                .title("백엔드 이력서")
+                .content(RESUME_TEXT)
+                .user(user)
+                .build());
+        resumeRepository.save(Resume.builder()
+                .title("디자인 이력서")
+                .content("Figma Photoshop UI 디자인")
+                .user(user)
+                .build());
+
+        List<JobPosting> postings = new ArrayList<>();
+        postings.add(posting("백엔드 개발자", BEST_POSTING_TEXT, "Java, Spring"));
+        for (int i = 1; i < POSTINGS; i++) {
+            postings.add(posting("공고 " + i, "Python Django 데이터 분석 " + i + " Docker Kubernetes", "Python"));
+        }
+        bestPosting = jobPostingRepository.saveAll(postings).get(0);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.close();
+    }
+
+    @Test
+    void ranksJobsByStandInScores() {
+        List<JobDto.Response> jobs = jobMatchService.findTopMatchingJobs(resume.getId());
+
+        assertEquals(5, jobs.size());
+        assertEquals(bestPosting.getId(), jobs.get(0).getId());
+        assertTrue(SERVER.getRequests("/api/match") >= (POSTINGS + SHARD_SIZE - 1) / SHARD_SIZE);
+        log.info("[AI 대역:jobs] {}", SERVER.summary());
+    }
+
+    @Test
+    void ranksResumesByStandInScores() {
+        List<ResumeDto.Response> resumes = resumeMatchService.findTopMatchingResumes(bestPosting.getId());
+
+        assertEquals(2, resumes.size());
+        assertEquals(resume.getId(), resumes.get(0).getId());
+        log.info("[AI 대역:resumes] {}", SERVER.summary());
+    }
+
+    @Test
+    void ranksJobsByStandInScoresNonBlocking() {
+        List<JobDto.Response> jobs = jobMatchService.findTopMatchingJobsNonBlocking(resume.getId()).join();
+
+        assertEquals(5, jobs.size());
+        assertEquals(bestPosting.getId(), jobs.get(0).getId());
+        assertTrue(SERVER.getRequests("/api/match") >= (POSTINGS + SHARD_SIZE - 1) / SHARD_SIZE);
+        log.info("[AI 대역:jobs 논블로킹] {}", SERVER.summary());
+    }
+
+    @Test
+    void ranksResumesByStandInScoresNonBlocking() {
+        List<ResumeDto.Response> resumes = resumeMatchService.findTopMatchingResumesNonBlocking(bestPosting.getId()).join();
+
+        assertEquals(2, resumes.size());
+        assertEquals(resume.getId(), resumes.get(0).getId());
+        log.info("[AI 대역:resumes 논블로킹] {}", SERVER.summary());
+    }
+
+    @Test
+    void filtersMaterializedJobsByCandidateRules() {
+        Resume threeYears = resumeRepository.save(Resume.builder()
+                .title("백엔드 3년차")
+                .content("경력 3년 " + RESUME_TEXT)
+                .user(resume.getUser())
+                .build());
+        JobPosting expired = jobPostingRepository.save(JobPosting.builder()
+                .title("마감된 공고").description(BEST_POSTING_TEXT).position("백엔드").requiredSkills("Java")
+                .deadline(LocalDateTime.now().minusDays(1)).source("USER").build());
+        JobPosting offBand = jobPostingRepository.save(JobPosting.builder()
+                .title("시니어 공고").description(BEST_POSTING_TEXT).position("백엔드").requiredSkills("Java")
+                .experienceLevel("경력 10년 이상").source("USER").build());
+        LocalDateTime computedAt = LocalDateTime.now().plusMinutes(1);
+        matchScoreRepository.saveAll(List.of(
+                materialized(threeYears, expired, 0.9, computedAt),
+                materialized(threeYears, offBand, 0.8, computedAt),
+                materialized(threeYears, bestPosting, 0.7, computedAt)));
+
+        List<JobDto.Response> jobs = jobMatchService.findTopMatchingJobs(threeYears.getId());
+
+        assertEquals(List.of(bestPosting.getId()), jobs.stream().map(JobDto.Response::getId).toList());
+        assertEquals(0, SERVER.getRequests("/api/match"));
+    }
+
+    @Test
+    void recommendsCareerPath() {
+        JobPosting other = jobPostingRepository.findAll().stream()
+                .filter(p -> !p.getId().equals(bestPosting.getId()))
+                .findFirst()
+                .orElseThrow();
+
+        List<String> path = careerRecommendationService.getRecommendationPath(resume.getId(), other.getId());
+
+        assertFalse(path.isEmpty());
+        assertEquals(1, SERVER.getRequests("/api/career-path"));
+    }
+
+    @Test
+    void recommendsCareerPathNonBlocking() {
+        JobPosting other = jobPostingRepository.findAll().stream()
+                .filter(p -> !p.getId().equals(bestPosting.getId()))
+                .findFirst()
+                .orElseThrow();
+
+        List<String> path = careerRecommendationService.getRecommendationPathAsync(resume.getId(), other.getId()).join();
+
+        assertFalse(path.isEmpty());
+        assertEquals(1, SERVER.getRequests("/api/career-path"));
+        // 없는 대상은 호출 스레드에서 던지지 않고 실패한 future 로 전달
+        CompletableFuture<List<String>> missing = careerRecommendationService.getRecommendationPathAsync(-1L, other.getId());
+        CompletionException error = assertThrows(CompletionException.class, missing::join);
+        assertInstanceOf(IllegalArgumentException.class, error.getCause());
+        assertEquals(1, SERVER.getRequests("/api/career-path"));
+    }
+
+    @Test
+    void retriesServerErrorsThenFails() {
+        SERVER.errorRate(1.0);
+
+        assertThrows(RuntimeException.class,
+                () -> careerRecommendationService.getRecommendationPath(resume.getId(), bestPosting.getId()));
+        // 기본 ai.retry.max-attempts=3
+        assertEquals(3, SERVER.getErrors());
+    }
+
+    @Test
+    void retriesDroppedConnectionsThenFails() {
+        SERVER.dropRate(1.0);
+
+        assertThrows(RuntimeException.class,
+                () -> careerRecommendationService.getRecommendationPath(resume.getId(), bestPosting.getId()));
+        assertEquals(3, SERVER.getDropped());
+    }
+
+    @Test
+    void reusesPoolAfterThrottledResponses() {
+        SERVER.tooManyRequestsRate(1.0, 0);
+        assertThrows(RuntimeException.class,
+                () -> careerRecommendationService.getRecommendationPath(resume.getId(), bestPosting.getId()));
+        long throttled = SERVER.getThrottled();
+        assertTrue(throttled >= 3);
+
+        // 본문 없는 429 가 이어진 뒤에도 같은 풀로 정상 호출된다
+        SERVER.tooManyRequestsRate(0, 0);
+        List<String> path = careerRecommendationService.getRecommendationPath(resume.getId(), bestPosting.getId());
+
+        assertFalse(path.isEmpty());
+        assertEquals(throttled + 1, SERVER.getRequests("/api/career-path"));
+    }
+
+    private static MatchScore materialized(Resume subject, JobPosting candidate, double score, LocalDateTime computedAt) {
+        return MatchScore.builder()
+                .direction(MatchScore.Direction.RESUME_TO_JOB)
+                .subjectId(subject.getId())
+                .candidateId(candidate.getId())
+                .score(score)
+                .computedAt(computedAt)
+                .build();
+    }
+
+    private static JobPosting posting(String title, String description, String skills) {
+        return JobPosting.builder()
+                .title(title)
+                .description(description)
+                .position(title)
+                .requiredSkills(skills)
+                .source("USER")
+                .build();
+    }
+}
@@ -0,0 +1,495 @@
+package com.jobbridge.jobbridge_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Python AI 서버(ai.base-url) 대신 쓰는 로컬 HTTP 서버
+ * AI 서버 없이 매칭/경력 추천 경로를 부하 측정하고 CI 에서 검증하기 위한 테스트 전용 대역.
+ *
+ * - /api/match, /api/match/by-hash: 단어 빈도 코사인 유사도 (0~1, 같은 입력이면 항상 같은 점수)
+ * - /api/texts/missing, /api/texts: content-addressed 프로토콜용 본문 저장소 (loseTexts 로 409 재현)
+ * - /api/career-path: 공고에는 있고 이력서에는 없는 단어로 추천 문장 생성
+ * - /api/embed: 단어 해시 기반 정규화 벡터 (embedDimension 차원)
+ * - 지연: 고정 + 0~jitter 균등 + 후보 1건당 추가 지연, slowRate 비율로 느린 꼬리 지연
+ * - 오류: 500 비율, 429 비율(Retry-After 포함), 응답 없이 연결 끊기 비율
+ * - 엔드포인트별 요청 수, 받은/보낸 바이트 (받은 바이트는 전송된 그대로, gzip 이면 압축된 크기), 최대 동시 처리 수
+ */
+public class AiStandInServer implements AutoCloseable {
+
+    private static final String[] ENDPOINTS = {
+            "/api/match", "/api/match/by-hash", "/api/texts/missing", "/api/texts", "/api/career-path", "/api/embed"
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "ai-stand-in");
+        t.setDaemon(true);
+        return t;
+    });
+    private final Map<String, String> texts = new ConcurrentHashMap<>();
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile Duration jitter = Duration.ZERO;
+    private volatile Duration perCandidate = Duration.ZERO;
+    private volatile double slowRate;
+    private volatile Duration slowLatency = Duration.ZERO;
+    private volatile double errorRate;
+    private volatile double tooManyRequestsRate;
+    private volatile int retryAfterSeconds = 1;
+    private volatile double dropRate;
+    private volatile int embedDimension = 64;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private AiStandInServer() throws IOException {
+        // 기본 backlog(50)면 동시 연결이 몰릴 때 나머지는 재시도 후에야 연결된다
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        for (String endpoint : ENDPOINTS) {
+            stats.put(endpoint, new Stats());
+        }
+        // 경로 접두어가 겹치므로 정확히 일치하는 경로만 처리
+        this.server.createContext("/api/", this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    /**
+     * 임의 포트로 서버 시작
+     */
+    public static AiStandInServer start() {
+        try {
+            AiStandInServer standIn = new AiStandInServer();
+            standIn.server.start();
+            return standIn;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public AiStandInServer latency(Duration latency, Duration jitter) {
+        this.latency = latency;
+        this.jitter = jitter;
+        return this;
+    }
+
+    /**
+     * 요청에 담긴 후보 1건마다 추가되는 지연 (요청 크기에 비례하는 AI 서버 계산 시간)
+     */
+    public AiStandInServer latencyPerCandidate(Duration perCandidate) {
+        this.perCandidate = perCandidate;
+        return this;
+    }
+
+    /**
+     * rate 비율의 요청은 latency 대신 slowLatency 만큼 지연 (p99 꼬리 재현)
+     */
+    public AiStandInServer slowTail(double rate, Duration slowLatency) {
+        this.slowRate = rate;
+        this.slowLatency = slowLatency;
+        return this;
+    }
+
+    public AiStandInServer errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    public AiStandInServer tooManyRequestsRate(double rate, int retryAfterSeconds) {
+        this.tooManyRequestsRate = rate;
+        this.retryAfterSeconds = retryAfterSeconds;
+        return this;
+    }
+
+    /**
+     * rate 비율의 요청은 응답 없이 연결을 끊는다 (클라이언트에는 I/O 오류)
+     */
+    public AiStandInServer dropRate(double rate) {
+        this.dropRate = rate;
+        return this;
+    }
+
+    public AiStandInServer embedDimension(int dimension) {
+        this.embedDimension = dimension;
+        return this;
+    }
+
+    /**
+     * 업로드된 본문을 모두 잊는다 (AI 서버 재시작 → /api/match/by-hash 가 409 응답)
+     */
+    public void loseTexts() {
+        texts.clear();
+    }
+
+    /**
+     * 지연/장애 설정, 저장된 본문, 요청 통계 초기화
+     */
+    public void reset() {
+        latency = Duration.ZERO;
+        jitter = Duration.ZERO;
+        perCandidate = Duration.ZERO;
+        slowRate = 0;
+        slowLatency = Duration.ZERO;
+        errorRate = 0;
+        tooManyRequestsRate = 0;
+        dropRate = 0;
+        texts.clear();
+        requests.set(0);
+        errors.set(0);
+        throttled.set(0);
+        dropped.set(0);
+        conflicts.set(0);
+        maxInFlight.set(0);
+        stats.values().forEach(Stats::reset);
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getRequests(String endpoint) {
+        return stats(endpoint).requests.get();
+    }
+
+    public long getBytesReceived(String endpoint) {
+        return stats(endpoint).bytesReceived.get();
+    }
+
+    public long getBytesSent(String endpoint) {
+        return stats(endpoint).bytesSent.get();
+    }
+
+    public long getCandidates(String endpoint) {
+        return stats(endpoint).candidates.get();
+    }
+
+    public long getErrors() {
+        return errors.get();
+    }
+
+    public long getThrottled() {
+        return throttled.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public long getConflicts() {
+        return conflicts.get();
+    }
+
+    /**
+     * reset 이후 동시에 처리 중이던 요청 수의 최댓값
+     */
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    public int getStoredTexts() {
+        return texts.size();
+    }
+
+    /**
+     * 엔드포인트별 요청 수와 바이트 요약 (요청이 있었던 것만)
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        stats.forEach((endpoint, s) -> {
+            long count = s.requests.get();
+            if (count == 0) {
+                return;
+            }
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(String.format("%s 요청=%d 후보=%d 받음=%dB(건당 %dB) 보냄=%dB",
+                    endpoint, count, s.candidates.get(), s.bytesReceived.get(),
+                    s.bytesReceived.get() / count, s.bytesSent.get()));
+        });
+        return sb.toString();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private Stats stats(String endpoint) {
+        Stats s = stats.get(endpoint);
+        if (s == null) {
+            throw new IllegalArgumentException("알 수 없는 엔드포인트: " + endpoint);
+        }
+        return s;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            Stats s = stats.get(path);
+            if (s == null || !"POST".equals(exchange.getRequestMethod())) {
+                sendEmpty(exchange, 404);
+                return;
+            }
+            requests.incrementAndGet();
+            s.requests.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                process(exchange, path, s);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private void process(HttpExchange exchange, String path, Stats s) throws IOException {
+        byte[] raw = exchange.getRequestBody().readAllBytes();
+        s.bytesReceived.addAndGet(raw.length);
+        JsonNode request = objectMapper.readTree(decode(exchange, raw));
+        int candidates = request.path("job_listings").size() + request.path("job_hashes").size()
+                + request.path("texts").size();
+        s.candidates.addAndGet(candidates);
+
+        sleep(candidates);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < dropRate) {
+            dropped.incrementAndGet();
+            return; // 응답 헤더를 보내지 않고 닫으면 연결이 끊긴다
+        }
+        if (random.nextDouble() < tooManyRequestsRate) {
+            throttled.incrementAndGet();
+            exchange.getResponseHeaders().set("Retry-After", String.valueOf(retryAfterSeconds));
+            sendEmpty(exchange, 429);
+            return;
+        }
+        if (random.nextDouble() < errorRate) {
+            errors.incrementAndGet();
+            respond(exchange, s, 500, Map.of("error", "injected failure"));
+            return;
+        }
+
+        switch (path) {
+            case "/api/match" -> respond(exchange, s, 200,
+                    match(request.path("resume").asText(), strings(request.path("job_listings")),
+                            request.path("job_ids")));
+            case "/api/match/by-hash" -> matchByHash(exchange, s, request);
+            case "/api/texts/missing" -> {
+                List<String> missing = new ArrayList<>();
+                for (String hash : strings(request.path("hashes"))) {
+                    if (!texts.containsKey(hash)) {
+                        missing.add(hash);
+                    }
+                }
+                respond(exchange, s, 200, Map.of("missing", missing));
+            }
+            case "/api/texts" -> {
+                request.path("texts").fields().forEachRemaining(e -> texts.put(e.getKey(), e.getValue().asText()));
+                respond(exchange, s, 200, Map.of("stored", request.path("texts").size()));
+            }
+            case "/api/career-path" -> respond(exchange, s, 200, Map.of("recommendations",
+                    careerPath(request.path("resume").asText(), request.path("job_description").asText())));
+            case "/api/embed" -> {
+                List<float[]> embeddings = new ArrayList<>();
+                for (String text : strings(request.path("texts"))) {
+                    embeddings.add(embed(text));
+                }
+                respond(exchange, s, 200, Map.of("embeddings", embeddings));
+            }
+            default -> sendEmpty(exchange, 404);
+        }
+    }
+
+    private void matchByHash(HttpExchange exchange, Stats s, JsonNode request) throws IOException {
+        List<String> hashes = strings(request.path("job_hashes"));
+        Set<String> missing = new LinkedHashSet<>();
+        List<String> listings = new ArrayList<>(hashes.size());
+        for (String hash : hashes) {
+            String text = texts.get(hash);
+            if (text == null) {
+                missing.add(hash);
+            }
+            listings.add(text);
+        }
+        if (!missing.isEmpty()) {
+            conflicts.incrementAndGet();
+            respond(exchange, s, 409, Map.of("missing", missing));
+            return;
+        }
+        respond(exchange, s, 200, match(request.path("resume").asText(), listings, request.path("job_ids")));
+    }
+
+    private Map<String, Object> match(String subject, List<String> listings, JsonNode ids) {
+        Map<String, Integer> query = termCounts(subject);
+        List<Map<String, Object>> results = new ArrayList<>(listings.size());
+        for (int i = 0; i < listings.size() && i < ids.size(); i++) {
+            results.add(Map.of("job_id", ids.get(i).asLong(), "score", cosine(query, termCounts(listings.get(i)))));
+        }
+        return Map.of("results", results);
+    }
+
+    // 공고에 나오지만 이력서에는 없는 단어 (등장 순서대로 최대 5개)
+    private static List<String> careerPath(String resume, String jobDescription) {
+        Set<String> known = termCounts(resume).keySet();
+        List<String> recommendations = new ArrayList<>();
+        for (String term : termCounts(jobDescription).keySet()) {
+            if (recommendations.size() == 5) {
+                break;
+            }
+            if (!known.contains(term) && term.length() > 1) {
+                recommendations.add(term + " 역량 보완");
+            }
+        }
+        if (recommendations.isEmpty()) {
+            recommendations.add("현재 역량으로 지원 가능");
+        }
+        return recommendations;
+    }
+
+    private float[] embed(String text) {
+        float[] vector = new float[embedDimension];
+        termCounts(text).forEach((term, count) -> vector[Math.floorMod(term.hashCode(), vector.length)] += count);
+        double norm = 0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        if (norm > 0) {
+            float inv = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] *= inv;
+            }
+        }
+        return vector;
+    }
+
+    private static Map<String, Integer> termCounts(String text) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        if (text == null) {
+            return counts;
+        }
+        for (String term : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#]+")) {
+            if (!term.isEmpty()) {
+                counts.merge(term, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    private static double cosine(Map<String, Integer> a, Map<String, Integer> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        long dot = 0;
+        for (Map.Entry<String, Integer> e : a.entrySet()) {
+            dot += (long) e.getValue() * b.getOrDefault(e.getKey(), 0);
+        }
+        return dot / (Math.sqrt(sumOfSquares(a)) * Math.sqrt(sumOfSquares(b)));
+    }
+
+    private static long sumOfSquares(Map<String, Integer> counts) {
+        long sum = 0;
+        for (int c : counts.values()) {
+            sum += (long) c * c;
+        }
+        return sum;
+    }
+
+    private static List<String> strings(JsonNode array) {
+        List<String> values = new ArrayList<>(array.size());
+        array.forEach(node -> values.add(node.asText()));
+        return values;
+    }
+
+    private static byte[] decode(HttpExchange exchange, byte[] raw) throws IOException {
+        if (!"gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+            return raw;
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(raw))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private void respond(HttpExchange exchange, Stats s, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+        s.bytesSent.addAndGet(bytes.length);
+    }
+
+    // 본문 없는 응답 후 JDK HttpServer 는 연결을 닫으므로 클라이언트가 재사용하지 않도록 알린다
+    private static void sendEmpty(HttpExchange exchange, int status) throws IOException {
+        exchange.getResponseHeaders().set("Connection", "close");
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    private void sleep(int candidates) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long millis = random.nextDouble() < slowRate ? slowLatency.toMillis() : latency.toMillis();
+        if (!jitter.isZero()) {
+            millis += random.nextLong(jitter.toMillis() + 1);
+        }
+        millis += perCandidate.toMillis() * candidates;
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Stats {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong candidates = new AtomicLong();
+        private final AtomicLong bytesReceived = new AtomicLong();
+        private final AtomicLong bytesSent = new AtomicLong();
+
+        void reset() {
+            requests.set(0);
+            candidates.set(0);
+            bytesReceived.set(0);
+            bytesSent.set(0);
+        }
+    }
+}
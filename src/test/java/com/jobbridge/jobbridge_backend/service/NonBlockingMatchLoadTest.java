@@ -0,0 +1,171 @@
+package com.jobbridge.jobbridge_backend.service;
+
+import com.jobbridge.jobbridge_backend.dto.JobDto;
+import com.jobbridge.jobbridge_backend.entity.JobPosting;
+import com.jobbridge.jobbridge_backend.entity.Resume;
+import com.jobbridge.jobbridge_backend.entity.User;
+import com.jobbridge.jobbridge_backend.repository.JobPostingRepository;
+import com.jobbridge.jobbridge_backend.repository.MatchScoreRepository;
+import com.jobbridge.jobbridge_backend.repository.ResumeRepository;
+import com.jobbridge.jobbridge_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 느린 AI 대역을 상대로 논블로킹 매칭 500건을 동시에 보내도 스레드 수가 늘지 않는지
+ * (공고 10개라 샤드 하나, 요청당 AI 호출 한 번)
+ * 요청마다 다른 이력서라 MatchResultCache 에서 합쳐지지 않고 AI 호출도 500번이다.
+ * 대역 서버 자체의 스레드(ai-stand-in)는 세지 않는다.
+ */
+@SpringBootTest
+@ActiveProfiles("replay")
+class NonBlockingMatchLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(NonBlockingMatchLoadTest.class);
+
+    private static final AiStandInServer SERVER = AiStandInServer.start();
+    private static final int REQUESTS = 500;
+    private static final Duration AI_LATENCY = Duration.ofSeconds(2);
+
+    @DynamicPropertySource
+    static void standInProperties(DynamicPropertyRegistry registry) {
+        registry.add("ai.base-url", SERVER::getBaseUrl);
+        registry.add("match.cache.ttl", () -> "PT0S");
+        // 자리 배분/연결 수가 아니라 스레드 사용만 보도록 충분히 크게 둔다
+        registry.add("ai.scheduler.max-concurrent", () -> REQUESTS);
+        registry.add("ai.scheduler.interactive-max-wait", () -> "PT30S");
+        registry.add("http.client.ai.max-total", () -> REQUESTS);
+        registry.add("http.client.ai.max-per-route", () -> REQUESTS);
+        registry.add("http.client.ai.pool-wait", () -> "PT30S");
+    }
+
+    @Autowired
+    private JobMatchService jobMatchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private MatchScoreRepository matchScoreRepository;
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.close();
+    }
+
+    @Test
+    void threadCountStaysFlatUnderConcurrentMatches() throws Exception {
+        matchScoreRepository.deleteAllInBatch();
+        resumeRepository.deleteAllInBatch();
+        jobPostingRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+
+        User user = userRepository.save(User.builder()
+                .pw("stand-in")
+                .name("부하")
+                .email("load@example.com")
+                .userType(User.UserType.INDIVIDUAL)
+                .build());
+        JobPosting best = jobPostingRepository.save(posting("백엔드 개발자", "Java Spring Boot JPA 백엔드 개발자 채용"));
+        for (int i = 1; i < 10; i++) {
+            jobPostingRepository.save(posting("공고 " + i, "Python Django 데이터 분석 " + i));
+        }
+        List<Resume> resumes = new ArrayList<>(REQUESTS + 20);
+        for (int i = 0; i < REQUESTS + 20; i++) {
+            resumes.add(Resume.builder().title("이력서 " + i).content("Java Spring Boot 백엔드 " + i).user(user).build());
+        }
+        resumes = resumeRepository.saveAll(resumes);
+
+        // 풀 스레드가 미리 만들어지도록 몇 건 먼저 보낸다
+        SERVER.latency(Duration.ofMillis(50), Duration.ZERO);
+        List<CompletableFuture<List<JobDto.Response>>> warmUp = new ArrayList<>();
+        for (Resume resume : resumes.subList(REQUESTS, REQUESTS + 20)) {
+            warmUp.add(jobMatchService.findTopMatchingJobsNonBlocking(resume.getId()));
+        }
+        CompletableFuture.allOf(warmUp.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        SERVER.reset();
+        SERVER.latency(AI_LATENCY, Duration.ZERO);
+        int baseline = applicationThreads();
+        AtomicInteger peak = new AtomicInteger(baseline);
+        AtomicBoolean sampling = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (sampling.get()) {
+                peak.accumulateAndGet(applicationThreads(), Math::max);
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "thread-sampler");
+        sampler.start();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<List<JobDto.Response>>> futures = new ArrayList<>(REQUESTS);
+        for (Resume resume : resumes.subList(0, REQUESTS)) {
+            futures.add(jobMatchService.findTopMatchingJobsNonBlocking(resume.getId()));
+        }
+        long submitMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(120, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        sampling.set(false);
+        sampler.join();
+
+        for (CompletableFuture<List<JobDto.Response>> future : futures) {
+            assertEquals(best.getId(), future.join().get(0).getId());
+        }
+        log.info("[논블로킹 부하] 요청 {}건: 제출 {}ms, 완료 {}ms, AI 동시 처리 최대 {}, 스레드 {} → 최대 {}",
+                REQUESTS, submitMs, elapsedMs, SERVER.getMaxInFlight(), baseline, peak.get());
+
+        assertEquals(REQUESTS, SERVER.getRequests("/api/match"));
+        // 호출마다 스레드를 잡았다면 애플리케이션 스레드 수보다 많은 AI 호출이 동시에 떠 있을 수 없다
+        // (동시 처리 수 자체는 CPU 수에 따라 다르다: 준비 단계 처리량 x AI 지연)
+        assertTrue(SERVER.getMaxInFlight() > peak.get(), "AI 동시 처리 " + SERVER.getMaxInFlight() + ", 스레드 " + peak.get());
+        assertTrue(peak.get() - baseline <= 10, "스레드 " + baseline + " → " + peak.get());
+    }
+
+    private static int applicationThreads() {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (!thread.getName().startsWith("ai-stand-in") && !thread.getName().equals("thread-sampler")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static JobPosting posting(String title, String description) {
+        return JobPosting.builder()
+                .title(title)
+                .description(description)
+                .position(title)
+                .requiredSkills("Java")
+                .source("USER")
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.jobbridge.jobbridge_backend.service;
+
+import com.jobbridge.jobbridge_backend.repository.SchedulerLeaseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 여러 인스턴스가 같은 DB 로 scheduler_lease 를 다툴 때 한 노드만 실행되는지
+ * (인스턴스마다 owner 가 다른 SchedulerLeaseService 를 직접 만들어 흉내 낸다)
+ */
+@SpringBootTest
+@ActiveProfiles("replay")
+class SchedulerLeaseServiceTest {
+
+    private static final int NODES = 4;
+
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private ThreadPoolTaskScheduler renewer;
+
+    @BeforeEach
+    void setUp() {
+        schedulerLeaseRepository.deleteAllInBatch();
+        renewer = new ThreadPoolTaskScheduler();
+        renewer.setPoolSize(NODES);
+        renewer.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        renewer.shutdown();
+    }
+
+    @Test
+    void onlyOneNodeRunsANewLease() throws Exception {
+        ExecutorService nodes = Executors.newFixedThreadPool(NODES);
+        try {
+            for (int round = 0; round < 20; round++) {
+                String name = "race-" + round;
+                CountDownLatch start = new CountDownLatch(1);
+                AtomicInteger running = new AtomicInteger();
+                AtomicInteger maxRunning = new AtomicInteger();
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < NODES; i++) {
+                    SchedulerLeaseService node = new SchedulerLeaseService(schedulerLeaseRepository, transactionTemplate);
+                    results.add(nodes.submit(() -> {
+                        start.await();
+                        return node.runExclusively(name, Duration.ofSeconds(30), renewer, () -> {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            sleep(100);
+                            running.decrementAndGet();
+                        });
+                    }));
+                }
+                start.countDown();
+
+                int ran = 0;
+                for (Future<Boolean> result : results) {
+                    ran += result.get() ? 1 : 0;
+                }
+                assertEquals(1, maxRunning.get(), name);
+                assertTrue(ran >= 1, name);
+            }
+        } finally {
+            nodes.shutdownNow();
+        }
+    }
+
+    @Test
+    void stopsTheTaskWhenTheLeaseIsTakenOver() {
+        SchedulerLeaseService node = new SchedulerLeaseService(schedulerLeaseRepository, transactionTemplate);
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        boolean completed = node.runExclusively("takeover", Duration.ofMillis(300), renewer, () -> {
+            // 다른 노드가 락을 가져간 상황
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLeaseRepository.findById("takeover").orElseThrow().setOwner("other-node"));
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (System.nanoTime() < deadline) {
+                if (Thread.currentThread().isInterrupted()) {
+                    interrupted.set(true);
+                    return;
+                }
+                Thread.onSpinWait();
+            }
+        });
+
+        assertTrue(interrupted.get());
+        assertFalse(completed);
+        assertFalse(Thread.currentThread().isInterrupted());
+        assertEquals("other-node", schedulerLeaseRepository.findById("takeover").orElseThrow().getOwner());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
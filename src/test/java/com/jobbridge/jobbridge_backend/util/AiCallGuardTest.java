@@ -0,0 +1,128 @@
+package com.jobbridge.jobbridge_backend.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 재시도 규칙: 멱등 요청의 5xx 만 재시도하고, 비멱등 요청과 4xx 는 한 번만 보낸다
+ * 회로가 열리지 않도록 minCalls 를 크게 두고, 재시도 대기는 0 으로 둔다.
+ */
+class AiCallGuardTest {
+
+    private SimpleMeterRegistry registry;
+    private AiCallGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        AiRequestScheduler scheduler = new AiRequestScheduler(registry, 4, 2, 100,
+                Duration.ofSeconds(1), Duration.ofSeconds(1));
+        // 재시도 예산 10 (초당 적립은 테스트 동안 무시할 만큼 작게)
+        guard = new AiCallGuard(registry, scheduler, 100, 100, 0.5, Duration.ofSeconds(30), 3, 0, 0.001);
+        ReflectionTestUtils.setField(guard, "maxAttempts", 3);
+        ReflectionTestUtils.setField(guard, "baseDelay", Duration.ZERO);
+        ReflectionTestUtils.setField(guard, "maxDelay", Duration.ZERO);
+    }
+
+    @Test
+    void retriesIdempotentCallOnServerError() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = guard.call("match", true, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw serverError();
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+        assertEquals(2, registry.counter("ai.calls.retries", "operation", "match").count());
+    }
+
+    @Test
+    void doesNotRetryNonIdempotentCall() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(HttpServerErrorException.class, () -> guard.call("embed", false, () -> {
+            attempts.incrementAndGet();
+            throw serverError();
+        }));
+
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void doesNotRetryClientError() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(HttpClientErrorException.class, () -> guard.call("match", true, () -> {
+            attempts.incrementAndGet();
+            throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "bad", null, null, null);
+        }));
+
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void retriesIdempotentAsyncCallOnServerError() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = guard.callAsync("match", true, () ->
+                attempts.incrementAndGet() < 3
+                        ? CompletableFuture.failedFuture(serverError())
+                        : CompletableFuture.completedFuture("ok"));
+
+        assertEquals("ok", result.get(5, TimeUnit.SECONDS));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void doesNotRetryNonIdempotentAsyncCall() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = guard.callAsync("embed", false, () -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(serverError());
+        });
+
+        CompletionException error = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(HttpServerErrorException.class, error.getCause());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void stopsRetryingWhenBudgetRunsOut() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        // 호출마다 재시도 2회 -> 5번이면 예산 10 을 다 쓴다
+        for (int i = 0; i < 6; i++) {
+            assertThrows(HttpServerErrorException.class, () -> guard.call("match", true, () -> {
+                attempts.incrementAndGet();
+                throw serverError();
+            }));
+        }
+
+        assertEquals(5 * 3 + 1, attempts.get());
+        assertEquals(1, registry.counter("ai.retry.budget.exhausted").count());
+    }
+
+    private static HttpServerErrorException serverError() {
+        return HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "unavailable", null, null, null);
+    }
+}
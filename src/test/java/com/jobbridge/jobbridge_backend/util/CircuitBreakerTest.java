@@ -0,0 +1,156 @@
+package com.jobbridge.jobbridge_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 회로 차단기 상태 전환 (시계를 직접 움직여 시간 경과를 흉내 낸다)
+ */
+class CircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<String> transitions = new ArrayList<>();
+    private final CircuitBreaker breaker = new CircuitBreaker(10, 4, 0.5, OPEN_DURATION, 2,
+            clock::get, (from, to) -> transitions.add(from + "->" + to));
+
+    @Test
+    void staysClosedUntilMinCallsAreRecorded() {
+        for (int i = 0; i < 3; i++) {
+            fail();
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        fail();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(List.of("CLOSED->OPEN"), transitions);
+    }
+
+    @Test
+    void opensAtFailureRateOverTheWindow() {
+        succeed();
+        succeed();
+        succeed();
+        fail();
+        succeed();
+        // 5건 중 실패 1건
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        fail();
+        fail();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        // 8건 중 실패 4건 = 50%
+        fail();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void oldOutcomesSlideOutOfTheWindow() {
+        for (int i = 0; i < 10; i++) {
+            succeed();
+        }
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        // 최근 10건 중 실패 4건
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        fail();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void rejectsWhileOpenThenLetsProbesThroughAfterOpenDuration() {
+        trip();
+
+        clock.addAndGet(OPEN_DURATION.toNanos() - 1);
+        assertFalse(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        clock.addAndGet(1);
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+    }
+
+    @Test
+    void limitsConcurrentProbesWhileHalfOpen() {
+        trip();
+        clock.addAndGet(OPEN_DURATION.toNanos());
+
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        // 4xx 등 서버 상태와 무관한 결과는 시험 호출 자리만 돌려준다
+        breaker.onIgnored();
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void closesAfterAllProbesSucceed() {
+        trip();
+        clock.addAndGet(OPEN_DURATION.toNanos());
+
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        breaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), transitions);
+        // 닫히면 이전 실패 기록 없이 다시 minCalls 부터 센다
+        fail();
+        fail();
+        fail();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void reopensOnProbeFailureForAnotherOpenDuration() {
+        trip();
+        clock.addAndGet(OPEN_DURATION.toNanos());
+
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN"), transitions);
+        clock.addAndGet(OPEN_DURATION.toNanos() - 1);
+        assertFalse(breaker.tryAcquire());
+        clock.addAndGet(1);
+        assertTrue(breaker.tryAcquire());
+    }
+
+    private void trip() {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    private void succeed() {
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+    }
+
+    private void fail() {
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+    }
+}
@@ -0,0 +1,165 @@
+package com.jobbridge.jobbridge_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 등급 우선순위, BACKGROUND 상한, 사용자별 순환, 취소/반납 순서
+ * 시계를 직접 움직여 Listener 가 받는 대기 시간도 확인한다.
+ */
+class FairSchedulerTest {
+
+    private static final AiRequestContext.Priority INTERACTIVE = AiRequestContext.Priority.INTERACTIVE;
+    private static final AiRequestContext.Priority BACKGROUND = AiRequestContext.Priority.BACKGROUND;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<String> grants = new ArrayList<>();
+    // 자리 2, BACKGROUND 최대 1, 대기열 4
+    private final FairScheduler scheduler = new FairScheduler(2, 1, 4, clock::get,
+            (priority, waited) -> grants.add(priority + ":" + waited));
+
+    @Test
+    void grantsImmediatelyWhileSlotsAreFree() {
+        FairScheduler.Ticket first = scheduler.acquire(AiRequestContext.interactive("a"));
+        FairScheduler.Ticket second = scheduler.acquire(AiRequestContext.interactive("b"));
+        FairScheduler.Ticket third = scheduler.acquire(AiRequestContext.interactive("c"));
+
+        assertTrue(first.granted.isDone());
+        assertTrue(second.granted.isDone());
+        assertFalse(third.granted.isDone());
+        assertEquals(2, scheduler.running(INTERACTIVE));
+        assertEquals(1, scheduler.queued(INTERACTIVE));
+        assertEquals(List.of("INTERACTIVE:0", "INTERACTIVE:0"), grants);
+    }
+
+    @Test
+    void interactiveGoesAheadOfQueuedBackground() {
+        scheduler.acquire(AiRequestContext.interactive("a"));
+        scheduler.acquire(AiRequestContext.interactive("a"));
+        FairScheduler.Ticket background = scheduler.acquire(AiRequestContext.background("backfill"));
+        clock.addAndGet(5);
+        FairScheduler.Ticket interactive = scheduler.acquire(AiRequestContext.interactive("b"));
+        clock.addAndGet(10);
+
+        scheduler.release(INTERACTIVE);
+
+        assertTrue(interactive.granted.isDone());
+        assertFalse(background.granted.isDone());
+
+        scheduler.release(INTERACTIVE);
+
+        assertTrue(background.granted.isDone());
+        assertEquals(List.of("INTERACTIVE:0", "INTERACTIVE:0", "INTERACTIVE:10", "BACKGROUND:15"), grants);
+    }
+
+    @Test
+    void backgroundNeverTakesMoreThanBackgroundMax() {
+        FairScheduler.Ticket first = scheduler.acquire(AiRequestContext.background("backfill"));
+        FairScheduler.Ticket second = scheduler.acquire(AiRequestContext.background("backfill"));
+
+        assertTrue(first.granted.isDone());
+        assertFalse(second.granted.isDone());
+        assertEquals(1, scheduler.running(BACKGROUND));
+
+        // 남은 자리는 INTERACTIVE 몫
+        FairScheduler.Ticket interactive = scheduler.acquire(AiRequestContext.interactive("a"));
+        assertTrue(interactive.granted.isDone());
+
+        scheduler.release(INTERACTIVE);
+        assertFalse(second.granted.isDone());
+
+        scheduler.release(BACKGROUND);
+        assertTrue(second.granted.isDone());
+        assertEquals(1, scheduler.running(BACKGROUND));
+    }
+
+    @Test
+    void roundRobinsOwnersWithinAClass() {
+        scheduler.acquire(AiRequestContext.interactive("x"));
+        scheduler.acquire(AiRequestContext.interactive("x"));
+        FairScheduler.Ticket a1 = scheduler.acquire(AiRequestContext.interactive("a"));
+        FairScheduler.Ticket a2 = scheduler.acquire(AiRequestContext.interactive("a"));
+        FairScheduler.Ticket a3 = scheduler.acquire(AiRequestContext.interactive("a"));
+        FairScheduler.Ticket b1 = scheduler.acquire(AiRequestContext.interactive("b"));
+
+        List<FairScheduler.Ticket> order = new ArrayList<>();
+        for (FairScheduler.Ticket ticket : List.of(a1, a2, a3, b1)) {
+            ticket.granted.thenRun(() -> order.add(ticket));
+        }
+        for (int i = 0; i < 4; i++) {
+            scheduler.release(INTERACTIVE);
+        }
+
+        // a 가 먼저 몰아 넣었어도 b 가 a 의 두 번째보다 앞선다
+        assertEquals(List.of(a1, b1, a2, a3), order);
+    }
+
+    @Test
+    void cancelRemovesQueuedTicketButNotGrantedOne() {
+        FairScheduler.Ticket granted = scheduler.acquire(AiRequestContext.interactive("a"));
+        scheduler.acquire(AiRequestContext.interactive("a"));
+        FairScheduler.Ticket queued = scheduler.acquire(AiRequestContext.interactive("b"));
+        FairScheduler.Ticket next = scheduler.acquire(AiRequestContext.interactive("c"));
+
+        assertFalse(scheduler.cancel(granted));
+        assertTrue(scheduler.cancel(queued));
+        assertFalse(scheduler.cancel(queued));
+        assertEquals(1, scheduler.queued(INTERACTIVE));
+
+        scheduler.release(INTERACTIVE);
+
+        assertFalse(queued.granted.isDone());
+        assertTrue(next.granted.isDone());
+    }
+
+    @Test
+    void returnsNullWhenQueueIsFull() {
+        scheduler.acquire(AiRequestContext.interactive("a"));
+        scheduler.acquire(AiRequestContext.interactive("a"));
+        List<FairScheduler.Ticket> queued = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            queued.add(scheduler.acquire(AiRequestContext.interactive("u" + i)));
+        }
+
+        assertNull(scheduler.acquire(AiRequestContext.interactive("late")));
+        assertNull(scheduler.acquire(AiRequestContext.background("backfill")));
+
+        // 취소로 빈 대기 자리는 다시 받는다
+        assertTrue(scheduler.cancel(queued.get(0)));
+        assertNotNull(scheduler.acquire(AiRequestContext.interactive("late")));
+    }
+
+    @Test
+    void releaseGrantsQueuedTicketsInOrder() {
+        scheduler.acquire(AiRequestContext.interactive("a"));
+        scheduler.acquire(AiRequestContext.interactive("b"));
+        List<FairScheduler.Ticket> queued = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            clock.addAndGet(1);
+            queued.add(scheduler.acquire(AiRequestContext.interactive("u" + i)));
+        }
+        clock.addAndGet(10);
+
+        scheduler.release(INTERACTIVE);
+        assertTrue(queued.get(0).granted.isDone());
+        assertFalse(queued.get(1).granted.isDone());
+
+        scheduler.release(INTERACTIVE);
+        scheduler.release(INTERACTIVE);
+        assertTrue(queued.get(1).granted.isDone());
+        assertTrue(queued.get(2).granted.isDone());
+        assertEquals(2, scheduler.running(INTERACTIVE));
+        assertEquals(0, scheduler.queued(INTERACTIVE));
+        assertEquals(List.of("INTERACTIVE:0", "INTERACTIVE:0", "INTERACTIVE:12", "INTERACTIVE:11", "INTERACTIVE:10"),
+                grants);
+    }
+}
@@ -0,0 +1,73 @@
+package com.jobbridge.jobbridge_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 원티드 상세 본문 조각(JSON-LD description / JobDescription span) 형태의 HTML 변환
+ */
+class HtmlTextConverterTest {
+
+    @Test
+    void convertsBreaksAndBulletsInDescriptionSpan() {
+        String html = "<span>• 대규모 트래픽을 처리하는 결제/송금 서버 설계 및 개발<br>"
+                + "• MSA 기반 도메인 서비스 운영 &amp; 장애 대응<BR/>"
+                + "• Kafka, Redis 를 활용한 비동기 처리 구조 개선<br /></span>";
+
+        assertEquals("• 대규모 트래픽을 처리하는 결제/송금 서버 설계 및 개발\n"
+                        + "• MSA 기반 도메인 서비스 운영 & 장애 대응\n"
+                        + "• Kafka, Redis 를 활용한 비동기 처리 구조 개선",
+                HtmlTextConverter.toText(html));
+    }
+
+    @Test
+    void flattensNestedLists() {
+        String html = "<h3>자격요건</h3>"
+                + "<ul>"
+                + "<li>Java 또는 Kotlin 기반 Spring 개발 경험"
+                + "<ul><li>JPA/Hibernate</li><li class=\"sub\">Spring Batch</li></ul>"
+                + "</li>"
+                + "<li><strong>RDBMS(MySQL)</strong> 설계 및 쿼리 튜닝 경험</li>"
+                + "</ul>";
+
+        assertEquals("자격요건"
+                        + "• Java 또는 Kotlin 기반 Spring 개발 경험"
+                        + "• JPA/Hibernate\n"
+                        + "• Spring Batch\n"
+                        + "\n"
+                        + "• RDBMS(MySQL) 설계 및 쿼리 튜닝 경험",
+                HtmlTextConverter.toText(html));
+    }
+
+    @Test
+    void decodesNamedAndNumericEntities() {
+        String html = "&lt;코드 리뷰&gt; 문화&nbsp;&middot; 연봉 5,000&#8361;&#x2191; "
+                + "&quot;MacBook Pro&quot; &#39;모니터&#39; &copy;토스 &unknown; & 기타";
+
+        assertEquals("<코드 리뷰> 문화 · 연봉 5,000₩↑ \"MacBook Pro\" '모니터' ©토스 &unknown; & 기타",
+                HtmlTextConverter.toText(html));
+    }
+
+    @Test
+    void dropsScriptAndStyleContent() {
+        String html = "<div class=\"JobDescription_JobDescription__paragraph\">"
+                + "<style>.wds-h4ga6o{color:#333;} li > a{display:none}</style>"
+                + "<span>혜택 및 복지<br>• 점심/저녁 식대 지원</span>"
+                + "<SCRIPT type=\"text/javascript\">if (a < b && c > d) { window.dataLayer.push('<li>'); }</SCRIPT>"
+                + "<span>• 연 1회 건강검진</span>"
+                + "<script>self.__next_f.push([1, \"unterminated\"])"
+                + "</div>";
+
+        assertEquals("혜택 및 복지\n• 점심/저녁 식대 지원• 연 1회 건강검진", HtmlTextConverter.toText(html));
+    }
+
+    @Test
+    void trimsAndAppendsAfterExistingText() {
+        StringBuilder out = new StringBuilder("주요업무\n\n");
+
+        HtmlTextConverter.appendText("  <br><span>  결제 서버 개발 </span>\n ", out);
+
+        assertEquals("주요업무\n\n결제 서버 개발", out.toString());
+    }
+}
@@ -0,0 +1,79 @@
+package com.jobbridge.jobbridge_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 재시도 예산 적립/소진 (시계를 직접 움직인다)
+ */
+class RetryBudgetTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final RetryBudget budget = new RetryBudget(0.2, 1, 10, clock::get);
+
+    @Test
+    void startsFullAndRunsOutAfterCapacityRetries() {
+        for (int i = 0; i < 10; i++) {
+            assertTrue(budget.tryRetry(), "재시도 " + i);
+        }
+
+        assertFalse(budget.tryRetry());
+    }
+
+    @Test
+    void firstAttemptsEarnRatioPerCall() {
+        exhaust();
+
+        for (int i = 0; i < 4; i++) {
+            budget.onCall();
+        }
+        assertFalse(budget.tryRetry());
+
+        // 5건 x 0.2 = 재시도 1회
+        budget.onCall();
+        assertTrue(budget.tryRetry());
+        assertFalse(budget.tryRetry());
+    }
+
+    @Test
+    void refillsAtMinPerSecondWithoutTraffic() {
+        exhaust();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertFalse(budget.tryRetry());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertTrue(budget.tryRetry());
+        assertFalse(budget.tryRetry());
+
+        // 3초면 3회
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(3));
+        assertTrue(budget.tryRetry());
+        assertTrue(budget.tryRetry());
+        assertTrue(budget.tryRetry());
+        assertFalse(budget.tryRetry());
+    }
+
+    @Test
+    void neverExceedsCapacity() {
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(10));
+        for (int i = 0; i < 100; i++) {
+            budget.onCall();
+        }
+
+        assertEquals(10, budget.available(), 1e-9);
+    }
+
+    private void exhaust() {
+        while (budget.tryRetry()) {
+            // 비운다
+        }
+        assertTrue(budget.available() < 1);
+    }
+}